@@ -0,0 +1,87 @@
+package io.github.syphen.benchmarks;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.benchmarks.model.BenchmarkFixtures;
+import io.github.syphen.benchmarks.model.BenchmarkPojo;
+import io.github.syphen.benchmarks.operator.BenchmarkMaskOperator;
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.plan.PlanCompiler;
+import io.github.syphen.engine.processor.impl.JsonArrayProcessor;
+import io.github.syphen.engine.processor.impl.JsonObjectProcessor;
+import io.github.syphen.engine.strategy.impl.DirectValueTransformationStrategy;
+import io.github.syphen.engine.strategy.impl.NestedNodeTransformationStrategy;
+import io.github.syphen.factory.OperatorRegistry;
+import io.github.syphen.factory.ProcessorSelector;
+import io.github.syphen.factory.StrategySelector;
+import io.github.syphen.utils.MapperUtil;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link JsonObjectProcessor} executing a node plan compiled once in the setup, without the plan
+ * cache lookup and instrumentation of the {@code Transformer}. The operator is idempotent, so the
+ * same tree is transformed on every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonObjectProcessorBenchmark {
+
+  @Param({"1", "4", "16"})
+  int width;
+
+  @Param({"1", "4"})
+  int depth;
+
+  @Param({"0", "16", "256"})
+  int arraySize;
+
+  private JsonObjectProcessor jsonObjectProcessor;
+  private ObjectNode node;
+  private NodePlan nodePlan;
+
+  @Setup
+  public void setUp() {
+    PojoSchemaCache pojoSchemaCache = new PojoSchemaCache();
+    NestedNodeTransformationStrategy nestedNodeTransformationStrategy =
+        new NestedNodeTransformationStrategy();
+    StrategySelector strategySelector = new StrategySelector(
+        new DirectValueTransformationStrategy(new OperatorRegistry(
+            Map.of(BenchmarkMaskOperator.KEY, new BenchmarkMaskOperator()))),
+        nestedNodeTransformationStrategy);
+    JsonArrayProcessor jsonArrayProcessor = new JsonArrayProcessor();
+    jsonObjectProcessor = new JsonObjectProcessor();
+    NodeTransformer nodeTransformer = new NodeTransformer(
+        new ProcessorSelector(jsonArrayProcessor, jsonObjectProcessor));
+    jsonArrayProcessor.setNodeTransformer(nodeTransformer);
+    nestedNodeTransformationStrategy.setNodeTransformer(nodeTransformer);
+
+    node = MapperUtil.getObjectMapper()
+        .valueToTree(BenchmarkFixtures.pojo(width, depth, arraySize));
+    nodePlan = new PlanCompiler(pojoSchemaCache, strategySelector)
+        .compile(BenchmarkPojo.class, BenchmarkFixtures.context(width, depth, arraySize))
+        .getRootPlan();
+  }
+
+  @Benchmark
+  public ObjectNode transform() {
+    jsonObjectProcessor.transform(node, nodePlan);
+    return node;
+  }
+}
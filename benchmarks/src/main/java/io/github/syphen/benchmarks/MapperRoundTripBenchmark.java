@@ -0,0 +1,67 @@
+package io.github.syphen.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.syphen.benchmarks.model.BenchmarkFixtures;
+import io.github.syphen.benchmarks.model.BenchmarkPojo;
+import io.github.syphen.utils.MapperUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code valueToTree} and {@code convertValue} round trip of the tree engine through the
+ * shared {@link MapperUtil} mapper, without any transformation in between.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperRoundTripBenchmark {
+
+  @Param({"1", "4", "16"})
+  int width;
+
+  @Param({"1", "4"})
+  int depth;
+
+  @Param({"0", "16", "256"})
+  int arraySize;
+
+  private ObjectMapper objectMapper;
+  private BenchmarkPojo pojo;
+  private JsonNode tree;
+
+  @Setup
+  public void setUp() {
+    objectMapper = MapperUtil.getObjectMapper();
+    pojo = BenchmarkFixtures.pojo(width, depth, arraySize);
+    tree = objectMapper.valueToTree(pojo);
+  }
+
+  @Benchmark
+  public JsonNode valueToTree() {
+    return objectMapper.valueToTree(pojo);
+  }
+
+  @Benchmark
+  public BenchmarkPojo convertValue() {
+    return objectMapper.convertValue(tree, BenchmarkPojo.class);
+  }
+
+  @Benchmark
+  public BenchmarkPojo roundTrip() {
+    return objectMapper.convertValue(objectMapper.valueToTree(pojo), BenchmarkPojo.class);
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.syphen.benchmarks;
+
+import io.github.syphen.benchmarks.operator.BenchmarkMaskOperator;
+import io.github.syphen.factory.OperatorRegistry;
+import io.github.syphen.operator.BaseOperator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link OperatorRegistry#getOperator} lookups in registries of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperatorRegistryBenchmark {
+
+  @Param({"1", "16", "256"})
+  int operators;
+
+  private OperatorRegistry operatorRegistry;
+  private String key;
+
+  @Setup
+  public void setUp() {
+    Map<String, BaseOperator> registeredOperators = new HashMap<>();
+    for (int i = 0; i < operators; i++) {
+      registeredOperators.put(BenchmarkMaskOperator.KEY + "-" + i, new BenchmarkMaskOperator());
+    }
+    operatorRegistry = new OperatorRegistry(registeredOperators);
+    key = new String(BenchmarkMaskOperator.KEY + "-" + (operators - 1));
+  }
+
+  @Benchmark
+  public BaseOperator getOperator() {
+    return operatorRegistry.getOperator(key);
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.syphen.benchmarks;
+
+import io.github.syphen.benchmarks.model.BenchmarkPojo;
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.utils.CommonUtil;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link PojoSchemaCache#get} on a warm cache, against inspecting the class on every call as a
+ * cache miss does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PojoSchemaCacheBenchmark {
+
+  private PojoSchemaCache pojoSchemaCache;
+
+  @Setup
+  public void setUp() {
+    pojoSchemaCache = new PojoSchemaCache();
+    pojoSchemaCache.get(BenchmarkPojo.class);
+  }
+
+  @Benchmark
+  public Map<String, FieldTypeDescriptor> get() {
+    return pojoSchemaCache.get(BenchmarkPojo.class);
+  }
+
+  @Benchmark
+  public Map<String, FieldTypeDescriptor> inspectClass() {
+    return CommonUtil.inspectClass(BenchmarkPojo.class);
+  }
+}
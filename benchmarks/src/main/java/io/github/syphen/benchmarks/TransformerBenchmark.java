@@ -0,0 +1,68 @@
+package io.github.syphen.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.benchmarks.model.BenchmarkFixtures;
+import io.github.syphen.benchmarks.model.BenchmarkPojo;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.model.TransformationContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end cost of {@link Transformer#transform} and {@link Transformer#buildTransformedJsonNode}
+ * with a warm plan cache. Other engines are measured with {@code -p engineType=ACCESSOR}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformerBenchmark {
+
+  @Param({"1", "4", "16"})
+  int width;
+
+  @Param({"1", "4"})
+  int depth;
+
+  @Param({"0", "16", "256"})
+  int arraySize;
+
+  @Param({"TREE"})
+  TransformationEngineType engineType;
+
+  private Transformer transformer;
+  private BenchmarkPojo pojo;
+  private TransformationContext context;
+
+  @Setup
+  public void setUp() {
+    transformer = new TransformerFactory(BenchmarkFixtures.transformerConfig(engineType))
+        .getTransformer();
+    pojo = BenchmarkFixtures.pojo(width, depth, arraySize);
+    context = BenchmarkFixtures.context(width, depth, arraySize);
+  }
+
+  @Benchmark
+  public BenchmarkPojo transform() {
+    return transformer.transform(pojo, context);
+  }
+
+  @Benchmark
+  public JsonNode buildTransformedJsonNode() {
+    return transformer.buildTransformedJsonNode(pojo, context);
+  }
+}
@@ -0,0 +1,43 @@
+package io.github.syphen.benchmarks.load;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Types of the scalar fields of the synthetic POJOs.
+ */
+public enum FieldKind {
+
+  STRING(String.class, "Ljava/lang/String;", random -> "value-" + random.nextInt(1_000_000)),
+  INT(int.class, "I", Random::nextInt),
+  LONG(long.class, "J", Random::nextLong),
+  DOUBLE(double.class, "D", Random::nextDouble),
+  BOOLEAN(boolean.class, "Z", Random::nextBoolean);
+
+  private final Class<?> type;
+  private final String descriptor;
+  private final Function<Random, Object> valueGenerator;
+
+  FieldKind(Class<?> type, String descriptor, Function<Random, Object> valueGenerator) {
+    this.type = type;
+    this.descriptor = descriptor;
+    this.valueGenerator = valueGenerator;
+  }
+
+  public Class<?> getType() {
+    return type;
+  }
+
+  String getDescriptor() {
+    return descriptor;
+  }
+
+  Object randomValue(Random random) {
+    return valueGenerator.apply(random);
+  }
+
+  public static FieldKind parse(String value) {
+    return valueOf(value.trim().toUpperCase(Locale.ROOT));
+  }
+}
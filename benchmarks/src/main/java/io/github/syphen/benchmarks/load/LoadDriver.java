@@ -0,0 +1,216 @@
+package io.github.syphen.benchmarks.load;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.benchmarks.load.SyntheticPojoGenerator.SyntheticModel;
+import io.github.syphen.benchmarks.model.BenchmarkFixtures;
+import io.github.syphen.benchmarks.operator.BenchmarkMaskOperator;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.model.TransformationContext;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Multi-threaded load driver: transforms synthetic object graphs from 1..N threads sharing one
+ * {@link Transformer}, and reports throughput, latency percentiles and allocation rate for every
+ * thread count. Unlike the JMH benchmarks it shows how the shared parts of the pipeline, like the
+ * caches and the static object mapper, behave under contention.
+ * <p>
+ * Options, all optional, given as {@code --name=value}:
+ * </p>
+ * <ul>
+ *   <li>{@code threads}: comma separated thread counts, default {@code 1,2,4,<processors>}</li>
+ *   <li>{@code width}, {@code depth}, {@code collection-size}: shape of the graphs, see
+ *   {@link SyntheticShape}, default {@code 16}, {@code 3} and {@code 4}</li>
+ *   <li>{@code field-types}: comma separated {@link FieldKind}s, default all of them</li>
+ *   <li>{@code engine}: {@link TransformationEngineType}, default {@code TREE}</li>
+ *   <li>{@code warmup}, {@code duration}: seconds of warmup and measurement per thread count,
+ *   default {@code 5} and {@code 10}</li>
+ *   <li>{@code graphs}: distinct graphs transformed round robin by every thread, default
+ *   {@code 64}</li>
+ * </ul>
+ */
+public final class LoadDriver {
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private final Transformer transformer;
+  private final SyntheticModel model;
+  private final TransformationContext context;
+  private final int graphs;
+
+  private LoadDriver(Transformer transformer, SyntheticModel model, int graphs) {
+    this.transformer = transformer;
+    this.model = model;
+    this.context = model.newContext(BenchmarkMaskOperator.KEY);
+    this.graphs = graphs;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parseOptions(args);
+    int processors = Runtime.getRuntime().availableProcessors();
+    int[] threadCounts = Arrays.stream(options.getOrDefault("threads",
+            "1,2,4," + processors).split(","))
+        .mapToInt(value -> Integer.parseInt(value.trim())).distinct().sorted().toArray();
+    SyntheticShape shape = new SyntheticShape(
+        Integer.parseInt(options.getOrDefault("width", "16")),
+        Integer.parseInt(options.getOrDefault("depth", "3")),
+        Integer.parseInt(options.getOrDefault("collection-size", "4")),
+        Arrays.stream(options.getOrDefault("field-types", "string,int,long,double,boolean")
+            .split(",")).map(FieldKind::parse).toList());
+    TransformationEngineType engineType = TransformationEngineType.valueOf(
+        options.getOrDefault("engine", "TREE").toUpperCase(Locale.ROOT));
+    long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "5"));
+    long durationSeconds = Long.parseLong(options.getOrDefault("duration", "10"));
+    int graphs = Integer.parseInt(options.getOrDefault("graphs", "64"));
+
+    Transformer transformer = new TransformerFactory(
+        BenchmarkFixtures.transformerConfig(engineType)).getTransformer();
+    LoadDriver driver = new LoadDriver(transformer, SyntheticPojoGenerator.generate(shape),
+        graphs);
+
+    System.out.printf("Shape: %s (%d objects per graph), engine=%s%n", shape,
+        shape.objectsPerGraph(), engineType);
+    System.out.printf("%8s %14s %10s %10s %10s %10s %12s %12s%n", "threads", "ops/s",
+        "p50 us", "p99 us", "p999 us", "max us", "alloc MB/s", "alloc B/op");
+    for (int threads : threadCounts) {
+      LoadResult result = driver.run(threads, TimeUnit.SECONDS.toNanos(warmupSeconds),
+          TimeUnit.SECONDS.toNanos(durationSeconds));
+      System.out.printf("%8d %14.0f %10.1f %10.1f %10.1f %10.1f %12.1f %12.0f%n", threads,
+          result.throughput(), result.percentileMicros(50), result.percentileMicros(99),
+          result.percentileMicros(99.9), result.maxMicros(), result.allocationRate() / 1e6,
+          result.allocationPerOperation());
+    }
+  }
+
+  /**
+   * Runs the load from {@code threads} threads: all threads warm up together, then measure
+   * together for the same period.
+   */
+  LoadResult run(int threads, long warmupNanos, long durationNanos)
+      throws InterruptedException, ExecutionException {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch ready = new CountDownLatch(threads);
+      CountDownLatch start = new CountDownLatch(1);
+      long[] deadlines = new long[2];
+      List<Future<ThreadResult>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        Object[] inputs = newInputs(new Random(i));
+        futures.add(executor.submit(() -> {
+          ready.countDown();
+          start.await();
+          return runThread(inputs, deadlines[0], deadlines[1]);
+        }));
+      }
+      ready.await();
+      deadlines[0] = System.nanoTime() + warmupNanos;
+      deadlines[1] = deadlines[0] + durationNanos;
+      start.countDown();
+      Histogram histogram = new Histogram(3);
+      long allocatedBytes = 0;
+      for (Future<ThreadResult> future : futures) {
+        ThreadResult result = future.get();
+        histogram.add(result.histogram());
+        allocatedBytes += result.allocatedBytes();
+      }
+      return new LoadResult(histogram, allocatedBytes, durationNanos);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Object[] newInputs(Random random) {
+    Object[] inputs = new Object[graphs];
+    for (int i = 0; i < graphs; i++) {
+      inputs[i] = model.newGraph(random);
+    }
+    return inputs;
+  }
+
+  private ThreadResult runThread(Object[] inputs, long warmupDeadline, long deadline) {
+    int index = 0;
+    while (System.nanoTime() < warmupDeadline) {
+      consume(transformer.transform(inputs[index++ % inputs.length], context));
+    }
+    Histogram histogram = new Histogram(3);
+    long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    long now = System.nanoTime();
+    while (now < deadline) {
+      Object result = transformer.transform(inputs[index++ % inputs.length], context);
+      long end = System.nanoTime();
+      histogram.recordValue(end - now);
+      consume(result);
+      now = end;
+    }
+    long allocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    return new ThreadResult(histogram, allocatedBytes);
+  }
+
+  private static void consume(Object result) {
+    if (result == null) {
+      throw new IllegalStateException("Transformation returned null");
+    }
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      int separator = arg.indexOf('=');
+      options.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    return options;
+  }
+
+  private record ThreadResult(Histogram histogram, long allocatedBytes) {
+
+  }
+
+  /**
+   * Outcome of one thread count.
+   *
+   * @param histogram      latencies of all threads in nanoseconds
+   * @param allocatedBytes bytes allocated by all threads while measuring
+   * @param durationNanos  length of the measurement
+   */
+  record LoadResult(Histogram histogram, long allocatedBytes, long durationNanos) {
+
+    double throughput() {
+      return histogram.getTotalCount() * 1e9 / durationNanos;
+    }
+
+    double percentileMicros(double percentile) {
+      return histogram.getValueAtPercentile(percentile) / 1e3;
+    }
+
+    double maxMicros() {
+      return histogram.getMaxValue() / 1e3;
+    }
+
+    double allocationRate() {
+      return allocatedBytes * 1e9 / durationNanos;
+    }
+
+    double allocationPerOperation() {
+      return histogram.getTotalCount() == 0 ? 0 : (double) allocatedBytes
+          / histogram.getTotalCount();
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package io.github.syphen.benchmarks.load;
+
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Generates POJO classes of a given {@link SyntheticShape} at runtime, object graphs of these
+ * classes with random values, and a context targeting every field of the graph.
+ * <p>
+ * Level {@code i} of the shape is a class {@code Level<i>} with public fields {@code f00},
+ * {@code f01}, ... of the configured kinds, and unless it is the leaf level a {@code child} field
+ * and a {@code children} list of the next level. Every call to {@link #generate} defines the
+ * classes in a new class loader, so each shape gets classes of its own, like distinct DTOs of
+ * an application.
+ * </p>
+ */
+public final class SyntheticPojoGenerator {
+
+  private static final String PACKAGE = "io/github/syphen/benchmarks/load/generated/";
+
+  private SyntheticPojoGenerator() {}
+
+  /**
+   * Defines the classes of the shape.
+   *
+   * @param shape shape of the graph
+   * @return the generated model
+   */
+  public static SyntheticModel generate(SyntheticShape shape) {
+    GeneratedClassLoader classLoader = new GeneratedClassLoader(
+        SyntheticPojoGenerator.class.getClassLoader());
+    List<Class<?>> levels = new ArrayList<>();
+    for (int level = shape.depth() - 1; level >= 0; level--) {
+      String internalName = PACKAGE + "Level" + level;
+      levels.add(0, classLoader.define(internalName.replace('/', '.'),
+          generateClass(shape, internalName, level < shape.depth() - 1
+              ? PACKAGE + "Level" + (level + 1) : null)));
+    }
+    return new SyntheticModel(shape, levels);
+  }
+
+  private static byte[] generateClass(SyntheticShape shape, String internalName,
+      String childName) {
+    ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+    writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null,
+        "java/lang/Object", null);
+    for (int i = 0; i < shape.width(); i++) {
+      FieldKind kind = fieldKind(shape, i);
+      writer.visitField(Opcodes.ACC_PUBLIC, fieldName(i), kind.getDescriptor(), null, null)
+          .visitEnd();
+    }
+    if (childName != null) {
+      writer.visitField(Opcodes.ACC_PUBLIC, "child", "L" + childName + ";", null, null)
+          .visitEnd();
+      writer.visitField(Opcodes.ACC_PUBLIC, "children", "Ljava/util/List;",
+          "Ljava/util/List<L" + childName + ";>;", null).visitEnd();
+    }
+    MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null,
+        null);
+    constructor.visitCode();
+    constructor.visitVarInsn(Opcodes.ALOAD, 0);
+    constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V",
+        false);
+    constructor.visitInsn(Opcodes.RETURN);
+    constructor.visitMaxs(0, 0);
+    constructor.visitEnd();
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+
+  static FieldKind fieldKind(SyntheticShape shape, int index) {
+    return shape.fieldKinds().get(index % shape.fieldKinds().size());
+  }
+
+  static String fieldName(int index) {
+    return String.format("f%02d", index);
+  }
+
+  /**
+   * Classes generated for a shape.
+   */
+  public static final class SyntheticModel {
+
+    private final SyntheticShape shape;
+    private final List<Class<?>> levels;
+
+    private SyntheticModel(SyntheticShape shape, List<Class<?>> levels) {
+      this.shape = shape;
+      this.levels = List.copyOf(levels);
+    }
+
+    public Class<?> getRootClass() {
+      return levels.get(0);
+    }
+
+    /**
+     * Creates a graph with random values.
+     *
+     * @param random source of the values
+     * @return the root object of the graph
+     */
+    public Object newGraph(Random random) {
+      try {
+        return newObject(0, random);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    /**
+     * Creates a context transforming every field of the graph with the given operator.
+     *
+     * @param operatorType key of the operator
+     * @return the context
+     */
+    public TransformationContext newContext(String operatorType) {
+      return TransformationContext.builder()
+          .defaultOperatorType(operatorType)
+          .nodeContext(nodeContext("root", 0))
+          .build();
+    }
+
+    private Object newObject(int level, Random random) throws ReflectiveOperationException {
+      Class<?> levelClass = levels.get(level);
+      Object object = levelClass.getConstructor().newInstance();
+      for (int i = 0; i < shape.width(); i++) {
+        levelClass.getField(fieldName(i)).set(object,
+            fieldKind(shape, i).randomValue(random));
+      }
+      if (level < levels.size() - 1) {
+        levelClass.getField("child").set(object, newObject(level + 1, random));
+        List<Object> children = new ArrayList<>(shape.collectionSize());
+        for (int i = 0; i < shape.collectionSize(); i++) {
+          children.add(newObject(level + 1, random));
+        }
+        levelClass.getField("children").set(object, children);
+      }
+      return object;
+    }
+
+    private NodeContext nodeContext(String fieldName, int level) {
+      List<NodeContext> fields = new ArrayList<>();
+      for (Field field : levels.get(level).getFields()) {
+        if (!field.getName().startsWith("child")) {
+          fields.add(NodeContext.builder().fieldName(field.getName()).build());
+        }
+      }
+      if (level < levels.size() - 1) {
+        fields.add(nodeContext("child", level + 1));
+        fields.add(nodeContext("children", level + 1));
+      }
+      return NodeContext.builder()
+          .fieldName(fieldName)
+          .transformFields(fields.toArray(NodeContext[]::new))
+          .build();
+    }
+  }
+
+  private static final class GeneratedClassLoader extends ClassLoader {
+
+    private GeneratedClassLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    private Class<?> define(String name, byte[] bytes) {
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package io.github.syphen.benchmarks.load;
+
+import java.util.List;
+
+/**
+ * Shape of a synthetic POJO graph.
+ *
+ * @param width          number of scalar fields of every class
+ * @param depth          number of nested levels, each level being its own class
+ * @param collectionSize number of elements of the {@code children} list of every non-leaf object
+ * @param fieldKinds     types of the scalar fields, assigned round robin
+ */
+public record SyntheticShape(int width, int depth, int collectionSize,
+    List<FieldKind> fieldKinds) {
+
+  public SyntheticShape {
+    if (width < 1 || depth < 1 || collectionSize < 0 || fieldKinds.isEmpty()) {
+      throw new IllegalArgumentException("Invalid shape " + width + "x" + depth + "x"
+          + collectionSize + " " + fieldKinds);
+    }
+    fieldKinds = List.copyOf(fieldKinds);
+  }
+
+  /**
+   * Number of objects in one graph: every non-leaf object has one {@code child} and
+   * {@code collectionSize} {@code children}.
+   */
+  public long objectsPerGraph() {
+    long objects = 0;
+    long level = 1;
+    for (int i = 0; i < depth; i++) {
+      objects += level;
+      level *= collectionSize + 1;
+    }
+    return objects;
+  }
+
+  @Override
+  public String toString() {
+    return "width=" + width + " depth=" + depth + " collectionSize=" + collectionSize
+        + " fieldKinds=" + fieldKinds;
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.syphen.benchmarks.model;
+
+import io.github.syphen.benchmarks.operator.BenchmarkMaskOperator;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the objects and contexts of the benchmarks for a given shape.
+ * <ul>
+ *   <li>width: number of string fields populated and targeted on every object</li>
+ *   <li>depth: number of objects in the chain of nested {@code child} objects</li>
+ *   <li>array size: number of elements of the root {@code items} list</li>
+ * </ul>
+ */
+public final class BenchmarkFixtures {
+
+  public static final int MAX_WIDTH = 16;
+  public static final String OPERATOR_PACKAGE = "io.github.syphen.benchmarks.operator";
+
+  private BenchmarkFixtures() {}
+
+  public static TransformerConfig transformerConfig(TransformationEngineType engineType) {
+    return TransformerConfig.builder()
+        .operatorPackages(List.of(OPERATOR_PACKAGE))
+        .engineType(engineType)
+        .build();
+  }
+
+  public static BenchmarkPojo pojo(int width, int depth, int arraySize) {
+    BenchmarkPojo pojo = leaf(width, 0);
+    BenchmarkPojo current = pojo;
+    for (int level = 1; level < depth; level++) {
+      current.child = leaf(width, level);
+      current = current.child;
+    }
+    pojo.items = new ArrayList<>(arraySize);
+    for (int i = 0; i < arraySize; i++) {
+      pojo.items.add(leaf(width, i));
+    }
+    return pojo;
+  }
+
+  public static TransformationContext context(int width, int depth, int arraySize) {
+    return TransformationContext.builder()
+        .defaultOperatorType(BenchmarkMaskOperator.KEY)
+        .nodeContext(nodeContext("root", width, depth, arraySize > 0))
+        .build();
+  }
+
+  private static NodeContext nodeContext(String fieldName, int width, int depth,
+      boolean items) {
+    List<NodeContext> fields = new ArrayList<>();
+    for (int i = 0; i < width; i++) {
+      fields.add(NodeContext.builder().fieldName(fieldName(i)).build());
+    }
+    if (depth > 1) {
+      fields.add(nodeContext("child", width, depth - 1, false));
+    }
+    if (items) {
+      fields.add(nodeContext("items", width, 1, false));
+    }
+    return NodeContext.builder()
+        .fieldName(fieldName)
+        .transformFields(fields.toArray(NodeContext[]::new))
+        .build();
+  }
+
+  private static BenchmarkPojo leaf(int width, int number) {
+    if (width < 0 || width > MAX_WIDTH) {
+      throw new IllegalArgumentException("width must be between 0 and " + MAX_WIDTH);
+    }
+    BenchmarkPojo pojo = new BenchmarkPojo();
+    pojo.number = number;
+    for (int i = 0; i < width; i++) {
+      setField(pojo, i, "value-" + i);
+    }
+    return pojo;
+  }
+
+  public static String fieldName(int index) {
+    return String.format("f%02d", index);
+  }
+
+  private static void setField(BenchmarkPojo pojo, int index, String value) {
+    try {
+      BenchmarkPojo.class.getField(fieldName(index)).set(pojo, value);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package io.github.syphen.benchmarks.model;
+
+import java.util.List;
+
+/**
+ * POJO of the benchmarks: {@link BenchmarkFixtures#MAX_WIDTH} string fields, a nested object for
+ * depth and a list for array size.
+ */
+public class BenchmarkPojo {
+
+  public String f00;
+  public String f01;
+  public String f02;
+  public String f03;
+  public String f04;
+  public String f05;
+  public String f06;
+  public String f07;
+  public String f08;
+  public String f09;
+  public String f10;
+  public String f11;
+  public String f12;
+  public String f13;
+  public String f14;
+  public String f15;
+  public int number;
+  public BenchmarkPojo child;
+  public List<BenchmarkPojo> items;
+}
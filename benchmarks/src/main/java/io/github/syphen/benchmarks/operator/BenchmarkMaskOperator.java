@@ -0,0 +1,23 @@
+package io.github.syphen.benchmarks.operator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.github.syphen.annotation.RegisterOperator;
+import io.github.syphen.operator.BaseOperator;
+
+/**
+ * Cheap operator, so the benchmarks measure the pipeline rather than the operator. Strings are
+ * masked and any other value is returned as is.
+ */
+@RegisterOperator(BenchmarkMaskOperator.KEY)
+public class BenchmarkMaskOperator extends BaseOperator {
+
+  public static final String KEY = "benchmark-mask";
+
+  private static final TextNode MASK = TextNode.valueOf("***");
+
+  @Override
+  public JsonNode apply(JsonNode input, Class<?> inputClass) {
+    return inputClass == String.class && input != null && !input.isNull() ? MASK : input;
+  }
+}
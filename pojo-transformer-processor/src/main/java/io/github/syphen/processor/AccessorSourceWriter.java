@@ -0,0 +1,111 @@
+package io.github.syphen.processor;
+
+import java.util.List;
+
+/**
+ * Renders the source of the {@code CompiledPojoAccessor} generated for a {@link PojoModel}. Every
+ * type is written with its qualified name so the generated code cannot clash with names in the
+ * POJO's package.
+ */
+class AccessorSourceWriter {
+
+  private static final String COMPILED_FIELD = "io.github.syphen.engine.accessor.CompiledField";
+  private static final String COMPILED_POJO_ACCESSOR =
+      "io.github.syphen.engine.accessor.CompiledPojoAccessor";
+
+  private final StringBuilder source = new StringBuilder();
+
+  String write(PojoModel model) {
+    final String pojo = model.pojoTypeName();
+    final List<FieldModel> fields = model.fields();
+    if (!model.packageName().isEmpty()) {
+      line("package " + model.packageName() + ";").line("");
+    }
+    line("@javax.annotation.processing.Generated(\""
+        + TransformableProcessor.class.getName() + "\")");
+    line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+    line("public final class " + model.accessorSimpleName());
+    line("    implements " + COMPILED_POJO_ACCESSOR + "<" + pojo + "> {").line("");
+
+    line("  private static final java.util.List<" + COMPILED_FIELD + "> FIELDS =");
+    line("      java.util.List.of(");
+    for (int i = 0; i < fields.size(); i++) {
+      FieldModel field = fields.get(i);
+      line("          new " + COMPILED_FIELD + "(\"" + field.name() + "\", "
+          + field.typeLiteral() + ", " + field.genericTypeLiteral() + ", \""
+          + field.canonicalType() + "\", " + field.declaringTypeName() + ".class, "
+          + field.modifiers() + ")" + (i < fields.size() - 1 ? "," : ""));
+    }
+    line("      );").line("");
+
+    line("  @Override");
+    line("  public java.lang.Class<" + pojo + "> getPojoClass() {");
+    line("    return " + pojo + ".class;");
+    line("  }").line("");
+
+    line("  @Override");
+    line("  public java.util.List<" + COMPILED_FIELD + "> getFields() {");
+    line("    return FIELDS;");
+    line("  }").line("");
+
+    line("  @Override");
+    line("  public " + pojo + " newInstance() {");
+    line("    return new " + pojo + "();");
+    line("  }").line("");
+
+    line("  @Override");
+    line("  public " + pojo + " copy(" + pojo + " source) {");
+    line("    " + pojo + " copy = new " + pojo + "();");
+    for (FieldModel field : fields) {
+      if (!field.isStatic()) {
+        line("    " + field.writeStatement("copy", field.readExpression("source")));
+      }
+    }
+    line("    return copy;");
+    line("  }").line("");
+
+    line("  @Override");
+    line("  public java.lang.Object get(" + pojo + " target, int fieldIndex) {");
+    line("    switch (fieldIndex) {");
+    for (int i = 0; i < fields.size(); i++) {
+      FieldModel field = fields.get(i);
+      if (!field.isStatic()) {
+        line("      case " + i + ":");
+        line("        return " + field.readExpression("target") + ";");
+      }
+    }
+    line("      default:");
+    line("        throw noInstanceField(fieldIndex);");
+    line("    }");
+    line("  }").line("");
+
+    line("  @Override");
+    line("  public void set(" + pojo + " target, int fieldIndex, java.lang.Object value) {");
+    line("    switch (fieldIndex) {");
+    for (int i = 0; i < fields.size(); i++) {
+      FieldModel field = fields.get(i);
+      if (!field.isStatic()) {
+        line("      case " + i + ":");
+        line("        " + field.writeStatement("target",
+            "(" + field.castTypeName() + ") value"));
+        line("        return;");
+      }
+    }
+    line("      default:");
+    line("        throw noInstanceField(fieldIndex);");
+    line("    }");
+    line("  }").line("");
+
+    line("  private static java.lang.IllegalArgumentException noInstanceField(int fieldIndex) {");
+    line("    return new java.lang.IllegalArgumentException(");
+    line("        \"No instance field at index \" + fieldIndex + \" of " + pojo + "\");");
+    line("  }");
+    line("}");
+    return source.toString();
+  }
+
+  private AccessorSourceWriter line(String line) {
+    source.append(line).append('\n');
+    return this;
+  }
+}
@@ -0,0 +1,42 @@
+package io.github.syphen.processor;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * A declared field of a {@code @Transformable} POJO and how the generated code reaches it.
+ *
+ * @param name                name of the field
+ * @param castTypeName        erased type of the field in source form, boxed for primitives
+ * @param typeLiteral         class literal of the erased field type
+ * @param genericTypeLiteral  class literal of the collection element class, or {@code null}
+ * @param canonicalType       generic type in the canonical form parsed by Jackson
+ * @param declaringTypeName   canonical name of the declaring class
+ * @param modifiers           modifiers, using the {@link Modifier} bit values
+ * @param getter              name of the getter to read the field with, or {@code null} to read
+ *                            the field directly
+ * @param setter              name of the setter to write the field with, or {@code null} to
+ *                            write the field directly
+ * @param ownerCast           whether direct access needs a cast to the declaring class, because
+ *                            the field is shadowed or declared in a super class
+ */
+record FieldModel(String name, String castTypeName, String typeLiteral, String genericTypeLiteral,
+    String canonicalType, String declaringTypeName, int modifiers, String getter, String setter,
+    boolean ownerCast) {
+
+  boolean isStatic() {
+    return Modifier.isStatic(modifiers);
+  }
+
+  String readExpression(String target) {
+    return getter != null ? target + "." + getter + "()" : owner(target) + "." + name;
+  }
+
+  String writeStatement(String target, String value) {
+    return setter != null ? target + "." + setter + "(" + value + ");"
+        : owner(target) + "." + name + " = " + value + ";";
+  }
+
+  private String owner(String target) {
+    return ownerCast ? "((" + declaringTypeName + ") " + target + ")" : target;
+  }
+}
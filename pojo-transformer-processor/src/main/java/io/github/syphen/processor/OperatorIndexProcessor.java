@@ -0,0 +1,90 @@
+package io.github.syphen.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes the binary names of all classes annotated with
+ * {@code io.github.syphen.annotation.RegisterOperator} to the
+ * {@code META-INF/pojo-transformer/operators} resource, one per line.
+ * <p>
+ * The {@code TransformerFactory} loads operators from these indexes instead of scanning the
+ * classpath. The index only lists the classes of one compilation, so incremental builds that
+ * compile a subset of the sources need a clean build to list every operator again. Classes that
+ * cannot be registered are reported as compilation errors.
+ * </p>
+ */
+@SupportedAnnotationTypes(OperatorIndexProcessor.REGISTER_OPERATOR)
+public class OperatorIndexProcessor extends AbstractProcessor {
+
+  static final String REGISTER_OPERATOR = "io.github.syphen.annotation.RegisterOperator";
+  static final String BASE_OPERATOR = "io.github.syphen.operator.BaseOperator";
+  static final String INDEX_RESOURCE = "META-INF/pojo-transformer/operators";
+
+  private final Set<String> operators = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        String error = validate(element);
+        if (error != null) {
+          processingEnv.getMessager().printMessage(Kind.ERROR, "@RegisterOperator " + error,
+              element);
+        } else {
+          operators.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element)
+              .toString());
+        }
+      }
+    }
+    if (roundEnv.processingOver() && !operators.isEmpty()) {
+      write();
+    }
+    return true;
+  }
+
+  private String validate(Element element) {
+    if (element.getKind() != ElementKind.CLASS) {
+      return "is only supported on classes";
+    }
+    if (element.getModifiers().contains(Modifier.ABSTRACT)) {
+      return "classes cannot be abstract";
+    }
+    TypeElement baseOperator = processingEnv.getElementUtils().getTypeElement(BASE_OPERATOR);
+    if (baseOperator != null && !processingEnv.getTypeUtils().isAssignable(element.asType(),
+        processingEnv.getTypeUtils().erasure(baseOperator.asType()))) {
+      return "classes must extend " + BASE_OPERATOR;
+    }
+    return null;
+  }
+
+  private void write() {
+    try (Writer writer = processingEnv.getFiler()
+        .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE).openWriter()) {
+      for (String operator : operators) {
+        writer.write(operator);
+        writer.write('\n');
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR,
+          "Failed to write " + INDEX_RESOURCE + ": " + e.getMessage());
+    }
+  }
+}
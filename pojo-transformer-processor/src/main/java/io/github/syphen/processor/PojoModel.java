@@ -0,0 +1,20 @@
+package io.github.syphen.processor;
+
+import java.util.List;
+
+/**
+ * What the {@link AccessorSourceWriter} needs to know about a {@code @Transformable} POJO.
+ *
+ * @param packageName         package of the POJO, empty for the default package
+ * @param accessorSimpleName  simple name of the generated class
+ * @param pojoTypeName        canonical name of the POJO, used in source code
+ * @param fields              every declared field of the POJO and its super classes, super
+ *                            classes first
+ */
+record PojoModel(String packageName, String accessorSimpleName, String pojoTypeName,
+    List<FieldModel> fields) {
+
+  String accessorQualifiedName() {
+    return packageName.isEmpty() ? accessorSimpleName : packageName + "." + accessorSimpleName;
+  }
+}
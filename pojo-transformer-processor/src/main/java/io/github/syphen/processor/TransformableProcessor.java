@@ -0,0 +1,379 @@
+package io.github.syphen.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates a {@code CompiledPojoAccessor} for every class annotated with
+ * {@code io.github.syphen.annotation.Transformable}.
+ * <p>
+ * The generated class is named after the POJO's binary name followed by {@code $$PojoAccessor} and
+ * is placed in the POJO's package. Fields are read and written directly when they are visible from
+ * that package and through their getters and setters otherwise, so private fields need both. When
+ * Lombok generates those accessors, Lombok has to run before this processor, i.e. come first in
+ * the annotation processor path. Classes the generated code cannot handle are reported as
+ * compilation errors.
+ * </p>
+ */
+@SupportedAnnotationTypes(TransformableProcessor.TRANSFORMABLE)
+public class TransformableProcessor extends AbstractProcessor {
+
+  static final String TRANSFORMABLE = "io.github.syphen.annotation.Transformable";
+  static final String CLASS_NAME_SUFFIX = "$$PojoAccessor";
+
+  private Elements elements;
+  private Types types;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    elements = processingEnv.getElementUtils();
+    types = processingEnv.getTypeUtils();
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        try {
+          write(readPojo(element), element);
+        } catch (InvalidPojoException e) {
+          processingEnv.getMessager().printMessage(Kind.ERROR,
+              "@Transformable " + e.getMessage(), e.element);
+        }
+      }
+    }
+    return true;
+  }
+
+  private void write(PojoModel model, Element element) {
+    try (Writer writer = processingEnv.getFiler()
+        .createSourceFile(model.accessorQualifiedName(), element).openWriter()) {
+      writer.write(new AccessorSourceWriter().write(model));
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR,
+          "Failed to write " + model.accessorQualifiedName() + ": " + e.getMessage(), element);
+    }
+  }
+
+  private PojoModel readPojo(Element element) {
+    if (element.getKind() != ElementKind.CLASS) {
+      throw new InvalidPojoException("is only supported on classes", element);
+    }
+    TypeElement pojo = (TypeElement) element;
+    if (pojo.getModifiers().contains(javax.lang.model.element.Modifier.ABSTRACT)) {
+      throw new InvalidPojoException("classes cannot be abstract", pojo);
+    }
+    if (!pojo.getTypeParameters().isEmpty()) {
+      throw new InvalidPojoException("classes cannot be generic", pojo);
+    }
+    if (pojo.getNestingKind() != NestingKind.TOP_LEVEL
+        && (pojo.getNestingKind() != NestingKind.MEMBER
+        || !isStatic(pojo))) {
+      throw new InvalidPojoException("classes must be top level or static nested classes", pojo);
+    }
+    final String packageName = elements.getPackageOf(pojo).getQualifiedName().toString();
+    if (!isAccessible(pojo, packageName)) {
+      throw new InvalidPojoException("classes cannot be private", pojo);
+    }
+    if (ElementFilter.constructorsIn(pojo.getEnclosedElements()).stream()
+        .noneMatch(constructor -> constructor.getParameters().isEmpty()
+            && isAccessible(constructor, packageName))) {
+      throw new InvalidPojoException("classes need a no-arg constructor that is not private",
+          pojo);
+    }
+    final String binaryName = elements.getBinaryName(pojo).toString();
+    final String accessorSimpleName = binaryName.substring(
+        packageName.isEmpty() ? 0 : packageName.length() + 1) + CLASS_NAME_SUFFIX;
+    return new PojoModel(packageName, accessorSimpleName, pojo.getQualifiedName().toString(),
+        readFields(pojo, packageName));
+  }
+
+  private List<FieldModel> readFields(TypeElement pojo, String packageName) {
+    List<TypeElement> hierarchy = new ArrayList<>();
+    for (TypeElement current = pojo; current != null; current = superclassOf(current)) {
+      hierarchy.add(0, current);
+    }
+    List<VariableElement> declared = hierarchy.stream()
+        .flatMap(type -> ElementFilter.fieldsIn(type.getEnclosedElements()).stream())
+        .toList();
+    Map<String, VariableElement> mostDerived = new HashMap<>();
+    declared.forEach(field -> mostDerived.put(field.getSimpleName().toString(), field));
+    final Map<String, List<ExecutableElement>> methods = ElementFilter
+        .methodsIn(elements.getAllMembers(pojo)).stream()
+        .filter(method -> !isStatic(method) && isAccessible(method, packageName))
+        .collect(Collectors.groupingBy(method -> method.getSimpleName() + "/"
+            + method.getParameters().size()));
+
+    List<FieldModel> fields = new ArrayList<>();
+    for (VariableElement field : declared) {
+      fields.add(readField(pojo, packageName, field,
+          mostDerived.get(field.getSimpleName().toString()) == field, methods));
+    }
+    return fields;
+  }
+
+  private FieldModel readField(TypeElement pojo, String packageName, VariableElement field,
+      boolean mostDerived, Map<String, List<ExecutableElement>> methods) {
+    final String name = field.getSimpleName().toString();
+    final TypeElement declaringClass = (TypeElement) field.getEnclosingElement();
+    final int modifiers = modifiersOf(field);
+    final TypeMirror declaredType = field.asType();
+    final TypeMirror erasure = types.erasure(declaredType);
+    if (!isAccessible(erasure, packageName)) {
+      throw new InvalidPojoException("field '" + name + "' has a type that is not visible from "
+          + "package '" + packageName + "'", field);
+    }
+    final TypeMirror genericType = genericTypeOf(declaredType);
+    if (genericType != null && !isAccessible(genericType, packageName)) {
+      throw new InvalidPojoException("field '" + name + "' has an element type that is not "
+          + "visible from package '" + packageName + "'", field);
+    }
+    String genericTypeLiteral = genericType != null ? types.erasure(genericType) + ".class" : null;
+    String canonicalType = canonicalName(declaredType);
+    String declaringTypeName = declaringClass.getQualifiedName().toString();
+    String castTypeName = erasure.getKind().isPrimitive()
+        ? types.boxedClass((javax.lang.model.type.PrimitiveType) erasure).getQualifiedName()
+        .toString() : erasure.toString();
+    FieldModel direct = new FieldModel(name, castTypeName, erasure + ".class", genericTypeLiteral,
+        canonicalType, declaringTypeName, modifiers, null, null,
+        !mostDerived);
+    if (Modifier.isStatic(modifiers)) {
+      return direct;
+    }
+    if (Modifier.isFinal(modifiers)) {
+      throw new InvalidPojoException("field '" + name + "' cannot be final", field);
+    }
+    if (isAccessible(field, packageName)) {
+      return direct;
+    }
+    final TypeMirror memberType = types.asMemberOf((DeclaredType) pojo.asType(), field);
+    ExecutableElement getter = mostDerived ? findGetter(name, memberType, methods) : null;
+    ExecutableElement setter = mostDerived ? findSetter(name, memberType, methods) : null;
+    if (getter == null || setter == null) {
+      throw new InvalidPojoException("field '" + name + "' of " + declaringTypeName
+          + " is not visible from package '" + packageName + "' and has no visible getter and "
+          + "setter", pojo);
+    }
+    return new FieldModel(name, castTypeName, erasure + ".class", genericTypeLiteral,
+        canonicalType, declaringTypeName, modifiers, getter.getSimpleName().toString(),
+        setter.getSimpleName().toString(), false);
+  }
+
+  private ExecutableElement findGetter(String name, TypeMirror type,
+      Map<String, List<ExecutableElement>> methods) {
+    List<String> candidates = new ArrayList<>();
+    candidates.add("get" + capitalize(name));
+    if (type.getKind() == TypeKind.BOOLEAN) {
+      candidates.add("is" + capitalize(name));
+      if (isBooleanPrefixed(name)) {
+        candidates.add(name);
+      }
+    }
+    return candidates.stream()
+        .flatMap(candidate -> methods.getOrDefault(candidate + "/0", List.of()).stream())
+        .filter(method -> types.isSameType(method.getReturnType(), type))
+        .findFirst().orElse(null);
+  }
+
+  private ExecutableElement findSetter(String name, TypeMirror type,
+      Map<String, List<ExecutableElement>> methods) {
+    List<String> candidates = new ArrayList<>();
+    candidates.add("set" + capitalize(name));
+    if (type.getKind() == TypeKind.BOOLEAN && isBooleanPrefixed(name)) {
+      candidates.add("set" + name.substring(2));
+    }
+    return candidates.stream()
+        .flatMap(candidate -> methods.getOrDefault(candidate + "/1", List.of()).stream())
+        .filter(method -> types.isSameType(method.getParameters().get(0).asType(), type))
+        .findFirst().orElse(null);
+  }
+
+  /**
+   * Mirrors {@code CommonUtil.getGenericClass}: the first type argument of a collection field, if
+   * it is a plain class at runtime.
+   */
+  private TypeMirror genericTypeOf(TypeMirror type) {
+    TypeElement collection = elements.getTypeElement("java.util.Collection");
+    if (type.getKind() != TypeKind.DECLARED
+        || !types.isAssignable(types.erasure(type), types.erasure(collection.asType()))) {
+      return null;
+    }
+    List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+    if (typeArguments.isEmpty() || !isPlainClass(typeArguments.get(0))) {
+      return null;
+    }
+    return typeArguments.get(0);
+  }
+
+  private boolean isPlainClass(TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return true;
+    }
+    if (type.getKind() == TypeKind.ARRAY) {
+      return isPlainClass(((ArrayType) type).getComponentType());
+    }
+    return type.getKind() == TypeKind.DECLARED
+        && ((DeclaredType) type).getTypeArguments().isEmpty();
+  }
+
+  /**
+   * Generic type in the canonical form of Jackson's {@code TypeFactory.constructFromCanonical}:
+   * binary class names, JVM names for arrays and type variables or wildcards replaced by their
+   * bound.
+   */
+  private String canonicalName(TypeMirror type) {
+    switch (type.getKind()) {
+      case ARRAY:
+        return descriptor(types.erasure(type)).replace('/', '.');
+      case DECLARED:
+        DeclaredType declaredType = (DeclaredType) type;
+        String name = elements.getBinaryName((TypeElement) declaredType.asElement()).toString();
+        if (declaredType.getTypeArguments().isEmpty()) {
+          return name;
+        }
+        return name + declaredType.getTypeArguments().stream().map(this::canonicalName)
+            .collect(Collectors.joining(",", "<", ">"));
+      case WILDCARD:
+        TypeMirror bound = ((WildcardType) type).getExtendsBound();
+        return bound != null ? canonicalName(bound) : Object.class.getName();
+      case TYPEVAR:
+        return canonicalName(types.erasure(type));
+      default:
+        return type.toString();
+    }
+  }
+
+  private String descriptor(TypeMirror type) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return "Z";
+      case BYTE:
+        return "B";
+      case CHAR:
+        return "C";
+      case SHORT:
+        return "S";
+      case INT:
+        return "I";
+      case LONG:
+        return "J";
+      case FLOAT:
+        return "F";
+      case DOUBLE:
+        return "D";
+      case ARRAY:
+        return "[" + descriptor(((ArrayType) type).getComponentType());
+      default:
+        return "L" + elements.getBinaryName((TypeElement) types.asElement(type)) + ";";
+    }
+  }
+
+  private boolean isAccessible(TypeMirror type, String packageName) {
+    if (type.getKind().isPrimitive()) {
+      return true;
+    }
+    if (type.getKind() == TypeKind.ARRAY) {
+      return isAccessible(((ArrayType) type).getComponentType(), packageName);
+    }
+    return type.getKind() == TypeKind.DECLARED
+        && isAccessible(types.asElement(type), packageName);
+  }
+
+  /**
+   * @return {@code true} if the element and its enclosing classes can be referenced from a class
+   *     in the given package
+   */
+  private boolean isAccessible(Element element, String packageName) {
+    for (Element current = element; current != null && !(current instanceof PackageElement);
+        current = current.getEnclosingElement()) {
+      Set<javax.lang.model.element.Modifier> modifiers = current.getModifiers();
+      if (modifiers.contains(javax.lang.model.element.Modifier.PRIVATE)) {
+        return false;
+      }
+      if (!modifiers.contains(javax.lang.model.element.Modifier.PUBLIC)
+          && !elements.getPackageOf(current).getQualifiedName().contentEquals(packageName)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private TypeElement superclassOf(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) types.asElement(superclass);
+    return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+  }
+
+  private static int modifiersOf(Element element) {
+    int modifiers = 0;
+    for (javax.lang.model.element.Modifier modifier : element.getModifiers()) {
+      modifiers |= switch (modifier) {
+        case PUBLIC -> Modifier.PUBLIC;
+        case PRIVATE -> Modifier.PRIVATE;
+        case PROTECTED -> Modifier.PROTECTED;
+        case STATIC -> Modifier.STATIC;
+        case FINAL -> Modifier.FINAL;
+        case VOLATILE -> Modifier.VOLATILE;
+        case TRANSIENT -> Modifier.TRANSIENT;
+        default -> 0;
+      };
+    }
+    return modifiers;
+  }
+
+  private static boolean isStatic(Element element) {
+    return element.getModifiers().contains(javax.lang.model.element.Modifier.STATIC);
+  }
+
+  private static boolean isBooleanPrefixed(String name) {
+    return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+  }
+
+  private static String capitalize(String name) {
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  /**
+   * A {@code @Transformable} class the generated code cannot handle.
+   */
+  private static class InvalidPojoException extends RuntimeException {
+
+    private final transient Element element;
+
+    InvalidPojoException(String message, Element element) {
+      super(message);
+      this.element = element;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package io.github.syphen.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("OperatorIndexProcessor Unit Tests")
+class OperatorIndexProcessorTest {
+
+  private static final String REVERSE = """
+      package sample;
+
+      import com.fasterxml.jackson.databind.JsonNode;
+      import com.fasterxml.jackson.databind.node.TextNode;
+      import io.github.syphen.annotation.RegisterOperator;
+      import io.github.syphen.operator.BaseOperator;
+
+      @RegisterOperator(value = "reverse", pure = true)
+      public class ReverseOperator extends BaseOperator {
+
+        @Override
+        public JsonNode apply(JsonNode input, Class<?> inputClass) {
+          return input == null || !input.isTextual() ? input
+              : TextNode.valueOf(new StringBuilder(input.textValue()).reverse().toString());
+        }
+
+        @RegisterOperator("upper")
+        public static class Upper extends BaseOperator {
+
+          @Override
+          public JsonNode apply(JsonNode input, Class<?> inputClass) {
+            return input == null || !input.isTextual() ? input
+                : TextNode.valueOf(input.textValue().toUpperCase());
+          }
+        }
+      }
+      """;
+
+  private static final String ITEM = """
+      package sample;
+
+      public class Item {
+        private String name;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+      }
+      """;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Operators are listed in the index and registered from it")
+  void testProcess_writesIndexLoadedByTransformerFactory() throws Exception {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(
+        Map.of("sample/ReverseOperator.java", REVERSE, "sample/Item.java", ITEM));
+
+    assertThat(errors).isEmpty();
+    assertEquals(List.of("sample.ReverseOperator", "sample.ReverseOperator$Upper"),
+        Files.readAllLines(tempDir.resolve("out/" + OperatorIndexProcessor.INDEX_RESOURCE)));
+    Thread thread = Thread.currentThread();
+    ClassLoader contextClassLoader = thread.getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[]{tempDir.resolve("out").toUri().toURL()}, getClass().getClassLoader())) {
+      thread.setContextClassLoader(classLoader);
+      Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+          .operatorPackages(List.of("sample")).build()).getTransformer();
+      Class<?> itemClass = classLoader.loadClass("sample.Item");
+      Object item = itemClass.getConstructor().newInstance();
+      itemClass.getMethod("setName", String.class).invoke(item, "John");
+
+      Object result = transformer.transform(item, TransformationContext.builder()
+          .defaultOperatorType("reverse")
+          .nodeContext(NodeContext.builder().fieldName("root").transformAllFields(true).build())
+          .build());
+
+      assertEquals("nhoJ", itemClass.getMethod("getName").invoke(result));
+    } finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  @Test
+  @DisplayName("Classes that are not operators are reported as compilation errors")
+  void testProcess_reportsInvalidOperators() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(Map.of("sample/Item.java", """
+        package sample;
+
+        @io.github.syphen.annotation.RegisterOperator("item")
+        public class Item {
+        }
+        """));
+
+    assertThat(messages(errors)).containsExactly(
+        "@RegisterOperator classes must extend io.github.syphen.operator.BaseOperator");
+    assertFalse(Files.exists(tempDir.resolve("out/" + OperatorIndexProcessor.INDEX_RESOURCE)));
+  }
+
+  @Test
+  @DisplayName("Abstract operators are reported as compilation errors")
+  void testProcess_reportsAbstractOperators() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(Map.of(
+        "sample/AbstractOperator.java", """
+            package sample;
+
+            @io.github.syphen.annotation.RegisterOperator("abstract")
+            public abstract class AbstractOperator extends io.github.syphen.operator.BaseOperator {
+            }
+            """));
+
+    assertThat(messages(errors)).containsExactly("@RegisterOperator classes cannot be abstract");
+  }
+
+  private List<Diagnostic<? extends JavaFileObject>> compile(Map<String, String> sources)
+      throws IOException {
+    Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+    Path outputDir = Files.createDirectories(tempDir.resolve("out"));
+    List<File> files = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      Path file = sourceDir.resolve(source.getKey());
+      Files.createDirectories(file.getParent());
+      files.add(Files.writeString(file, source.getValue()).toFile());
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+        null)) {
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+          List.of("-classpath", System.getProperty("java.class.path"), "-d",
+              outputDir.toString(), "-s", outputDir.toString()),
+          null, fileManager.getJavaFileObjectsFromFiles(files));
+      task.setProcessors(List.of(new OperatorIndexProcessor()));
+      task.call();
+    }
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .collect(Collectors.toList());
+  }
+
+  private List<String> messages(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    return diagnostics.stream().map(diagnostic -> diagnostic.getMessage(Locale.ROOT)).toList();
+  }
+}
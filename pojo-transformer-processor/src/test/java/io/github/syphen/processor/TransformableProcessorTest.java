@@ -0,0 +1,264 @@
+package io.github.syphen.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.engine.accessor.CompiledPojoAccessors;
+import io.github.syphen.engine.accessor.PojoAccessor;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.utils.CommonUtil;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("TransformableProcessor Unit Tests")
+class TransformableProcessorTest {
+
+  private static final String BASE = """
+      package sample;
+
+      public class Base {
+        protected String id;
+        private int version;
+
+        public int getVersion() { return version; }
+        public void setVersion(int version) { this.version = version; }
+      }
+      """;
+
+  private static final String PERSON = """
+      package sample;
+
+      import io.github.syphen.annotation.Transformable;
+      import java.util.List;
+
+      @Transformable
+      public class Person extends Base {
+        public static final String KIND = "person";
+
+        private String name;
+        private int age;
+        private boolean active;
+        private transient String secret;
+        List<String> tags;
+        Address address;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public int getAge() { return age; }
+        public void setAge(int age) { this.age = age; }
+        public boolean isActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+        public String getSecret() { return secret; }
+        public void setSecret(String secret) { this.secret = secret; }
+        public List<String> getTags() { return tags; }
+        public void setTags(List<String> tags) { this.tags = tags; }
+        public Address getAddress() { return address; }
+        public void setAddress(Address address) { this.address = address; }
+
+        @Transformable
+        public static class Address {
+          private String city;
+
+          public String getCity() { return city; }
+          public void setCity(String city) { this.city = city; }
+        }
+      }
+      """;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Generated accessor is picked up instead of reflection")
+  void testProcess_generatesAccessorPickedUpAtRuntime() throws Exception {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(
+        Map.of("sample/Base.java", BASE, "sample/Person.java", PERSON));
+
+    assertThat(errors).isEmpty();
+    assertTrue(Files.exists(tempDir.resolve("out/sample/Person$$PojoAccessor.class")));
+    assertTrue(Files.exists(tempDir.resolve("out/sample/Person$Address$$PojoAccessor.class")));
+    try (URLClassLoader classLoader = classLoader()) {
+      Class<?> personClass = classLoader.loadClass("sample.Person");
+      PojoAccessor accessor = PojoAccessor.of(personClass);
+
+      assertTrue(CompiledPojoAccessors.find(personClass).isPresent());
+      assertTrue(accessor.isCompiled());
+      assertEquals(CommonUtil.inspectClass(personClass), new PojoSchemaCache().get(personClass));
+      assertEquals(List.of("id", "version", "name", "age", "active", "secret", "tags", "address"),
+          accessor.getFields().stream().map(field -> field.getName()).toList());
+      assertEquals("java.util.List<java.lang.String>",
+          accessor.getField("tags").getJavaType().toCanonical());
+      assertFalse(accessor.getField("secret").isTransformable());
+
+      Object person = accessor.copy(personClass.getConstructor().newInstance());
+      accessor.getField("id").set(person, "p-1");
+      accessor.getField("version").set(person, 3);
+      accessor.getField("age").set(person, null);
+      accessor.getField("tags").set(person, List.of("a"));
+      Object copy = accessor.copy(person);
+
+      assertNotSame(person, copy);
+      assertEquals("p-1", accessor.getField("id").get(copy));
+      assertEquals(3, accessor.getField("version").get(copy));
+      assertEquals(0, accessor.getField("age").get(copy));
+      assertEquals(List.of("a"), accessor.getField("tags").get(copy));
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(TransformationEngineType.class)
+  @DisplayName("Transformer transforms POJOs with generated accessors")
+  void testProcess_transformsWithGeneratedAccessor(TransformationEngineType engineType)
+      throws Exception {
+    assertThat(compile(Map.of("sample/Base.java", BASE, "sample/Person.java", PERSON)))
+        .isEmpty();
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .engineType(engineType)
+        .build()).getTransformer();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("name").build(),
+                NodeContext.builder().fieldName("age").build(),
+                NodeContext.builder().fieldName("address").transformAllFields(true).build()})
+            .build())
+        .build();
+    try (URLClassLoader classLoader = classLoader()) {
+      Class<?> personClass = classLoader.loadClass("sample.Person");
+      Class<?> addressClass = classLoader.loadClass("sample.Person$Address");
+      PojoAccessor personAccessor = PojoAccessor.of(personClass);
+      PojoAccessor addressAccessor = PojoAccessor.of(addressClass);
+      Object address = addressClass.getConstructor().newInstance();
+      addressAccessor.getField("city").set(address, "Pune");
+      Object person = personClass.getConstructor().newInstance();
+      personAccessor.getField("name").set(person, "John");
+      personAccessor.getField("age").set(person, 42);
+      personAccessor.getField("address").set(person, address);
+
+      Object result = transformer.transform(person, context);
+
+      assertEquals("***", personAccessor.getField("name").get(result));
+      assertEquals(1, personAccessor.getField("age").get(result));
+      assertEquals("***", addressAccessor.getField("city")
+          .get(personAccessor.getField("address").get(result)));
+      assertEquals("John", personAccessor.getField("name").get(person));
+    }
+  }
+
+  @Test
+  @DisplayName("Final fields are reported as compilation errors")
+  void testProcess_reportsFinalFields() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(Map.of("sample/Item.java", """
+        package sample;
+
+        @io.github.syphen.annotation.Transformable
+        public class Item {
+          final String id = "id";
+        }
+        """));
+
+    assertThat(messages(errors)).containsExactly("@Transformable field 'id' cannot be final");
+  }
+
+  @Test
+  @DisplayName("Private fields without getter and setter are reported as compilation errors")
+  void testProcess_reportsInaccessibleFields() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(Map.of("sample/Item.java", """
+        package sample;
+
+        @io.github.syphen.annotation.Transformable
+        public class Item {
+          private String id;
+
+          public String getId() { return id; }
+        }
+        """));
+
+    assertThat(messages(errors)).singleElement().asString()
+        .contains("field 'id' of sample.Item is not visible");
+  }
+
+  @Test
+  @DisplayName("Classes without a no-arg constructor are reported as compilation errors")
+  void testProcess_reportsMissingConstructor() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(Map.of("sample/Item.java", """
+        package sample;
+
+        @io.github.syphen.annotation.Transformable
+        public class Item {
+          String id;
+
+          public Item(String id) { this.id = id; }
+        }
+        """));
+
+    assertThat(messages(errors)).containsExactly(
+        "@Transformable classes need a no-arg constructor that is not private");
+  }
+
+  private List<Diagnostic<? extends JavaFileObject>> compile(Map<String, String> sources)
+      throws IOException {
+    Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+    Path outputDir = Files.createDirectories(tempDir.resolve("out"));
+    List<File> files = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      Path file = sourceDir.resolve(source.getKey());
+      Files.createDirectories(file.getParent());
+      files.add(Files.writeString(file, source.getValue()).toFile());
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+        null)) {
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+          List.of("-classpath", System.getProperty("java.class.path"), "-d",
+              outputDir.toString(), "-s", outputDir.toString()),
+          null, fileManager.getJavaFileObjectsFromFiles(files));
+      task.setProcessors(List.of(new TransformableProcessor()));
+      task.call();
+    }
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .collect(Collectors.toList());
+  }
+
+  private List<String> messages(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    return diagnostics.stream().map(diagnostic -> diagnostic.getMessage(Locale.ROOT)).toList();
+  }
+
+  private URLClassLoader classLoader() throws IOException {
+    return new URLClassLoader(new URL[]{tempDir.resolve("out").toUri().toURL()},
+        getClass().getClassLoader());
+  }
+}
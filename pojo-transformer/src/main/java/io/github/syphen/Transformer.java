@@ -0,0 +1,492 @@
+package io.github.syphen;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import io.github.syphen.cache.TransformationPlanCache;
+import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.execution.TransformationEngine;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.plan.PlanExplainer;
+import io.github.syphen.engine.plan.PlanExplanation;
+import io.github.syphen.engine.plan.TransformationPlan;
+import io.github.syphen.engine.stream.JsonStreamTransformer;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.flow.TransformationProcessor;
+import io.github.syphen.instrument.Instrumentation;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.utils.CommonUtil;
+import io.github.syphen.utils.MapperUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import lombok.AllArgsConstructor;
+
+
+/**
+ * Main transformation entry point for transforming any object using a given {@link TransformationContext}.
+ * Applies custom operator logic and field-level transformations defined in the framework.
+ * <p>
+ * Each (class, context) pair is compiled once into a {@link TransformationPlan} and cached, so
+ * repeated transformations only execute the pre-resolved steps.
+ * </p>
+ */
+@SuppressWarnings("unchecked")
+@AllArgsConstructor
+public class Transformer {
+
+  private final NodeTransformer nodeTransformer;
+  private final TransformationPlanCache transformationPlanCache;
+  private final JsonStreamTransformer jsonStreamTransformer;
+  private final TransformationEngine transformationEngine;
+  private final Executor asyncExecutor;
+  private final Instrumentation instrumentation;
+
+  /**
+   * Transforms the given input object using the provided transformation context.
+   * The configured {@link TransformationEngine} produces a new object of the original type; the
+   * input is not modified.
+   *
+   * @param input the input object to be transformed
+   * @param transformationContext context containing transformation instructions
+   * @param <T> type of the input and output object
+   * @return transformed object of the same type
+   * @throws DataTransformationException if transformation fails
+   */
+  public <T> T transform(T input, TransformationContext transformationContext) {
+    if (input == null || CommonUtil.nonValidNodeContext(transformationContext)) {
+      return input;
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    try {
+      TransformationPlan plan = transformationPlanCache.get(input.getClass(),
+          transformationContext);
+      T result = transformationEngine.transform(input, plan.getRootPlan());
+      instrumentation.completed(call, "transform", input.getClass(), transformationContext,
+          plan.getRootPlan(), 1);
+      return result;
+    } catch (Exception e) {
+      throw instrumentation.failed(call, input.getClass(), e);
+    }
+  }
+
+  /**
+   * Asynchronous variant of {@link #transform(Object, TransformationContext)}, running on the
+   * executor configured in the {@link TransformerFactory}.
+   *
+   * @param input                 the input object to be transformed
+   * @param transformationContext context containing transformation instructions
+   * @param <T>                   type of the input and output object
+   * @return future of the transformed object, completed exceptionally with a
+   *     {@link DataTransformationException} if the transformation fails
+   */
+  public <T> CompletableFuture<T> transformAsync(T input,
+      TransformationContext transformationContext) {
+    return CompletableFuture.supplyAsync(() -> transform(input, transformationContext),
+        asyncExecutor);
+  }
+
+  /**
+   * Asynchronous variant of {@link #transformAll(Collection, Class, TransformationContext)}. The
+   * whole batch is transformed by a single task; the collection must not be modified until the
+   * future completes.
+   *
+   * @param inputs                the elements to transform, {@code null} elements are kept as is
+   * @param pojoClass             class of the elements
+   * @param transformationContext context containing transformation instructions
+   * @param <T>                   type of the elements
+   * @return future of the transformed elements, in the iteration order of {@code inputs}
+   */
+  public <T> CompletableFuture<List<T>> transformAllAsync(Collection<T> inputs,
+      Class<T> pojoClass, TransformationContext transformationContext) {
+    return CompletableFuture.supplyAsync(
+        () -> transformAll(inputs, pojoClass, transformationContext), asyncExecutor);
+  }
+
+  /**
+   * Builds the intermediate transformed JsonNode representation of the input.
+   * This is useful when only a JSON structure is required without reconstructing the object.
+   *
+   * @param input the input object to be transformed
+   * @param transformationContext context containing transformation rules
+   * @param <T> type of the input object
+   * @return transformed JsonNode or null if input is invalid
+   * @throws DataTransformationException if transformation fails
+   */
+  public <T> JsonNode buildTransformedJsonNode(T input,
+      TransformationContext transformationContext) {
+    if (input == null || CommonUtil.nonValidNodeContext(transformationContext)) {
+      return null;
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    try {
+      TransformationPlan plan = transformationPlanCache.get(input.getClass(),
+          transformationContext);
+      JsonNode node = buildNode(input, plan.getRootPlan());
+      instrumentation.completed(call, "buildTransformedJsonNode", input.getClass(),
+          transformationContext, plan.getRootPlan(), 1);
+      return node;
+    } catch (Exception e) {
+      throw instrumentation.failed(call, input.getClass(), e);
+    }
+  }
+
+  /**
+   * Transforms every element of a batch with the same context. The plan of {@code pojoClass} is
+   * resolved once for the whole batch instead of once per element; elements of a subclass use the
+   * plan of their own class.
+   *
+   * @param inputs                the elements to transform, {@code null} elements are kept as is
+   * @param pojoClass             class of the elements
+   * @param transformationContext context containing transformation instructions
+   * @param <T>                   type of the elements
+   * @return the transformed elements, in the iteration order of {@code inputs}
+   * @throws DataTransformationException if the transformation of any element fails
+   */
+  public <T> List<T> transformAll(Collection<T> inputs, Class<T> pojoClass,
+      TransformationContext transformationContext) {
+    if (inputs == null) {
+      return new ArrayList<>();
+    }
+    if (pojoClass == null || CommonUtil.nonValidNodeContext(transformationContext)) {
+      return new ArrayList<>(inputs);
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    try {
+      NodePlan rootPlan = transformationPlanCache.get(pojoClass, transformationContext)
+          .getRootPlan();
+      List<T> results = new ArrayList<>(inputs.size());
+      for (T input : inputs) {
+        results.add(input == null ? null : transformationEngine.transform(input,
+            resolveRootPlan(input, pojoClass, rootPlan, transformationContext)));
+      }
+      instrumentation.completed(call, "transformAll", pojoClass, transformationContext,
+          rootPlan, results.size());
+      return results;
+    } catch (Exception e) {
+      throw instrumentation.failed(call, pojoClass, e);
+    }
+  }
+
+  /**
+   * Batch variant of {@link #buildTransformedJsonNode(Object, TransformationContext)}, resolving
+   * the plan of {@code pojoClass} once for the whole batch.
+   *
+   * @param inputs                the elements to transform, {@code null} elements map to
+   *                              {@code null}
+   * @param pojoClass             class of the elements
+   * @param transformationContext context containing transformation rules
+   * @param <T>                   type of the elements
+   * @return the transformed JsonNodes, in the iteration order of {@code inputs}
+   * @throws DataTransformationException if the transformation of any element fails
+   */
+  public <T> List<JsonNode> buildTransformedJsonNodes(Collection<T> inputs, Class<T> pojoClass,
+      TransformationContext transformationContext) {
+    if (inputs == null || pojoClass == null
+        || CommonUtil.nonValidNodeContext(transformationContext)) {
+      return new ArrayList<>();
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    try {
+      NodePlan rootPlan = transformationPlanCache.get(pojoClass, transformationContext)
+          .getRootPlan();
+      List<JsonNode> results = new ArrayList<>(inputs.size());
+      for (T input : inputs) {
+        results.add(input == null ? null : buildNode(input,
+            resolveRootPlan(input, pojoClass, rootPlan, transformationContext)));
+      }
+      instrumentation.completed(call, "buildTransformedJsonNodes", pojoClass,
+          transformationContext, rootPlan, results.size());
+      return results;
+    } catch (Exception e) {
+      throw instrumentation.failed(call, pojoClass, e);
+    }
+  }
+
+  /**
+   * Transforms a JSON tree using {@code pojoClass} only as the schema of the document. The input
+   * node is not modified.
+   *
+   * @param input                 the JSON tree to be transformed
+   * @param pojoClass             class describing the structure of the document
+   * @param transformationContext context containing transformation rules
+   * @return transformed copy of the input, or the input itself if nothing is to be transformed
+   * @throws DataTransformationException if transformation fails
+   */
+  public JsonNode transformJsonNode(JsonNode input, Class<?> pojoClass,
+      TransformationContext transformationContext) {
+    if (input == null || pojoClass == null
+        || CommonUtil.nonValidNodeContext(transformationContext)) {
+      return input;
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    try {
+      TransformationPlan plan = transformationPlanCache.get(pojoClass, transformationContext);
+      JsonNode node = input.deepCopy();
+      nodeTransformer.applyPlan(node, plan.getRootPlan());
+      instrumentation.completed(call, "transformJsonNode", pojoClass, transformationContext,
+          plan.getRootPlan(), 1);
+      return node;
+    } catch (Exception e) {
+      throw instrumentation.failed(call, pojoClass, e);
+    }
+  }
+
+  /**
+   * Creates a {@link Flow.Processor} transforming every received object with the same context on
+   * the executor configured in the {@link TransformerFactory}. At most {@code bufferSize} objects
+   * are requested ahead of downstream demand and results keep the order of the received objects.
+   *
+   * @param transformationContext context containing transformation instructions
+   * @param parallelism           maximum number of objects transformed at the same time
+   * @param bufferSize            maximum number of objects requested and not yet delivered, at
+   *                              least {@code parallelism}
+   * @param <T>                   type of the objects
+   * @return a new processor supporting a single subscriber
+   * @see TransformationProcessor
+   */
+  public <T> Flow.Processor<T, T> transformingProcessor(
+      TransformationContext transformationContext, int parallelism, int bufferSize) {
+    return new TransformationProcessor<T, T>(input -> transform(input, transformationContext),
+        asyncExecutor, parallelism, bufferSize);
+  }
+
+  /**
+   * JsonNode variant of {@link #transformingProcessor(TransformationContext, int, int)}, using
+   * {@code pojoClass} only as the schema of the received documents.
+   *
+   * @param pojoClass             class describing the structure of the documents
+   * @param transformationContext context containing transformation rules
+   * @param parallelism           maximum number of documents transformed at the same time
+   * @param bufferSize            maximum number of documents requested and not yet delivered, at
+   *                              least {@code parallelism}
+   * @return a new processor supporting a single subscriber
+   * @see #transformJsonNode(JsonNode, Class, TransformationContext)
+   */
+  public Flow.Processor<JsonNode, JsonNode> jsonNodeProcessor(Class<?> pojoClass,
+      TransformationContext transformationContext, int parallelism, int bufferSize) {
+    return new TransformationProcessor<JsonNode, JsonNode>(
+        input -> transformJsonNode(input, pojoClass, transformationContext), asyncExecutor,
+        parallelism, bufferSize);
+  }
+
+  /**
+   * Resolves the context for {@code pojoClass} without transforming anything: the fields every
+   * node context expands to, the strategy and operator of each field and the estimated cost of
+   * one object, assuming collections of {@link PlanExplainer#DEFAULT_COLLECTION_SIZE} elements.
+   * The compiled plan is cached and reused by later transformations.
+   *
+   * @param pojoClass             class of the objects to transform
+   * @param transformationContext context containing transformation rules
+   * @return the explanation, printable with {@code toString()}
+   * @throws DataTransformationException if a referenced field or operator does not exist
+   */
+  public PlanExplanation explain(Class<?> pojoClass, TransformationContext transformationContext) {
+    return explain(pojoClass, transformationContext, PlanExplainer.DEFAULT_COLLECTION_SIZE);
+  }
+
+  /**
+   * Variant of {@link #explain(Class, TransformationContext)} with the number of elements assumed
+   * in every collection.
+   *
+   * @param pojoClass             class of the objects to transform
+   * @param transformationContext context containing transformation rules
+   * @param assumedCollectionSize number of elements assumed in every collection
+   * @return the explanation, printable with {@code toString()}
+   * @throws DataTransformationException if a referenced field or operator does not exist
+   */
+  public PlanExplanation explain(Class<?> pojoClass, TransformationContext transformationContext,
+      int assumedCollectionSize) {
+    Objects.requireNonNull(pojoClass, "Class cannot be null");
+    TransformationPlan plan = CommonUtil.nonValidNodeContext(transformationContext)
+        ? new TransformationPlan(pojoClass, transformationContext, NodePlan.empty(pojoClass))
+        : transformationPlanCache.get(pojoClass, transformationContext);
+    return PlanExplainer.explain(plan, assumedCollectionSize);
+  }
+
+  private NodePlan resolveRootPlan(Object input, Class<?> pojoClass, NodePlan rootPlan,
+      TransformationContext transformationContext) {
+    return input.getClass() == pojoClass ? rootPlan
+        : transformationPlanCache.get(input.getClass(), transformationContext).getRootPlan();
+  }
+
+  private JsonNode buildNode(Object input, NodePlan rootPlan) {
+    ObjectNode node = MapperUtil.getObjectMapper().valueToTree(input);
+    nodeTransformer.applyPlan(node, rootPlan);
+    return node;
+  }
+
+  /**
+   * Transforms a JSON document read from {@code input} and writes the result as UTF-8 to
+   * {@code output}, using {@code pojoClass} only as the schema of the document. Tokens are copied
+   * as they are read, so the document is never held in memory as a whole. Multiple root level
+   * values are transformed one after the other. The streams are not closed.
+   *
+   * @param input                 source of the JSON document
+   * @param output                destination of the transformed document
+   * @param pojoClass             class describing the structure of the document
+   * @param transformationContext context containing transformation rules
+   * @throws DataTransformationException if transformation fails
+   */
+  public void transformStream(InputStream input, OutputStream output, Class<?> pojoClass,
+      TransformationContext transformationContext) {
+    if (CommonUtil.isAnyNull(input, output, pojoClass)) {
+      return;
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    JsonFactory jsonFactory = MapperUtil.getObjectMapper().getFactory();
+    try (JsonParser parser = jsonFactory.createParser(input);
+        JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+      NodePlan rootPlan = transformStream(parser, generator, pojoClass, transformationContext);
+      instrumentation.completed(call, "transformStream", pojoClass, transformationContext,
+          rootPlan, 1);
+    } catch (Exception e) {
+      throw instrumentation.failed(call, pojoClass, e);
+    }
+  }
+
+  /**
+   * Transforms a UTF-8 encoded JSON document held in memory, using {@code pojoClass} only as the
+   * schema of the document. The bytes are never bound to POJOs; tokens are copied from the input
+   * to the output as they are parsed.
+   *
+   * @param input                 the JSON document
+   * @param pojoClass             class describing the structure of the document
+   * @param transformationContext context containing transformation rules
+   * @return the transformed document, or the input itself if nothing is to be transformed
+   * @throws DataTransformationException if transformation fails
+   */
+  public byte[] transformBytes(byte[] input, Class<?> pojoClass,
+      TransformationContext transformationContext) {
+    if (input == null || pojoClass == null
+        || CommonUtil.nonValidNodeContext(transformationContext)) {
+      return input;
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    JsonFactory jsonFactory = MapperUtil.getObjectMapper().getFactory();
+    try (ByteArrayBuilder output = new ByteArrayBuilder(input.length)) {
+      NodePlan rootPlan;
+      try (JsonParser parser = jsonFactory.createParser(input);
+          JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+        rootPlan = transformStream(parser, generator, pojoClass, transformationContext);
+      }
+      byte[] result = output.toByteArray();
+      instrumentation.completed(call, "transformBytes", pojoClass, transformationContext,
+          rootPlan, input.length, result.length);
+      return result;
+    } catch (Exception e) {
+      throw instrumentation.failed(call, pojoClass, e);
+    }
+  }
+
+  /**
+   * Buffer based variant of {@link #transformBytes(byte[], Class, TransformationContext)}. The
+   * remaining bytes of {@code input} are transformed and written as UTF-8 to {@code output},
+   * starting at its position. On return the position of {@code input} is at its limit and the
+   * position of {@code output} is just after the written document, so a single output buffer
+   * can collect several documents.
+   *
+   * @param input                 buffer holding the JSON document between position and limit
+   * @param output                buffer receiving the transformed document
+   * @param pojoClass             class describing the structure of the document
+   * @param transformationContext context containing transformation rules
+   * @return the number of bytes written to {@code output}
+   * @throws DataTransformationException if transformation fails or {@code output} has too
+   *                                     little space remaining, in which case part of the
+   *                                     document may already have been written
+   */
+  public int transformBytes(ByteBuffer input, ByteBuffer output, Class<?> pojoClass,
+      TransformationContext transformationContext) {
+    if (CommonUtil.isAnyNull(input, output, pojoClass)) {
+      return 0;
+    }
+    int outputStart = output.position();
+    Instrumentation.Call call = null;
+    try {
+      if (CommonUtil.nonValidNodeContext(transformationContext)) {
+        output.put(input);
+        return output.position() - outputStart;
+      }
+      call = instrumentation.begin();
+      int inputBytes = input.remaining();
+      JsonFactory jsonFactory = MapperUtil.getObjectMapper().getFactory();
+      NodePlan rootPlan;
+      try (JsonParser parser = createParser(jsonFactory, input);
+          JsonGenerator generator = jsonFactory.createGenerator(
+              new ByteBufferBackedOutputStream(output), JsonEncoding.UTF8)) {
+        rootPlan = transformStream(parser, generator, pojoClass, transformationContext);
+      }
+      input.position(input.limit());
+      int written = output.position() - outputStart;
+      instrumentation.completed(call, "transformBytes", pojoClass, transformationContext,
+          rootPlan, inputBytes, written);
+      return written;
+    } catch (Exception e) {
+      throw instrumentation.failed(call, pojoClass, e);
+    }
+  }
+
+  private JsonParser createParser(JsonFactory jsonFactory, ByteBuffer input) throws IOException {
+    if (input.hasArray()) {
+      return jsonFactory.createParser(input.array(), input.arrayOffset() + input.position(),
+          input.remaining());
+    }
+    return jsonFactory.createParser(new ByteBufferBackedInputStream(input.duplicate()));
+  }
+
+  /**
+   * Character based variant of
+   * {@link #transformStream(InputStream, OutputStream, Class, TransformationContext)}.
+   *
+   * @param input                 source of the JSON document
+   * @param output                destination of the transformed document
+   * @param pojoClass             class describing the structure of the document
+   * @param transformationContext context containing transformation rules
+   * @throws DataTransformationException if transformation fails
+   */
+  public void transformStream(Reader input, Writer output, Class<?> pojoClass,
+      TransformationContext transformationContext) {
+    if (CommonUtil.isAnyNull(input, output, pojoClass)) {
+      return;
+    }
+    Instrumentation.Call call = instrumentation.begin();
+    JsonFactory jsonFactory = MapperUtil.getObjectMapper().getFactory();
+    try (JsonParser parser = jsonFactory.createParser(input);
+        JsonGenerator generator = jsonFactory.createGenerator(output)) {
+      NodePlan rootPlan = transformStream(parser, generator, pojoClass, transformationContext);
+      instrumentation.completed(call, "transformStream", pojoClass, transformationContext,
+          rootPlan, 1);
+    } catch (Exception e) {
+      throw instrumentation.failed(call, pojoClass, e);
+    }
+  }
+
+  /**
+   * @return the plan the document was transformed with, {@code null} if the context is invalid
+   */
+  private NodePlan transformStream(JsonParser parser, JsonGenerator generator,
+      Class<?> pojoClass, TransformationContext transformationContext) throws Exception {
+    parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    NodePlan rootPlan = CommonUtil.nonValidNodeContext(transformationContext) ? null
+        : transformationPlanCache.get(pojoClass, transformationContext).getRootPlan();
+    jsonStreamTransformer.transform(parser, generator, rootPlan);
+    return rootPlan;
+  }
+}
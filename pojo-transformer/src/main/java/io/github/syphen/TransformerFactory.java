@@ -0,0 +1,324 @@
+package io.github.syphen;
+
+import io.github.syphen.annotation.RegisterOperator;
+import io.github.syphen.cache.CachingOperator;
+import io.github.syphen.cache.OperatorResultCache;
+import io.github.syphen.cache.PojoAccessorCache;
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.cache.TransformationPlanCache;
+import io.github.syphen.config.JmxConfig;
+import io.github.syphen.config.OperatorCacheConfig;
+import io.github.syphen.config.SchemaCacheConfig;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.execution.TransformationEngine;
+import io.github.syphen.engine.execution.impl.AccessorTransformationEngine;
+import io.github.syphen.engine.execution.impl.GeneratedTransformationEngine;
+import io.github.syphen.engine.execution.impl.TreeTransformationEngine;
+import io.github.syphen.engine.parallel.ParallelExecutor;
+import io.github.syphen.engine.plan.PlanCompiler;
+import io.github.syphen.engine.processor.impl.JsonArrayProcessor;
+import io.github.syphen.engine.processor.impl.JsonObjectProcessor;
+import io.github.syphen.engine.stream.JsonStreamTransformer;
+import io.github.syphen.engine.strategy.impl.DirectValueTransformationStrategy;
+import io.github.syphen.engine.strategy.impl.NestedNodeTransformationStrategy;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.factory.OperatorIndex;
+import io.github.syphen.factory.OperatorRegistry;
+import io.github.syphen.factory.ProcessorSelector;
+import io.github.syphen.factory.StrategySelector;
+import io.github.syphen.instrument.Instrumentation;
+import io.github.syphen.instrument.SlowTransformationLog;
+import io.github.syphen.jfr.EventEmittingOperator;
+import io.github.syphen.jmx.CacheManagement;
+import io.github.syphen.jmx.OperatorRegistryManagement;
+import io.github.syphen.jmx.TransformerMBeans;
+import io.github.syphen.jmx.TransformerStatistics;
+import io.github.syphen.metrics.MeteredOperator;
+import io.github.syphen.metrics.TransformationMetrics;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.utils.ExecutorUtil;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory class responsible for initializing and configuring the {@link Transformer}. It discovers
+ * custom operators annotated with {@link RegisterOperator}, and builds all internal components such
+ * as strategies and processors.
+ */
+@Getter
+public class TransformerFactory {
+
+  private static final Logger log = LoggerFactory.getLogger(TransformerFactory.class);
+
+  private final Transformer transformer;
+
+  /** The registered management beans, {@code null} unless enabled in the {@link JmxConfig}. */
+  private TransformerMBeans transformerMBeans;
+
+  /**
+   * Cache of the results of pure operators, {@code null} when disabled in the
+   * {@link OperatorCacheConfig}.
+   */
+  private OperatorResultCache operatorResultCache;
+
+  /**
+   * Initializes the Transformer using full classpath scan.
+   */
+  public TransformerFactory() {
+    this(TransformerConfig.defaults());
+  }
+
+  /**
+   * Initializes the Transformer with restricted package scanning.
+   *
+   * @param pkgs list of package names to scan for @RegisterOperator annotations; {@code null}
+   *             entries are ignored and the whole classpath is scanned when none is left
+   */
+  public TransformerFactory(String... pkgs) {
+    this(TransformerConfig.builder().operatorPackages(pkgs == null ? List.of()
+        : Arrays.stream(pkgs).filter(Objects::nonNull).toList()).build());
+  }
+
+  /**
+   * Initializes the Transformer with the given configuration.
+   *
+   * @param config configuration of the transformer pipeline
+   */
+  public TransformerFactory(TransformerConfig config) {
+    this.transformer = this.initialize(config);
+  }
+
+  /**
+   * Core initializer for setting up the transformer pipeline.
+   */
+  private Transformer initialize(TransformerConfig config) {
+    JmxConfig jmxConfig = config.getJmxConfig();
+    TransformerStatistics statistics = jmxConfig.isEnabled() ? new TransformerStatistics() : null;
+    TransformationMetrics metrics = statistics == null ? config.getMetrics()
+        : config.getMetrics().andThen(statistics);
+    PojoSchemaCache pojoSchemaCache = new PojoSchemaCache(config.getSchemaCacheConfig(), metrics,
+        jmxConfig.isEnabled(), config.isFlightRecorderEvents());
+    OperatorCacheConfig operatorCacheConfig = config.getOperatorCacheConfig();
+    operatorResultCache = operatorCacheConfig.isEnabled()
+        ? new OperatorResultCache(operatorCacheConfig) : null;
+    OperatorRegistry operatorRegistry = new OperatorRegistry(instrumentOperators(
+        discoverOperators(config.isOperatorIndex(),
+            config.getOperatorPackages().toArray(String[]::new)),
+        operatorResultCache, metrics, config.isFlightRecorderEvents()));
+    DirectValueTransformationStrategy directValueTransformationStrategy = new DirectValueTransformationStrategy(
+        operatorRegistry);
+    NestedNodeTransformationStrategy nestedNodeTransformationStrategy = new NestedNodeTransformationStrategy();
+    StrategySelector strategySelector = new StrategySelector(directValueTransformationStrategy,
+        nestedNodeTransformationStrategy);
+
+    ParallelExecutor parallelExecutor = ParallelExecutor.of(config.getParallelConfig());
+    JsonArrayProcessor jsonArrayProcessor = new JsonArrayProcessor();
+    jsonArrayProcessor.setParallelExecutor(parallelExecutor);
+    JsonObjectProcessor jsonObjectProcessor = new JsonObjectProcessor(parallelExecutor);
+
+    ProcessorSelector processorSelector = new ProcessorSelector(jsonArrayProcessor,
+        jsonObjectProcessor);
+    NodeTransformer nodeTransformer = new NodeTransformer(processorSelector);
+    jsonArrayProcessor.setNodeTransformer(nodeTransformer);
+    nestedNodeTransformationStrategy.setNodeTransformer(nodeTransformer);
+
+    boolean slowLogEnabled = config.getSlowTransformationLogConfig().isEnabled();
+    PlanCompiler planCompiler = new PlanCompiler(pojoSchemaCache, strategySelector,
+        slowLogEnabled);
+    TransformationPlanCache transformationPlanCache = new TransformationPlanCache(planCompiler,
+        config.getSchemaCacheConfig().isWeakKeys(), jmxConfig.isEnabled());
+    if (statistics != null) {
+      Map<String, Object> mbeans = new LinkedHashMap<>();
+      mbeans.put("PojoSchemaCache", new CacheManagement(pojoSchemaCache.getCache()));
+      mbeans.put("TransformationPlanCache",
+          new CacheManagement(transformationPlanCache.getCache()));
+      if (operatorResultCache != null) {
+        mbeans.put("OperatorResultCache", new CacheManagement(operatorResultCache.getCache()));
+      }
+      mbeans.put("OperatorRegistry", new OperatorRegistryManagement(operatorRegistry));
+      mbeans.put("TransformerStatistics", statistics);
+      transformerMBeans = TransformerMBeans.register(jmxConfig.getServer() != null
+              ? jmxConfig.getServer() : ManagementFactory.getPlatformMBeanServer(),
+          jmxConfig.getDomain(), jmxConfig.getName(), mbeans);
+    }
+    Executor asyncExecutor = config.getAsyncExecutor() != null ? config.getAsyncExecutor()
+        : ExecutorUtil.defaultAsyncExecutor();
+    return new Transformer(nodeTransformer, transformationPlanCache, new JsonStreamTransformer(),
+        createTransformationEngine(config.getEngineType(), config.getSchemaCacheConfig(),
+            nodeTransformer), asyncExecutor,
+        new Instrumentation(metrics, config.isFlightRecorderEvents(), slowLogEnabled
+            ? new SlowTransformationLog(config.getSlowTransformationLogConfig(),
+            config.getEngineType()) : null));
+  }
+
+  /**
+   * Wraps every operator declared pure in a {@link CachingOperator} when the result cache is
+   * enabled, then every operator in an {@link EventEmittingOperator} when flight recorder events
+   * are enabled, and in a {@link MeteredOperator} unless the metrics are the no-op default. Cache
+   * hits are thus measured like any other call. Without any of these, the operators are called
+   * directly.
+   */
+  private Map<String, BaseOperator> instrumentOperators(Map<String, BaseOperator> operators,
+      OperatorResultCache operatorResultCache, TransformationMetrics metrics,
+      boolean flightRecorderEvents) {
+    if (operatorResultCache == null && metrics == TransformationMetrics.NOOP
+        && !flightRecorderEvents) {
+      return operators;
+    }
+    return operators.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+        entry -> {
+          BaseOperator operator = entry.getValue();
+          if (operatorResultCache != null && isPure(operator)) {
+            operator = operatorResultCache.wrap(entry.getKey(), operator);
+          }
+          if (flightRecorderEvents) {
+            operator = new EventEmittingOperator(entry.getKey(), operator);
+          }
+          return metrics == TransformationMetrics.NOOP ? operator
+              : new MeteredOperator(entry.getKey(), operator, metrics);
+        }));
+  }
+
+  private static boolean isPure(BaseOperator operator) {
+    RegisterOperator registration = operator.getClass().getAnnotation(RegisterOperator.class);
+    return registration != null && registration.pure();
+  }
+
+  /**
+   * Creates the engine used for object to object transformations.
+   */
+  private TransformationEngine createTransformationEngine(TransformationEngineType engineType,
+      SchemaCacheConfig schemaCacheConfig, NodeTransformer nodeTransformer) {
+    TreeTransformationEngine treeTransformationEngine = new TreeTransformationEngine(
+        nodeTransformer);
+    return switch (engineType) {
+      case ACCESSOR -> new AccessorTransformationEngine(new PojoAccessorCache(schemaCacheConfig),
+          treeTransformationEngine);
+      case GENERATED -> new GeneratedTransformationEngine(
+          new PojoAccessorCache(schemaCacheConfig), treeTransformationEngine);
+      default -> treeTransformationEngine;
+    };
+  }
+
+  /**
+   * Loads the operators listed in the build time operator indexes and scans the classpath entries
+   * holding the provided packages, or the whole classpath, for classes annotated with
+   * {@link RegisterOperator}, then validates and instantiates them. Entries holding an index are
+   * not scanned, so that the operators of entries compiled without the processor are still found.
+   *
+   * @param useIndex whether the operator indexes are used
+   * @param pkgs     packages to scan
+   * @return map of operator key to instantiated {@link BaseOperator}
+   */
+  private Map<String, BaseOperator> discoverOperators(boolean useIndex, String... pkgs) {
+    try {
+      List<URL> urls = new ArrayList<>();
+      if (pkgs == null || pkgs.length == 0) {
+        urls.addAll(ClasspathHelper.forJavaClassPath());
+        urls.addAll(ClasspathHelper.forClassLoader());
+      } else {
+        for (String pck : pkgs) {
+          urls.addAll(ClasspathHelper.forPackage(pck));
+        }
+      }
+      Set<Class<?>> loadedClasses = new LinkedHashSet<>();
+      if (useIndex) {
+        Optional<Set<Class<?>>> indexedClasses = OperatorIndex.load(classLoader(),
+            pkgs == null ? List.of() : Arrays.asList(pkgs));
+        if (indexedClasses.isPresent()) {
+          Set<String> indexedEntries = OperatorIndex.indexedEntries(classLoader());
+          urls.removeIf(url -> indexedEntries.contains(OperatorIndex.entryOf(url)));
+          loadedClasses.addAll(indexedClasses.get());
+          log.info("Loaded {} operator(s) from the {} of {} classpath entries",
+              indexedClasses.get().size(), OperatorIndex.RESOURCE, indexedEntries.size());
+        }
+      }
+      if (!urls.isEmpty()) {
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .setScanners(Scanners.TypesAnnotated)
+            .addUrls(urls));
+        Set<Class<?>> scannedClasses = reflections.getTypesAnnotatedWith(RegisterOperator.class);
+        log.info("Discovered {} operator(s) annotated with @RegisterOperator",
+            scannedClasses.size());
+        loadedClasses.addAll(scannedClasses);
+      }
+      return processDiscoveredClasses(loadedClasses);
+    } catch (Exception e) {
+      throw DataTransformationException.propagate(ErrorCode.INITIALIZATION_OPERATOR_ERROR, e);
+    }
+  }
+
+  private static ClassLoader classLoader() {
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    return contextClassLoader != null ? contextClassLoader
+        : TransformerFactory.class.getClassLoader();
+  }
+
+  /**
+   * Processes discovered operator classes, validates each one, and instantiates them. Performs
+   * parallel instantiation using {@code parallelStream}.
+   *
+   * @param classes set of annotated operator classes
+   * @return unmodifiable map of operator key to instantiated operator
+   */
+  private Map<String, BaseOperator> processDiscoveredClasses(Set<Class<?>> classes) {
+
+    try {
+      ConcurrentMap<String, BaseOperator> operatorMap = classes.parallelStream().map(clazz -> {
+        // Ensure class implements BaseOperator
+        if (!BaseOperator.class.isAssignableFrom(clazz)) {
+          throw DataTransformationException.error(ErrorCode.WRONG_ANNOTATION_ERROR,
+              Map.of("detailMessage", "Class " + clazz.getName()
+                  + " with @RegisterOperator doesn't implement BaseOperator"));
+        }
+
+        // Extract annotation key
+        String key = clazz.getAnnotation(RegisterOperator.class).value();
+        if (key == null || key.trim().isEmpty()) {
+          throw DataTransformationException.error(ErrorCode.OPERATOR_KEY_NULL_OR_EMPTY_ERROR,
+              Map.of("detailMessage", "Operator key missing on class: " + clazz.getName()));
+        }
+
+        try {
+          BaseOperator instance = (BaseOperator) clazz.getDeclaredConstructor().newInstance();
+          log.info("Registered operator: {} with key: {}", clazz.getName(), key);
+          return Map.entry(key, instance);
+        } catch (Exception e) {
+          throw DataTransformationException.propagate(ErrorCode.INITIALIZATION_OPERATOR_ERROR,
+              new Throwable("Failed to instantiate: " + clazz.getName(), e));
+        }
+      }).collect(Collectors.toConcurrentMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> {
+        throw DataTransformationException.error(ErrorCode.DUPLICATE_OPERATOR_KEY_ERROR,
+            Map.of("detailMessage", "Duplicate operator key found: " + a));
+      }));
+
+      return Collections.unmodifiableMap(operatorMap);
+    } catch (Exception e) {
+      log.error("Failed to process discovered operator classes", e);
+      throw e;
+    }
+  }
+}
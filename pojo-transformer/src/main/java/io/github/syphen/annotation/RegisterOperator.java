@@ -9,4 +9,11 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 public @interface RegisterOperator {
   String value();
+
+  /**
+   * Whether the operator always returns an equal result for equal input values and classes, and
+   * has no side effect. Results of pure operators on scalar values are cached, see
+   * {@link io.github.syphen.config.OperatorCacheConfig}.
+   */
+  boolean pure() default false;
 }
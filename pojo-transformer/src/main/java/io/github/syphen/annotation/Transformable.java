@@ -0,0 +1,17 @@
+package io.github.syphen.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a POJO for build-time code generation by the {@code pojo-transformer-processor}
+ * annotation processor, which writes a {@code <Pojo>$$PojoAccessor} class next to it. The
+ * generated class is picked up at runtime instead of inspecting and accessing the POJO's fields
+ * through reflection.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Transformable {
+}
@@ -0,0 +1,67 @@
+package io.github.syphen.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Operator returning the results of its pure delegate from an {@link OperatorResultCache}.
+ * Objects, arrays and absent values are passed to the delegate directly. Results of the
+ * specialized hooks are cached apart from those of {@link #apply}.
+ */
+public final class CachingOperator extends BaseOperator {
+
+  private final String key;
+  @Getter
+  private final BaseOperator delegate;
+  private final OperatorResultCache cache;
+  private final Function<Object, Object> textHook;
+  private final Function<Object, Object> longHook;
+  private final Function<Object, Object> doubleHook;
+  private final Function<Object, Object> booleanHook;
+
+  public CachingOperator(String key, BaseOperator delegate, OperatorResultCache cache) {
+    this.key = key;
+    this.delegate = delegate;
+    this.cache = cache;
+    this.textHook = value -> delegate.applyText((String) value);
+    this.longHook = value -> delegate.applyLong((Long) value);
+    this.doubleHook = value -> delegate.applyDouble((Double) value);
+    this.booleanHook = value -> delegate.applyBoolean((Boolean) value);
+  }
+
+  @Override
+  public JsonNode apply(JsonNode input, Class<?> inputClass) {
+    if (input == null || !input.isValueNode()) {
+      return delegate.apply(input, inputClass);
+    }
+    return cache.get(key, delegate, input, inputClass);
+  }
+
+  @Override
+  public CharSequence applyText(CharSequence input) {
+    return (CharSequence) cache.get(key, input.toString(), CharSequence.class, textHook);
+  }
+
+  @Override
+  public long applyLong(long input) {
+    return (Long) cache.get(key, input, long.class, longHook);
+  }
+
+  @Override
+  public double applyDouble(double input) {
+    return (Double) cache.get(key, input, double.class, doubleHook);
+  }
+
+  @Override
+  public boolean applyBoolean(boolean input) {
+    return (Boolean) cache.get(key, input, boolean.class, booleanHook);
+  }
+
+  @Override
+  public boolean isSpecialized(ScalarType scalarType) {
+    return delegate.isSpecialized(scalarType);
+  }
+}
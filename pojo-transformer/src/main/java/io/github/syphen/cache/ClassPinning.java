@@ -0,0 +1,41 @@
+package io.github.syphen.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the values of a cache reachable from the class they were derived from.
+ * <p>
+ * A cached value usually references its class, e.g. through the field types of a schema, so a
+ * cache holding it strongly keeps the class and its loader alive even with weak keys. A cache
+ * configured with weak keys therefore holds its values weakly as well and pins them here: a value
+ * then lives as long as its class, or until the cache removes the entry and {@link #unpin}s it.
+ * </p>
+ */
+final class ClassPinning {
+
+  private final ClassValue<Map<Object, Object>> pins = new ClassValue<>() {
+    @Override
+    protected Map<Object, Object> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  /**
+   * @param owner class the value was derived from
+   * @param key   key of the value in the cache
+   * @param value cached value
+   * @return the value
+   */
+  <V> V pin(Class<?> owner, Object key, V value) {
+    pins.get(owner).put(key, value);
+    return value;
+  }
+
+  /**
+   * Releases a value, unless it was replaced since by a newer value of the same key.
+   */
+  void unpin(Class<?> owner, Object key, Object value) {
+    pins.get(owner).remove(key, value);
+  }
+}
@@ -0,0 +1,56 @@
+package io.github.syphen.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.syphen.engine.generation.GeneratedTransformer;
+import io.github.syphen.engine.generation.TransformerClassGenerator;
+import io.github.syphen.engine.plan.NodePlan;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Caches the transformers generated for compiled node plans, including the plans whose class could
+ * not be generated.
+ * <p>
+ * Plans are compared by identity and held weakly: they are owned by the
+ * {@link TransformationPlanCache}, and once a plan is evicted there its generated transformer and
+ * hidden class become unreachable as well. The transformers are stored with the plan's POJO class,
+ * as the hidden classes belong to its class loader, so they never keep that loader alive either.
+ * </p>
+ */
+public class GeneratedTransformerCache {
+
+  private final ClassValue<Cache<NodePlan, Optional<GeneratedTransformer>>> generatedCaches =
+      new ClassValue<>() {
+        @Override
+        protected Cache<NodePlan, Optional<GeneratedTransformer>> computeValue(Class<?> type) {
+          return Caffeine.newBuilder().weakKeys().build();
+        }
+      };
+  private final TransformerClassGenerator transformerClassGenerator;
+
+  public GeneratedTransformerCache(TransformerClassGenerator transformerClassGenerator) {
+    this.transformerClassGenerator = transformerClassGenerator;
+  }
+
+  /**
+   * @param nodePlan compiled plan
+   * @return the generated transformer, or {@code null} if the plan's class is not supported
+   */
+  public GeneratedTransformer get(NodePlan nodePlan) {
+    Objects.requireNonNull(nodePlan, "Plan cannot be null");
+    Cache<NodePlan, Optional<GeneratedTransformer>> generatedCache =
+        generatedCaches.get(nodePlan.getPojoClass());
+    Optional<GeneratedTransformer> generated = generatedCache.getIfPresent(nodePlan);
+    if (generated == null) {
+      // generated outside of the cache's compute, as nested plans are resolved recursively
+      generated = Optional.ofNullable(transformerClassGenerator.generate(nodePlan, this::get));
+      Optional<GeneratedTransformer> existing = generatedCache.asMap()
+          .putIfAbsent(nodePlan, generated);
+      if (existing != null) {
+        generated = existing;
+      }
+    }
+    return generated.orElse(null);
+  }
+}
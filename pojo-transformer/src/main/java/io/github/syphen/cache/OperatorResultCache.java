@@ -0,0 +1,73 @@
+package io.github.syphen.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.syphen.config.OperatorCacheConfig;
+import io.github.syphen.operator.BaseOperator;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the results of pure operators, keyed by operator key, input value and input
+ * class. Input values are compared with {@code equals}, so equal values read from different
+ * documents share one result.
+ * <p>
+ * Cached results are returned as is to every caller, which is safe for the immutable value nodes
+ * and plain values operators return for scalar values.
+ * </p>
+ */
+public class OperatorResultCache {
+
+  private final Cache<ResultKey, Object> resultCache;
+
+  public OperatorResultCache(OperatorCacheConfig config) {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
+        .maximumSize(config.getMaximumSize());
+    if (config.getExpireAfterWrite() != null) {
+      builder.expireAfterWrite(config.getExpireAfterWrite());
+    }
+    this.resultCache = (config.isRecordStats() ? builder.recordStats() : builder).build();
+  }
+
+  /**
+   * @param key      key the operator is registered with
+   * @param operator a pure operator
+   * @return an operator returning the cached result of {@code operator} for scalar inputs
+   */
+  public BaseOperator wrap(String key, BaseOperator operator) {
+    return new CachingOperator(key, operator, this);
+  }
+
+  /**
+   * Returns the cached result of the operator for the input, computing and caching it when
+   * missing. A {@code null} result is returned without being cached.
+   */
+  JsonNode get(String key, BaseOperator operator, JsonNode input, Class<?> inputClass) {
+    return (JsonNode) resultCache.get(new ResultKey(key, input, inputClass),
+        resultKey -> operator.apply(input, inputClass));
+  }
+
+  /**
+   * Variant of {@link #get(String, BaseOperator, JsonNode, Class)} for the specialized hooks,
+   * with a plain input value and the hook applying the operator to it.
+   */
+  Object get(String key, Object input, Class<?> hookClass, Function<Object, Object> hook) {
+    return resultCache.get(new ResultKey(key, input, hookClass),
+        resultKey -> hook.apply(resultKey.input()));
+  }
+
+  /** Hit, miss and eviction statistics, all zero unless recorded. */
+  public CacheStats stats() {
+    return resultCache.stats();
+  }
+
+  /** The underlying cache, for monitoring and management. */
+  public Cache<?, ?> getCache() {
+    return resultCache;
+  }
+
+  private record ResultKey(String operatorKey, Object input, Class<?> inputClass) {
+
+  }
+}
@@ -0,0 +1,56 @@
+package io.github.syphen.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.syphen.config.SchemaCacheConfig;
+import io.github.syphen.engine.accessor.PojoAccessor;
+import java.util.Objects;
+
+/**
+ * Caches the {@link PojoAccessor} of every POJO class. Accessors are derived from the class schema,
+ * so the cache follows the size, expiry and key strength of the {@link SchemaCacheConfig}. With weak
+ * keys the accessors are pinned to their class, see {@link ClassPinning}.
+ */
+public class PojoAccessorCache {
+
+  private final Cache<Class<?>, PojoAccessor> accessorCache;
+  /** Pins the weakly held accessors to their class, {@code null} unless keys are weak. */
+  private final ClassPinning pinning;
+
+  public PojoAccessorCache() {
+    this(SchemaCacheConfig.defaults());
+  }
+
+  /**
+   * @param config size, expiry and key strength of the cache; its loader and statistics only apply
+   *               to the schema cache
+   */
+  public PojoAccessorCache(SchemaCacheConfig config) {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(config.getMaximumSize());
+    if (config.getExpireAfterWrite() != null) {
+      builder.expireAfterWrite(config.getExpireAfterWrite());
+    }
+    if (config.getExpireAfterAccess() != null) {
+      builder.expireAfterAccess(config.getExpireAfterAccess());
+    }
+    this.pinning = config.isWeakKeys() ? new ClassPinning() : null;
+    this.accessorCache = pinning == null ? builder.build() : builder.weakKeys().weakValues()
+        .<Class<?>, PojoAccessor>removalListener((clazz, accessor, cause) -> {
+          if (clazz != null && accessor != null) {
+            pinning.unpin(clazz, clazz, accessor);
+          }
+        })
+        .build();
+  }
+
+  public PojoAccessor get(Class<?> key) {
+    Objects.requireNonNull(key, "Class cannot be null");
+    return pinning == null ? accessorCache.get(key, PojoAccessor::of)
+        : accessorCache.get(key, clazz -> pinning.pin(clazz, clazz, PojoAccessor.of(clazz)));
+  }
+
+  /** The underlying cache, for monitoring and management. */
+  public Cache<Class<?>, PojoAccessor> getCache() {
+    return accessorCache;
+  }
+}
@@ -0,0 +1,116 @@
+package io.github.syphen.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.syphen.config.SchemaCacheConfig;
+import io.github.syphen.engine.accessor.CompiledPojoAccessors;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.jfr.SchemaCacheMissEvent;
+import io.github.syphen.metrics.TransformationMetrics;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.utils.CommonUtil;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Caches the field schema of every POJO class, as configured by a {@link SchemaCacheConfig}.
+ * <p>
+ * A schema references the field types of its class, so with weak keys the schemas are held weakly
+ * too and pinned to their class, see {@link ClassPinning}.
+ * </p>
+ */
+public class PojoSchemaCache {
+
+  private final Cache<Class<?>, Map<String, FieldTypeDescriptor>> fieldAttributeCache;
+  private final Function<Class<?>, Map<String, FieldTypeDescriptor>> loader;
+  /** Pins the weakly held schemas to their class, {@code null} unless keys are weak. */
+  private final ClassPinning pinning;
+  /** Whether a {@link SchemaCacheMissEvent} is emitted for every inspected class. */
+  private final boolean flightRecorderEvents;
+
+  public PojoSchemaCache() {
+    this(SchemaCacheConfig.defaults(), TransformationMetrics.NOOP, false);
+  }
+
+  public PojoSchemaCache(SchemaCacheConfig config, TransformationMetrics metrics,
+      boolean recordStats) {
+    this(config, metrics, recordStats, false);
+  }
+
+  /**
+   * Creates a cache reporting the time of every class inspection to {@code metrics}.
+   *
+   * @param config               size, expiry, key strength and loader of the cache
+   * @param metrics              receiver of the {@link TransformationMetrics#schemaLoaded} events
+   * @param recordStats          whether the cache records hit, miss and load statistics even if
+   *                             the config does not ask for them, as the management beans need
+   *                             them
+   * @param flightRecorderEvents whether a {@link SchemaCacheMissEvent} is emitted for every
+   *                             inspected class
+   */
+  public PojoSchemaCache(SchemaCacheConfig config, TransformationMetrics metrics,
+      boolean recordStats, boolean flightRecorderEvents) {
+    this.flightRecorderEvents = flightRecorderEvents;
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(config.getMaximumSize());
+    if (config.getExpireAfterWrite() != null) {
+      builder.expireAfterWrite(config.getExpireAfterWrite());
+    }
+    if (config.getExpireAfterAccess() != null) {
+      builder.expireAfterAccess(config.getExpireAfterAccess());
+    }
+    if (recordStats || config.isRecordStats()) {
+      builder.recordStats();
+    }
+    this.pinning = config.isWeakKeys() ? new ClassPinning() : null;
+    this.fieldAttributeCache = pinning == null ? builder.build() : builder.weakKeys().weakValues()
+        .<Class<?>, Map<String, FieldTypeDescriptor>>removalListener((clazz, schema, cause) -> {
+          if (clazz != null && schema != null) {
+            pinning.unpin(clazz, clazz, schema);
+          }
+        })
+        .build();
+    Function<Class<?>, Map<String, FieldTypeDescriptor>> schemaLoader =
+        config.getLoader() != null ? config.getLoader() : PojoSchemaCache::inspect;
+    this.loader = metrics == TransformationMetrics.NOOP ? clazz -> loadSchema(clazz, schemaLoader)
+        : clazz -> {
+          long start = System.nanoTime();
+          Map<String, FieldTypeDescriptor> schema = loadSchema(clazz, schemaLoader);
+          metrics.schemaLoaded(clazz, System.nanoTime() - start);
+          return schema;
+        };
+  }
+
+  public Map<String, FieldTypeDescriptor> get(Class<?> key) {
+    Objects.requireNonNull(key, "Class cannot be null");
+    return fieldAttributeCache.get(key, loader);
+  }
+
+  /** The underlying cache, for monitoring and management. */
+  public Cache<Class<?>, Map<String, FieldTypeDescriptor>> getCache() {
+    return fieldAttributeCache;
+  }
+
+  private Map<String, FieldTypeDescriptor> loadSchema(Class<?> clazz,
+      Function<Class<?>, Map<String, FieldTypeDescriptor>> schemaLoader) {
+    SchemaCacheMissEvent event = flightRecorderEvents ? new SchemaCacheMissEvent() : null;
+    if (event != null) {
+      event.begin();
+    }
+    Map<String, FieldTypeDescriptor> schema = schemaLoader.apply(clazz);
+    if (schema == null) {
+      throw DataTransformationException.error(ErrorCode.TRANSFORMATION_ERROR, Map.of(
+          "detailMessage", "Schema loader returned null for " + clazz.getName()));
+    }
+    if (event != null) {
+      event.complete(clazz, schema.size());
+    }
+    return pinning == null ? schema : pinning.pin(clazz, clazz, schema);
+  }
+
+  private static Map<String, FieldTypeDescriptor> inspect(Class<?> clazz) {
+    return CompiledPojoAccessors.find(clazz)
+        .map(CommonUtil::inspectCompiledClass).orElseGet(() -> CommonUtil.inspectClass(clazz));
+  }
+}
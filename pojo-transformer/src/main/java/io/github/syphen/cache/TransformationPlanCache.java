@@ -0,0 +1,155 @@
+package io.github.syphen.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.syphen.engine.plan.PlanCompiler;
+import io.github.syphen.engine.plan.TransformationPlan;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+
+/**
+ * Caches compiled {@link TransformationPlan}s keyed by root class and transformation context.
+ * <p>
+ * Contexts are compared by value, so equal contexts built independently share the same plan. A
+ * lookup is made with the caller's context, but a key is detached from it before being stored: the
+ * cache keeps, and compiles from, a private deep copy, so a context mutated after a transformation
+ * neither corrupts the cache nor changes the plans already compiled from it.
+ * </p>
+ * <p>
+ * Stored keys reference their root class weakly. Plans reference the classes they were compiled
+ * for, so when classes are held weakly the plans are held weakly too and pinned to their root
+ * class, see {@link ClassPinning}.
+ * </p>
+ */
+public class TransformationPlanCache {
+
+  private static final int MAX_CACHE_SIZE = 1000;
+
+  private final Cache<PlanKey, TransformationPlan> planCache;
+  private final PlanCompiler planCompiler;
+  /** Pins the weakly held plans to their root class, {@code null} unless classes are weak. */
+  private final ClassPinning pinning;
+
+  public TransformationPlanCache(PlanCompiler planCompiler) {
+    this(planCompiler, false, false);
+  }
+
+  /**
+   * @param planCompiler compiler of the missing plans
+   * @param weakKeys     whether classes are held weakly, see
+   *                     {@link io.github.syphen.config.SchemaCacheConfig#isWeakKeys()}
+   * @param recordStats  whether the cache records hit, miss and load statistics
+   */
+  public TransformationPlanCache(PlanCompiler planCompiler, boolean weakKeys,
+      boolean recordStats) {
+    this.planCompiler = planCompiler;
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(MAX_CACHE_SIZE);
+    if (recordStats) {
+      builder.recordStats();
+    }
+    this.pinning = weakKeys ? new ClassPinning() : null;
+    this.planCache = pinning == null ? builder.build() : builder.weakValues()
+        .<PlanKey, TransformationPlan>removalListener((key, plan, cause) -> {
+          Class<?> rootClass = key == null ? null : key.rootClass();
+          if (rootClass != null && plan != null) {
+            pinning.unpin(rootClass, key, plan);
+          }
+        })
+        .build();
+  }
+
+  public TransformationPlan get(Class<?> rootClass, TransformationContext transformationContext) {
+    Objects.requireNonNull(rootClass, "Class cannot be null");
+    return planCache.get(new PlanKey(rootClass, transformationContext), key -> {
+      key.detach();
+      TransformationPlan plan = planCompiler.compile(rootClass, key.transformationContext);
+      return pinning == null ? plan : pinning.pin(rootClass, key, plan);
+    });
+  }
+
+  /** The underlying cache, for monitoring and management. */
+  public Cache<?, TransformationPlan> getCache() {
+    return planCache;
+  }
+
+  /**
+   * Deep copy of a context, held by the stored keys and compiled from; it is never handed out to
+   * callers, so it is never mutated.
+   */
+  private static TransformationContext copyOf(TransformationContext transformationContext) {
+    return transformationContext == null ? null
+        : new TransformationContext(transformationContext.getDefaultOperatorType(),
+            copyOf(transformationContext.getNodeContext()));
+  }
+
+  private static NodeContext copyOf(NodeContext nodeContext) {
+    return nodeContext == null ? null
+        : new NodeContext(nodeContext.getFieldName(), nodeContext.getOperateType(),
+            nodeContext.isTransformAllFields(), copyOf(nodeContext.getSkipFields()),
+            copyOf(nodeContext.getTransformFields()));
+  }
+
+  private static NodeContext[] copyOf(NodeContext[] nodeContexts) {
+    if (nodeContexts == null) {
+      return null;
+    }
+    NodeContext[] copies = new NodeContext[nodeContexts.length];
+    for (int i = 0; i < nodeContexts.length; i++) {
+      copies[i] = copyOf(nodeContexts[i]);
+    }
+    return copies;
+  }
+
+  /**
+   * Key of a plan. The hash is computed once, as Caffeine hashes a key more than once and hashing a
+   * context walks all of its node contexts.
+   */
+  private static final class PlanKey {
+
+    /** The root class until {@link #detach()}, {@code null} afterward. */
+    private Class<?> rootClass;
+    /** Weak reference to the root class once detached. */
+    private WeakReference<Class<?>> rootClassReference;
+    /** The caller's context until {@link #detach()}, a private copy afterward. */
+    private TransformationContext transformationContext;
+    private final int hash;
+
+    private PlanKey(Class<?> rootClass, TransformationContext transformationContext) {
+      this.rootClass = rootClass;
+      this.transformationContext = transformationContext;
+      this.hash = 31 * rootClass.hashCode() + Objects.hashCode(transformationContext);
+    }
+
+    /**
+     * Replaces the caller's context with an equal private copy and the root class with a weak
+     * reference. Called by the loader, before Caffeine stores the key and makes it visible to other
+     * threads.
+     */
+    private void detach() {
+      transformationContext = copyOf(transformationContext);
+      rootClassReference = new WeakReference<>(rootClass);
+      rootClass = null;
+    }
+
+    /**
+     * @return the root class, {@code null} once a stored key's class has been collected
+     */
+    private Class<?> rootClass() {
+      return rootClassReference == null ? rootClass : rootClassReference.get();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o || o instanceof PlanKey other && hash == other.hash
+          && rootClass() == other.rootClass()
+          && Objects.equals(transformationContext, other.transformationContext);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
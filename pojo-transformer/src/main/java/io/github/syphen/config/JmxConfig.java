@@ -0,0 +1,32 @@
+package io.github.syphen.config;
+
+import javax.management.MBeanServer;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Registration of the management beans of a {@link io.github.syphen.TransformerFactory}: the
+ * statistics of its caches, its registered operators and the throughput of its transformer. Cache
+ * statistics are only recorded when enabled.
+ */
+@Value
+@Builder
+public class JmxConfig {
+
+  @Builder.Default
+  boolean enabled = false;
+
+  @Builder.Default
+  String domain = "io.github.syphen";
+
+  /** Distinguishes the MBeans of several factories registered with the same server. */
+  @Builder.Default
+  String name = "default";
+
+  /** Server the MBeans are registered with; the platform server when not set. */
+  MBeanServer server;
+
+  public static JmxConfig disabled() {
+    return JmxConfig.builder().build();
+  }
+}
@@ -0,0 +1,38 @@
+package io.github.syphen.config;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Caching of the results of operators declared
+ * {@link io.github.syphen.annotation.RegisterOperator#pure() pure}. Results are cached by
+ * operator key, input value and input class, for scalar input values only. All pure operators of
+ * a factory share one bounded cache.
+ */
+@Value
+@Builder
+public class OperatorCacheConfig {
+
+  @Builder.Default
+  boolean enabled = true;
+
+  /** Maximum number of cached results over all pure operators. */
+  @Builder.Default
+  long maximumSize = 10_000;
+
+  /** Time after which a cached result is computed again; results do not expire when not set. */
+  Duration expireAfterWrite;
+
+  /** Whether the cache records hit, miss and eviction statistics. */
+  @Builder.Default
+  boolean recordStats = true;
+
+  public static OperatorCacheConfig defaults() {
+    return OperatorCacheConfig.builder().build();
+  }
+
+  public static OperatorCacheConfig disabled() {
+    return OperatorCacheConfig.builder().enabled(false).build();
+  }
+}
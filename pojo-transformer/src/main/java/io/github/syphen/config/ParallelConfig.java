@@ -0,0 +1,35 @@
+package io.github.syphen.config;
+
+import java.util.concurrent.ForkJoinPool;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Parallel execution of the tree based transformation. When enabled, large arrays are split into
+ * chunks and large sibling nested subtrees are transformed as separate tasks of a
+ * {@link ForkJoinPool}; anything below the threshold is transformed sequentially.
+ * <p>
+ * Operators are called concurrently in this mode and must be thread-safe.
+ * </p>
+ */
+@Value
+@Builder
+public class ParallelConfig {
+
+  @Builder.Default
+  boolean enabled = false;
+
+  /** Pool running the tasks; the common pool is used when not set. */
+  ForkJoinPool pool;
+
+  /**
+   * Arrays and nested values with at least this many children are split into tasks, and arrays
+   * are split into chunks of at most this many elements.
+   */
+  @Builder.Default
+  int threshold = 1024;
+
+  public static ParallelConfig disabled() {
+    return ParallelConfig.builder().build();
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.syphen.config;
+
+import io.github.syphen.model.FieldTypeDescriptor;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Caching of the field schemas of POJO classes by the
+ * {@link io.github.syphen.cache.PojoSchemaCache}. The schema of a loaded class never changes, so
+ * schemas do not expire by default.
+ */
+@Value
+@Builder
+public class SchemaCacheConfig {
+
+  /** Maximum number of cached class schemas. */
+  @Builder.Default
+  long maximumSize = 1000;
+
+  /** Time after which a schema is inspected again; schemas do not expire when not set. */
+  Duration expireAfterWrite;
+
+  /** Time without access after which a schema is evicted; schemas are kept when not set. */
+  Duration expireAfterAccess;
+
+  /**
+   * Whether classes are held weakly, so that the caches do not keep their class loaders alive,
+   * e.g. when plugins are unloaded. Applies to the schemas as well as to the accessors, plans and
+   * generated transformers derived from them, which are then kept as long as their class. Jackson's
+   * own caches are not affected, and the tree engine converts whole objects through them.
+   */
+  @Builder.Default
+  boolean weakKeys = false;
+
+  /** Whether the cache records hit, miss and load statistics; always on when JMX is enabled. */
+  @Builder.Default
+  boolean recordStats = false;
+
+  /**
+   * Inspects a class on a cache miss and returns its schema, keyed by field name; the build-time
+   * accessor of the class or reflection is used when not set. A {@code null} schema fails
+   * the transformation with {@code TRANSFORMATION_ERROR}.
+   */
+  Function<Class<?>, Map<String, FieldTypeDescriptor>> loader;
+
+  public static SchemaCacheConfig defaults() {
+    return SchemaCacheConfig.builder().build();
+  }
+}
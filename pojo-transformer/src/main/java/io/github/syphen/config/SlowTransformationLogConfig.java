@@ -0,0 +1,30 @@
+package io.github.syphen.config;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Logging of transformations slower than a threshold. A sample of the calls is profiled, so the
+ * log record of a slow sampled call lists the time spent in the operators of every field path.
+ * Slow calls outside of the sample are logged with their total time only.
+ */
+@Value
+@Builder
+public class SlowTransformationLogConfig {
+
+  @Builder.Default
+  boolean enabled = false;
+
+  /** Calls lasting at least this long are logged. */
+  @Builder.Default
+  Duration threshold = Duration.ofMillis(100);
+
+  /** One in this many calls is profiled; 1 profiles every call. */
+  @Builder.Default
+  int sampleInterval = 100;
+
+  public static SlowTransformationLogConfig disabled() {
+    return SlowTransformationLogConfig.builder().build();
+  }
+}
@@ -0,0 +1,27 @@
+package io.github.syphen.config;
+
+/**
+ * Engine used by {@link io.github.syphen.Transformer#transform} to turn an object into its
+ * transformed copy.
+ */
+public enum TransformationEngineType {
+
+  /**
+   * Converts the whole object into a {@code JsonNode} tree, transforms the tree and converts it
+   * back into a new, deep copied object.
+   */
+  TREE,
+
+  /**
+   * Shallow copies the object through cached field accessors and only converts the targeted values
+   * for the operators. Falls back to {@link #TREE} for classes that cannot be copied directly.
+   */
+  ACCESSOR,
+
+  /**
+   * Like {@link #ACCESSOR}, but generates a hidden class per compiled plan with straight-line code
+   * that copies the object and applies the resolved operators. Falls back to {@link #ACCESSOR} for
+   * classes the generated code cannot access.
+   */
+  GENERATED
+}
@@ -0,0 +1,78 @@
+package io.github.syphen.config;
+
+import io.github.syphen.metrics.TransformationMetrics;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Configuration of the {@link io.github.syphen.Transformer} built by the
+ * {@link io.github.syphen.TransformerFactory}.
+ */
+@Value
+@Builder
+public class TransformerConfig {
+
+  /** Packages scanned for operators; the whole classpath is scanned when empty. */
+  @Builder.Default
+  List<String> operatorPackages = List.of();
+
+  /**
+   * Whether operators are loaded from the indexes written at build time by the
+   * {@code pojo-transformer-processor} module, see {@link io.github.syphen.factory.OperatorIndex};
+   * only the classpath entries without an index are then scanned. Enabled by default.
+   */
+  @Builder.Default
+  boolean operatorIndex = true;
+
+  @Builder.Default
+  TransformationEngineType engineType = TransformationEngineType.TREE;
+
+  /** Parallel execution of large arrays and nested subtrees; disabled by default. */
+  @Builder.Default
+  ParallelConfig parallelConfig = ParallelConfig.disabled();
+
+  /**
+   * Executor running {@code transformAsync} calls; a virtual-thread-per-task executor when the
+   * runtime supports it, the common pool otherwise, when not set.
+   */
+  Executor asyncExecutor;
+
+  /**
+   * Receiver of transformation, operator and schema cache measurements; nothing is measured by
+   * default.
+   */
+  @Builder.Default
+  TransformationMetrics metrics = TransformationMetrics.NOOP;
+
+  /**
+   * Whether Java Flight Recorder events are emitted for transformations, schema cache misses and
+   * slow operator calls; recordings still decide which events are recorded.
+   */
+  @Builder.Default
+  boolean flightRecorderEvents = false;
+
+  /**
+   * Caching of the field schemas and accessors of POJO classes; bounded, without expiry, by
+   * default.
+   */
+  @Builder.Default
+  SchemaCacheConfig schemaCacheConfig = SchemaCacheConfig.defaults();
+
+  /** Caching of the results of pure operators; enabled by default. */
+  @Builder.Default
+  OperatorCacheConfig operatorCacheConfig = OperatorCacheConfig.defaults();
+
+  /** Logging of slow transformations; disabled by default. */
+  @Builder.Default
+  SlowTransformationLogConfig slowTransformationLogConfig = SlowTransformationLogConfig.disabled();
+
+  /** Registration of management beans; disabled by default. */
+  @Builder.Default
+  JmxConfig jmxConfig = JmxConfig.disabled();
+
+  public static TransformerConfig defaults() {
+    return TransformerConfig.builder().build();
+  }
+}
@@ -0,0 +1,21 @@
+package io.github.syphen.engine.accessor;
+
+import lombok.Value;
+
+/**
+ * Build-time description of a declared field, as written by the annotation processor into a
+ * {@link CompiledPojoAccessor}.
+ */
+@Value
+public class CompiledField {
+
+  String name;
+  Class<?> type;
+  /** Element class of a collection field, as {@code CommonUtil.getGenericClass} resolves it. */
+  Class<?> genericType;
+  /** Generic type in the canonical form understood by Jackson's {@code TypeFactory}. */
+  String canonicalType;
+  Class<?> declaringClass;
+  /** Modifiers of the field, using the {@link java.lang.reflect.Modifier} bit values. */
+  int modifiers;
+}
@@ -0,0 +1,50 @@
+package io.github.syphen.engine.accessor;
+
+import java.util.List;
+
+/**
+ * Field access to a POJO class generated at build time for classes annotated with
+ * {@link io.github.syphen.annotation.Transformable}.
+ * <p>
+ * Implementations are named after the POJO's binary name followed by {@link #CLASS_NAME_SUFFIX},
+ * live in the POJO's package and access fields through plain field reads and writes or the POJO's
+ * getters and setters. They are located by {@link CompiledPojoAccessors} and preferred over
+ * reflection by {@link PojoAccessor} and {@code PojoSchemaCache}.
+ * </p>
+ *
+ * @param <T> the POJO class
+ */
+public interface CompiledPojoAccessor<T> {
+
+  String CLASS_NAME_SUFFIX = "$$PojoAccessor";
+
+  Class<T> getPojoClass();
+
+  /**
+   * @return every declared field of the class and its super classes, including static fields,
+   *     super classes first; indexes into this list are used by {@link #get} and {@link #set}
+   */
+  List<CompiledField> getFields();
+
+  T newInstance();
+
+  /**
+   * @param source the instance to copy
+   * @return a new instance holding the same field references as the source
+   */
+  T copy(T source);
+
+  /**
+   * @param target     the instance to read from
+   * @param fieldIndex index of an instance field in {@link #getFields()}
+   * @return the field value
+   */
+  Object get(T target, int fieldIndex);
+
+  /**
+   * @param target     the instance to write to
+   * @param fieldIndex index of an instance field in {@link #getFields()}
+   * @param value      the new value, never {@code null} for primitive fields
+   */
+  void set(T target, int fieldIndex, Object value);
+}
@@ -0,0 +1,54 @@
+package io.github.syphen.engine.accessor;
+
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Locates the {@link CompiledPojoAccessor} generated at build time for a POJO class. The lookup
+ * result is remembered per class, so a missing accessor costs a single failed class load.
+ */
+public final class CompiledPojoAccessors {
+
+  private static final Logger log = LoggerFactory.getLogger(CompiledPojoAccessors.class);
+
+  private static final ClassValue<Optional<CompiledPojoAccessor<?>>> ACCESSORS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<CompiledPojoAccessor<?>> computeValue(Class<?> type) {
+          return load(type);
+        }
+      };
+
+  private CompiledPojoAccessors() {}
+
+  /**
+   * @param pojoClass the POJO class
+   * @return the generated accessor of the class, or empty if none was generated
+   */
+  public static Optional<CompiledPojoAccessor<?>> find(Class<?> pojoClass) {
+    if (pojoClass == null || pojoClass.isPrimitive() || pojoClass.isArray()
+        || pojoClass.isInterface()) {
+      return Optional.empty();
+    }
+    return ACCESSORS.get(pojoClass);
+  }
+
+  private static Optional<CompiledPojoAccessor<?>> load(Class<?> pojoClass) {
+    final String accessorName = pojoClass.getName() + CompiledPojoAccessor.CLASS_NAME_SUFFIX;
+    try {
+      Class<?> accessorClass = Class.forName(accessorName, true, pojoClass.getClassLoader());
+      if (!CompiledPojoAccessor.class.isAssignableFrom(accessorClass)) {
+        return Optional.empty();
+      }
+      CompiledPojoAccessor<?> accessor = (CompiledPojoAccessor<?>) accessorClass
+          .getConstructor().newInstance();
+      return accessor.getPojoClass() == pojoClass ? Optional.of(accessor) : Optional.empty();
+    } catch (ClassNotFoundException e) {
+      return Optional.empty();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      log.warn("Ignoring generated accessor {}: {}", accessorName, e.toString());
+      return Optional.empty();
+    }
+  }
+}
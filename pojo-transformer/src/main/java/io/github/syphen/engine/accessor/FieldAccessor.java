@@ -0,0 +1,142 @@
+package io.github.syphen.engine.accessor;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.github.syphen.utils.MapperUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Cached read/write access to a single instance field, either through a {@link VarHandle} or
+ * through the {@link CompiledPojoAccessor} generated for the field's class at build time.
+ */
+@Getter
+public class FieldAccessor {
+
+  private final String name;
+  private final Class<?> type;
+  private final Class<?> declaringClass;
+  private final int modifiers;
+  /** Full generic type of the field, used when values have to be converted by Jackson. */
+  private final JavaType javaType;
+  /** {@code false} for transient fields, which the tree based path never sees. */
+  private final boolean transformable;
+  /**
+   * Creates an empty collection that can be assigned to the field from the original value, or
+   * {@code null} if the field is not a collection or no suitable implementation is known.
+   */
+  private final Function<Collection<?>, Collection<Object>> collectionFactory;
+  private final VarHandle varHandle;
+  @Getter(AccessLevel.NONE)
+  private final CompiledPojoAccessor<Object> compiledAccessor;
+  @Getter(AccessLevel.NONE)
+  private final int fieldIndex;
+  private final Object defaultValue;
+
+  FieldAccessor(Field field, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+    this.name = field.getName();
+    this.type = field.getType();
+    this.declaringClass = field.getDeclaringClass();
+    this.modifiers = field.getModifiers();
+    this.javaType = MapperUtil.getObjectMapper().constructType(field.getGenericType());
+    this.transformable = !Modifier.isTransient(field.getModifiers());
+    this.collectionFactory = Collection.class.isAssignableFrom(type)
+        ? resolveCollectionFactory(type, lookup) : null;
+    this.varHandle = lookup.unreflectVarHandle(field);
+    this.compiledAccessor = null;
+    this.fieldIndex = -1;
+    this.defaultValue = defaultValueOf(type);
+  }
+
+  FieldAccessor(CompiledPojoAccessor<Object> compiledAccessor, int fieldIndex) {
+    final CompiledField field = compiledAccessor.getFields().get(fieldIndex);
+    this.name = field.getName();
+    this.type = field.getType();
+    this.declaringClass = field.getDeclaringClass();
+    this.modifiers = field.getModifiers();
+    this.javaType = resolveJavaType(field);
+    this.transformable = !Modifier.isTransient(field.getModifiers());
+    this.collectionFactory = Collection.class.isAssignableFrom(type)
+        ? resolveCollectionFactory(type, MethodHandles.publicLookup()) : null;
+    this.varHandle = null;
+    this.compiledAccessor = compiledAccessor;
+    this.fieldIndex = fieldIndex;
+    this.defaultValue = defaultValueOf(type);
+  }
+
+  public Object get(Object target) {
+    return compiledAccessor != null ? compiledAccessor.get(target, fieldIndex)
+        : varHandle.get(target);
+  }
+
+  /**
+   * Writes the value, using the type's default for {@code null} on primitive fields just like
+   * Jackson does when deserializing a {@code null}.
+   */
+  public void set(Object target, Object value) {
+    final Object newValue = value == null ? defaultValue : value;
+    if (compiledAccessor != null) {
+      compiledAccessor.set(target, fieldIndex, newValue);
+    } else {
+      varHandle.set(target, newValue);
+    }
+  }
+
+  private static Object defaultValueOf(Class<?> type) {
+    return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+  }
+
+  private static JavaType resolveJavaType(CompiledField field) {
+    try {
+      return MapperUtil.getObjectMapper().getTypeFactory()
+          .constructFromCanonical(field.getCanonicalType());
+    } catch (IllegalArgumentException e) {
+      return MapperUtil.getObjectMapper().constructType(field.getType());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Collection<?>, Collection<Object>> resolveCollectionFactory(
+      Class<?> type, MethodHandles.Lookup lookup) {
+    if (SortedSet.class.isAssignableFrom(type) && type.isAssignableFrom(TreeSet.class)) {
+      return original -> new TreeSet<>(((SortedSet<Object>) original).comparator());
+    }
+    if (type.isAssignableFrom(ArrayList.class)) {
+      return original -> new ArrayList<>(original.size());
+    }
+    if (type.isAssignableFrom(LinkedHashSet.class)) {
+      return original -> new LinkedHashSet<>();
+    }
+    if (type.isAssignableFrom(LinkedList.class)) {
+      return original -> new LinkedList<>();
+    }
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    try {
+      MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+      return original -> {
+        try {
+          return (Collection<Object>) constructor.invoke();
+        } catch (Throwable t) {
+          throw new IllegalStateException("Failed to instantiate " + type.getName(), t);
+        }
+      };
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+}
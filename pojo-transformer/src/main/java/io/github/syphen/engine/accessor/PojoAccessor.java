@@ -0,0 +1,158 @@
+package io.github.syphen.engine.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cached constructor and field accessors of a POJO class, used to shallow copy instances and to
+ * read or write individual fields without going through a JSON tree.
+ * <p>
+ * A class is only {@link #isSupported() supported} if it is a concrete class with a no-arg
+ * constructor and no final instance fields, and if its package is open to this library. Callers
+ * fall back to the tree based path for anything else. Classes with a
+ * {@link CompiledPojoAccessor} generated at build time are always supported and accessed through
+ * the generated code instead of reflection.
+ * </p>
+ */
+public class PojoAccessor {
+
+  private static final Logger log = LoggerFactory.getLogger(PojoAccessor.class);
+
+  @Getter
+  private final Class<?> pojoClass;
+  @Getter
+  private final boolean supported;
+  private final MethodHandle constructor;
+  private final CompiledPojoAccessor<Object> compiledAccessor;
+  /** Every instance field, including shadowed fields of super classes, super classes first. */
+  @Getter
+  private final List<FieldAccessor> fields;
+  /** Most derived field for each name, matching {@code CommonUtil.inspectClass}. */
+  private final Map<String, FieldAccessor> fieldsByName;
+
+  private PojoAccessor(Class<?> pojoClass, MethodHandle constructor,
+      CompiledPojoAccessor<Object> compiledAccessor, List<FieldAccessor> fields) {
+    this.pojoClass = pojoClass;
+    this.supported = constructor != null || compiledAccessor != null;
+    this.constructor = constructor;
+    this.compiledAccessor = compiledAccessor;
+    this.fields = List.copyOf(fields);
+    Map<String, FieldAccessor> byName = new HashMap<>();
+    for (FieldAccessor field : this.fields) {
+      byName.put(field.getName(), field);
+    }
+    this.fieldsByName = Collections.unmodifiableMap(byName);
+  }
+
+  /**
+   * Inspects the class and builds its accessors.
+   *
+   * @param pojoClass class to inspect
+   * @return the accessor, not {@link #isSupported() supported} if the class cannot be copied
+   */
+  public static PojoAccessor of(Class<?> pojoClass) {
+    Optional<CompiledPojoAccessor<?>> compiledAccessor = CompiledPojoAccessors.find(pojoClass);
+    if (compiledAccessor.isPresent()) {
+      return of(pojoClass, compiledAccessor.get());
+    }
+    if (pojoClass.isInterface() || pojoClass.isArray() || pojoClass.isPrimitive()
+        || pojoClass.isEnum() || pojoClass.isRecord()
+        || Modifier.isAbstract(pojoClass.getModifiers())) {
+      return unsupported(pojoClass);
+    }
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(pojoClass,
+          MethodHandles.lookup());
+      List<FieldAccessor> fields = new ArrayList<>();
+      for (Class<?> current = pojoClass; current != null && current != Object.class;
+          current = current.getSuperclass()) {
+        MethodHandles.Lookup currentLookup = current == pojoClass ? lookup
+            : MethodHandles.privateLookupIn(current, MethodHandles.lookup());
+        List<FieldAccessor> declared = new ArrayList<>();
+        for (Field field : current.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers())) {
+            continue;
+          }
+          if (Modifier.isFinal(field.getModifiers())) {
+            return unsupported(pojoClass);
+          }
+          declared.add(new FieldAccessor(field, currentLookup));
+        }
+        fields.addAll(0, declared);
+      }
+      MethodHandle constructor = lookup.findConstructor(pojoClass,
+          MethodType.methodType(void.class));
+      return new PojoAccessor(pojoClass, constructor, null, fields);
+    } catch (Throwable t) {
+      log.debug("Class {} cannot be accessed directly: {}", pojoClass.getName(), t.getMessage());
+      return unsupported(pojoClass);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PojoAccessor of(Class<?> pojoClass, CompiledPojoAccessor<?> compiledAccessor) {
+    CompiledPojoAccessor<Object> accessor = (CompiledPojoAccessor<Object>) compiledAccessor;
+    List<FieldAccessor> fields = new ArrayList<>();
+    List<CompiledField> compiledFields = accessor.getFields();
+    for (int i = 0; i < compiledFields.size(); i++) {
+      if (!Modifier.isStatic(compiledFields.get(i).getModifiers())) {
+        fields.add(new FieldAccessor(accessor, i));
+      }
+    }
+    return new PojoAccessor(pojoClass, null, accessor, fields);
+  }
+
+  private static PojoAccessor unsupported(Class<?> pojoClass) {
+    return new PojoAccessor(pojoClass, null, null, List.of());
+  }
+
+  /**
+   * @return {@code true} if the class is accessed through a {@link CompiledPojoAccessor}
+   */
+  public boolean isCompiled() {
+    return compiledAccessor != null;
+  }
+
+  /**
+   * Creates a new instance and copies every field reference of the source into it.
+   *
+   * @param source instance of {@link #getPojoClass()}
+   * @return the shallow copy
+   */
+  public Object copy(Object source) {
+    if (compiledAccessor != null) {
+      return compiledAccessor.copy(source);
+    }
+    try {
+      Object copy = constructor.invoke();
+      for (FieldAccessor field : fields) {
+        field.set(copy, field.get(source));
+      }
+      return copy;
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("Failed to copy " + pojoClass.getName(), t);
+    }
+  }
+
+  /**
+   * @param fieldName name of the field
+   * @return the accessor of the most derived field with that name, or {@code null}
+   */
+  public FieldAccessor getField(String fieldName) {
+    return fieldsByName.get(fieldName);
+  }
+}
@@ -0,0 +1,116 @@
+package io.github.syphen.engine.accessor;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import io.github.syphen.utils.MapperUtil;
+import java.util.Map;
+
+/**
+ * Calls the specialized hooks of an operator with field values, converting between the declared
+ * type of the field and the type of the hook. Used by the accessor engine and by generated
+ * transformers for the steps whose {@code FieldPlan} has a scalar type.
+ */
+public final class ScalarHooks {
+
+  private ScalarHooks() {
+  }
+
+  /**
+   * @param operator   operator with a hook for {@code scalarType}
+   * @param scalarType family of the value
+   * @param value      non-null value, boxed for primitive fields
+   * @param fieldType  declared type of the field or of the collection elements
+   * @return the new value, of the declared type
+   * @throws DataTransformationException if the result does not fit an {@code int} or
+   *                                     {@code float} field
+   */
+  public static Object apply(BaseOperator operator, ScalarType scalarType, Object value,
+      Class<?> fieldType) {
+    return switch (scalarType) {
+      case TEXT -> toString(operator.applyText((String) value));
+      case LONG -> narrow(operator.applyLong(((Number) value).longValue()), fieldType);
+      case DOUBLE -> narrow(operator.applyDouble(((Number) value).doubleValue()), fieldType);
+      case BOOLEAN -> operator.applyBoolean((Boolean) value);
+    };
+  }
+
+  /**
+   * Text hook for a {@code String} field, falling back to the generic method for {@code null}.
+   */
+  public static String applyText(BaseOperator operator, String value, Class<?> inputClass,
+      JavaType javaType) {
+    if (value == null) {
+      return (String) MapperUtil.toValue(operator.apply(NullNode.getInstance(), inputClass),
+          javaType);
+    }
+    return toString(operator.applyText(value));
+  }
+
+  /**
+   * Long hook for an {@code int} field.
+   *
+   * @throws DataTransformationException if the result does not fit an {@code int}
+   */
+  public static int applyInt(BaseOperator operator, int value) {
+    return toInt(operator.applyLong(value));
+  }
+
+  /**
+   * Double hook for a {@code float} field.
+   *
+   * @throws DataTransformationException if the result does not fit a {@code float}
+   */
+  public static float applyFloat(BaseOperator operator, float value) {
+    return toFloat(operator.applyDouble(value));
+  }
+
+  /**
+   * Boxes a result as the declared type; not a conditional expression, which would promote the
+   * narrowed value back to the wider type.
+   */
+  private static Object narrow(long result, Class<?> fieldType) {
+    if (fieldType == int.class || fieldType == Integer.class) {
+      return toInt(result);
+    }
+    return result;
+  }
+
+  private static Object narrow(double result, Class<?> fieldType) {
+    if (fieldType == float.class || fieldType == Float.class) {
+      return toFloat(result);
+    }
+    return result;
+  }
+
+  private static int toInt(long result) {
+    if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+      throw outOfRange(result, "int");
+    }
+    return (int) result;
+  }
+
+  /**
+   * Narrows a result to a {@code float}. Precision may be lost, but a finite result may not turn
+   * into an infinity.
+   */
+  private static float toFloat(double result) {
+    float narrowed = (float) result;
+    if (Float.isInfinite(narrowed) && !Double.isInfinite(result)) {
+      throw outOfRange(result, "float");
+    }
+    return narrowed;
+  }
+
+  private static DataTransformationException outOfRange(Object result, String fieldType) {
+    return DataTransformationException.error(ErrorCode.TRANSFORMATION_ERROR, Map.of(
+        "detailMessage", "Operator result " + result + " does not fit a " + fieldType + " field"));
+  }
+
+  private static String toString(CharSequence text) {
+    return text == null ? null : text.toString();
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.syphen.engine.delegate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.processor.JsonProcessor;
+import io.github.syphen.factory.ProcessorSelector;
+import lombok.AllArgsConstructor;
+
+/**
+ * Delegates the execution of a compiled node plan by selecting and applying the appropriate
+ * processor. This class abstracts the application of transformation strategies on nested JSON
+ * structures.
+ */
+@AllArgsConstructor
+public class NodeTransformer {
+
+  private ProcessorSelector processorSelector;
+
+  /**
+   * Executes a compiled node plan on the given JSON node using the processor selected based on
+   * the node's type.
+   *
+   * @param node     the JSON node to be transformed
+   * @param nodePlan the compiled plan of the POJO class corresponding to the node
+   */
+  public void applyPlan(JsonNode node, NodePlan nodePlan) {
+    if (node == null || nodePlan == null || nodePlan.isEmpty()) {
+      return;
+    }
+    JsonProcessor processor = processorSelector.getProcessor(node);
+    if (processor != null) {
+      processor.transform(node, nodePlan);
+    }
+  }
+}
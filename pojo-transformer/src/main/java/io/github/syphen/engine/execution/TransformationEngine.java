@@ -0,0 +1,12 @@
+package io.github.syphen.engine.execution;
+
+import io.github.syphen.engine.plan.NodePlan;
+
+/**
+ * Executes a compiled {@link NodePlan} on an object and returns the transformed object. The input
+ * is never modified.
+ */
+public interface TransformationEngine {
+
+  <T> T transform(T input, NodePlan nodePlan);
+}
@@ -0,0 +1,159 @@
+package io.github.syphen.engine.execution.impl;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.github.syphen.cache.PojoAccessorCache;
+import io.github.syphen.engine.accessor.FieldAccessor;
+import io.github.syphen.engine.accessor.PojoAccessor;
+import io.github.syphen.engine.accessor.ScalarHooks;
+import io.github.syphen.engine.execution.TransformationEngine;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import io.github.syphen.utils.MapperUtil;
+import java.util.Collection;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+
+/**
+ * Engine that transforms POJOs directly through cached field accessors instead of a JSON tree.
+ * <p>
+ * The result is a shallow copy of the input: fields that are not targeted by the plan share their
+ * values with the input, nested POJOs targeted by the plan are copied recursively and operators
+ * are only called on the targeted values. Only those values are converted to and from
+ * {@link JsonNode} for the operator, unless the operator has a specialized hook for their type.
+ * Objects whose class cannot be accessed directly (see {@link PojoAccessor}) are transformed
+ * through the {@link TreeTransformationEngine} instead.
+ * </p>
+ */
+@AllArgsConstructor
+public class AccessorTransformationEngine implements TransformationEngine {
+
+  private final PojoAccessorCache pojoAccessorCache;
+  private final TreeTransformationEngine treeTransformationEngine;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T transform(T input, NodePlan nodePlan) {
+    return (T) transformObject(input, nodePlan);
+  }
+
+  /**
+   * Transforms a single POJO, returning a copy of it.
+   *
+   * @param input    the POJO, may be {@code null}
+   * @param nodePlan compiled plan of the POJO's class
+   * @return the transformed copy
+   */
+  public Object transformObject(Object input, NodePlan nodePlan) {
+    if (input == null || nodePlan == null || nodePlan.isEmpty()) {
+      return input;
+    }
+    PojoAccessor accessor = pojoAccessorCache.get(input.getClass());
+    if (!accessor.isSupported()) {
+      return treeTransformationEngine.transformValue(input,
+          MapperUtil.getObjectMapper().constructType(input.getClass()), nodePlan);
+    }
+    Object copy = accessor.copy(input);
+    for (FieldPlan fieldPlan : nodePlan.getFieldPlans()) {
+      FieldAccessor field = accessor.getField(fieldPlan.getFieldName());
+      if (field == null || !field.isTransformable()) {
+        continue;
+      }
+      Object value = field.get(copy);
+      if (fieldPlan.getOperator() != null) {
+        field.set(copy, applyOperator(value, field.getJavaType(), field.getCollectionFactory(),
+            fieldPlan));
+      } else {
+        field.set(copy, transformNested(value, field.getJavaType(), field.getCollectionFactory(),
+            fieldPlan.getNestedPlan()));
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Mirrors {@code DirectValueTransformationStrategy}: collections have the operator applied per
+   * element, any other value is replaced by the operator result. When the step has a scalar type,
+   * non-null values and elements go to the specialized hook of the operator without
+   * {@link JsonNode} conversions.
+   *
+   * @param value             current value of the field
+   * @param javaType          generic type of the field
+   * @param collectionFactory factory for the field's collection type, may be {@code null}
+   * @param fieldPlan         direct value step of the field
+   * @return the new value of the field
+   */
+  public Object applyOperator(Object value, JavaType javaType,
+      Function<Collection<?>, Collection<Object>> collectionFactory, FieldPlan fieldPlan) {
+    final FieldTypeDescriptor fieldTypeInfo = fieldPlan.getFieldTypeDescriptor();
+    final BaseOperator operator = fieldPlan.getOperator();
+    final ScalarType scalarType = fieldPlan.getScalarType();
+    if (scalarType != null && value != null) {
+      if (!fieldTypeInfo.isCollection()) {
+        return ScalarHooks.apply(operator, scalarType, value, javaType.getRawClass());
+      }
+      if (value instanceof Collection<?> collection && collectionFactory != null) {
+        return applyToElements(collection, javaType.getContentType(), collectionFactory,
+            fieldPlan);
+      }
+    }
+    final JsonNode node = MapperUtil.toNode(value);
+    if (fieldTypeInfo.isCollection()) {
+      if (!node.isArray()) {
+        return value;
+      }
+      ArrayNode arrayNode = (ArrayNode) node;
+      for (int i = 0; i < arrayNode.size(); i++) {
+        arrayNode.set(i, operator.apply(arrayNode.get(i), fieldTypeInfo.getEffectiveType()));
+      }
+      return MapperUtil.toValue(arrayNode, javaType);
+    }
+    return MapperUtil.toValue(operator.apply(node, fieldTypeInfo.getEffectiveType()), javaType);
+  }
+
+  private Collection<Object> applyToElements(Collection<?> collection, JavaType elementType,
+      Function<Collection<?>, Collection<Object>> collectionFactory, FieldPlan fieldPlan) {
+    final BaseOperator operator = fieldPlan.getOperator();
+    final Class<?> elementClass = fieldPlan.getFieldTypeDescriptor().getEffectiveType();
+    Collection<Object> result = collectionFactory.apply(collection);
+    for (Object element : collection) {
+      result.add(element == null
+          ? MapperUtil.toValue(operator.apply(NullNode.getInstance(), elementClass), elementType)
+          : ScalarHooks.apply(operator, fieldPlan.getScalarType(), element, elementClass));
+    }
+    return result;
+  }
+
+  /**
+   * Transforms the value of a nested step: a POJO is copied and transformed, a collection is
+   * rebuilt with each element transformed.
+   *
+   * @param value             current value of the field
+   * @param javaType          generic type of the field
+   * @param collectionFactory factory for the field's collection type, may be {@code null}
+   * @param nestedPlan        compiled plan of the nested POJO class
+   * @return the new value of the field
+   */
+  public Object transformNested(Object value, JavaType javaType,
+      Function<Collection<?>, Collection<Object>> collectionFactory, NodePlan nestedPlan) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Collection<?> collection && collectionFactory != null) {
+      Collection<Object> result = collectionFactory.apply(collection);
+      for (Object element : collection) {
+        result.add(transformObject(element, nestedPlan));
+      }
+      return result;
+    }
+    if (value instanceof Collection<?> || value.getClass().isArray()) {
+      return treeTransformationEngine.transformValue(value, javaType, nestedPlan);
+    }
+    return transformObject(value, nestedPlan);
+  }
+}
@@ -0,0 +1,39 @@
+package io.github.syphen.engine.execution.impl;
+
+import io.github.syphen.cache.GeneratedTransformerCache;
+import io.github.syphen.cache.PojoAccessorCache;
+import io.github.syphen.engine.generation.GeneratedTransformer;
+import io.github.syphen.engine.generation.TransformerClassGenerator;
+import io.github.syphen.engine.plan.NodePlan;
+
+/**
+ * Engine that runs a transformer generated at runtime for each compiled plan (see
+ * {@link TransformerClassGenerator}). Objects for which no transformer could be generated, or whose
+ * runtime class differs from the plan's class, go through the {@link AccessorTransformationEngine}
+ * path instead.
+ */
+public class GeneratedTransformationEngine extends AccessorTransformationEngine {
+
+  private final GeneratedTransformerCache generatedTransformerCache;
+
+  public GeneratedTransformationEngine(PojoAccessorCache pojoAccessorCache,
+      TreeTransformationEngine treeTransformationEngine) {
+    super(pojoAccessorCache, treeTransformationEngine);
+    this.generatedTransformerCache = new GeneratedTransformerCache(
+        new TransformerClassGenerator(pojoAccessorCache, this));
+  }
+
+  @Override
+  public Object transformObject(Object input, NodePlan nodePlan) {
+    if (input == null || nodePlan == null || nodePlan.isEmpty()) {
+      return input;
+    }
+    if (input.getClass() == nodePlan.getPojoClass()) {
+      GeneratedTransformer generatedTransformer = generatedTransformerCache.get(nodePlan);
+      if (generatedTransformer != null) {
+        return generatedTransformer.transform(input);
+      }
+    }
+    return super.transformObject(input, nodePlan);
+  }
+}
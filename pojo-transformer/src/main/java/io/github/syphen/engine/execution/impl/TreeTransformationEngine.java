@@ -0,0 +1,49 @@
+package io.github.syphen.engine.execution.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.execution.TransformationEngine;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.utils.MapperUtil;
+import lombok.AllArgsConstructor;
+
+/**
+ * Engine that converts the object into a {@link JsonNode} tree, applies the plan on the tree
+ * through the {@link NodeTransformer} and converts the tree back into a new object.
+ */
+@AllArgsConstructor
+public class TreeTransformationEngine implements TransformationEngine {
+
+  private final NodeTransformer nodeTransformer;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T transform(T input, NodePlan nodePlan) {
+    ObjectMapper objectMapper = MapperUtil.getObjectMapper();
+    return (T) transformValue(input, objectMapper.constructType(input.getClass()), nodePlan);
+  }
+
+  /**
+   * Round trips a single value through the tree, deserializing the result as {@code valueType}.
+   * The tree is read back directly rather than through {@code convertValue}, which would buffer
+   * a second full copy of it first.
+   *
+   * @param value     the value to transform
+   * @param valueType type to convert the transformed tree back into
+   * @param nodePlan  compiled plan of the value (or of its elements for collections)
+   * @return the transformed value
+   */
+  public Object transformValue(Object value, JavaType valueType, NodePlan nodePlan) {
+    ObjectMapper objectMapper = MapperUtil.getObjectMapper();
+    JsonNode node = objectMapper.valueToTree(value);
+    nodeTransformer.applyPlan(node, nodePlan);
+    try {
+      return objectMapper.treeToValue(node, valueType);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.syphen.engine.generation;
+
+/**
+ * Transforms the value of a single field. Used by generated code for the steps that are not
+ * emitted inline: collections of direct values and nested POJOs.
+ */
+@FunctionalInterface
+public interface FieldValueTransformer {
+
+  Object apply(Object value);
+}
@@ -0,0 +1,14 @@
+package io.github.syphen.engine.generation;
+
+/**
+ * Transformer specialized for one compiled {@link io.github.syphen.engine.plan.NodePlan},
+ * implemented by classes generated at runtime by the {@link TransformerClassGenerator}.
+ */
+public interface GeneratedTransformer {
+
+  /**
+   * @param input instance of exactly the plan's POJO class
+   * @return a transformed shallow copy of the input
+   */
+  Object transform(Object input);
+}
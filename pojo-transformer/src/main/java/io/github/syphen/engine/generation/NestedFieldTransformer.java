@@ -0,0 +1,44 @@
+package io.github.syphen.engine.generation;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.github.syphen.engine.execution.impl.AccessorTransformationEngine;
+import io.github.syphen.engine.plan.NodePlan;
+import java.util.Collection;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+
+/**
+ * Transforms the value of a nested step. Values of exactly the nested plan's class go straight to
+ * the transformer generated for that plan; anything else is handed to the engine.
+ */
+@AllArgsConstructor
+class NestedFieldTransformer implements FieldValueTransformer {
+
+  private final AccessorTransformationEngine engine;
+  private final NodePlan nestedPlan;
+  private final GeneratedTransformer nestedTransformer;
+  private final JavaType javaType;
+  private final Function<Collection<?>, Collection<Object>> collectionFactory;
+
+  @Override
+  public Object apply(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (nestedTransformer == null) {
+      return engine.transformNested(value, javaType, collectionFactory, nestedPlan);
+    }
+    if (value.getClass() == nestedPlan.getPojoClass()) {
+      return nestedTransformer.transform(value);
+    }
+    if (value instanceof Collection<?> collection && collectionFactory != null) {
+      Collection<Object> result = collectionFactory.apply(collection);
+      for (Object element : collection) {
+        result.add(element != null && element.getClass() == nestedPlan.getPojoClass()
+            ? nestedTransformer.transform(element) : engine.transformObject(element, nestedPlan));
+      }
+      return result;
+    }
+    return engine.transformNested(value, javaType, collectionFactory, nestedPlan);
+  }
+}
@@ -0,0 +1,416 @@
+package io.github.syphen.engine.generation;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.cache.PojoAccessorCache;
+import io.github.syphen.engine.accessor.FieldAccessor;
+import io.github.syphen.engine.accessor.PojoAccessor;
+import io.github.syphen.engine.accessor.ScalarHooks;
+import io.github.syphen.engine.execution.impl.AccessorTransformationEngine;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.utils.MapperUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup.ClassOption;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates a {@link GeneratedTransformer} for a compiled {@link NodePlan} as a hidden class.
+ * <p>
+ * The generated {@code transform} method is straight-line code: it instantiates the POJO, copies
+ * every field of the input with {@code getfield}/{@code putfield}, then for each direct value step
+ * reads the field, converts it to a {@link JsonNode}, invokes the resolved {@link BaseOperator}
+ * and writes the converted result back. {@code String} and primitive fields whose operator has a
+ * specialized hook for their type are passed to the hook instead, without conversions.
+ * Collections of direct values and nested POJOs are delegated to a {@link FieldValueTransformer}
+ * held by the generated instance. There is no map lookup and no strategy dispatch left on this
+ * path.
+ * </p>
+ * <p>
+ * The hidden class is defined as a nestmate of the POJO so it can access private fields. Classes
+ * the generated code cannot access (no no-arg constructor, final fields, private fields declared
+ * in a super class, inaccessible field types, a class loader that cannot see this library) are
+ * reported as unsupported by returning {@code null}. So are classes with a
+ * {@code CompiledPojoAccessor} generated at build time, which need no runtime code generation.
+ * </p>
+ */
+@AllArgsConstructor
+public class TransformerClassGenerator {
+
+  private static final Logger log = LoggerFactory.getLogger(TransformerClassGenerator.class);
+
+  private static final String CLASS_SUFFIX = "$$SyphenTransformer";
+  private static final String OBJECT = Type.getInternalName(Object.class);
+  private static final String GENERATED_TRANSFORMER = Type.getInternalName(
+      GeneratedTransformer.class);
+  private static final String FIELD_VALUE_TRANSFORMER = Type.getInternalName(
+      FieldValueTransformer.class);
+  private static final String BASE_OPERATOR = Type.getInternalName(BaseOperator.class);
+  private static final String MAPPER_UTIL = Type.getInternalName(MapperUtil.class);
+  private static final String TO_NODE_DESCRIPTOR = Type.getMethodDescriptor(
+      Type.getType(JsonNode.class), Type.getType(Object.class));
+  private static final String TO_VALUE_DESCRIPTOR = Type.getMethodDescriptor(
+      Type.getType(Object.class), Type.getType(JsonNode.class), Type.getType(JavaType.class));
+  private static final String APPLY_OPERATOR_DESCRIPTOR = Type.getMethodDescriptor(
+      Type.getType(JsonNode.class), Type.getType(JsonNode.class), Type.getType(Class.class));
+  private static final String SCALAR_HOOKS = Type.getInternalName(ScalarHooks.class);
+  private static final String APPLY_TEXT_DESCRIPTOR = Type.getMethodDescriptor(
+      Type.getType(String.class), Type.getType(BaseOperator.class), Type.getType(String.class),
+      Type.getType(Class.class), Type.getType(JavaType.class));
+  private static final String APPLY_FIELD_DESCRIPTOR = Type.getMethodDescriptor(
+      Type.getType(Object.class), Type.getType(Object.class));
+  private static final List<Class<?>> RUNTIME_TYPES = List.of(GeneratedTransformer.class,
+      FieldValueTransformer.class, BaseOperator.class, MapperUtil.class, ScalarHooks.class,
+      JsonNode.class, JavaType.class);
+
+  private final PojoAccessorCache pojoAccessorCache;
+  private final AccessorTransformationEngine engine;
+
+  /**
+   * Generates and instantiates the transformer of the given plan.
+   *
+   * @param nodePlan       compiled plan; the generated code only accepts instances of exactly
+   *                       its POJO class
+   * @param nestedResolver resolves the generated transformers of nested plans, may return
+   *                       {@code null}
+   * @return the generated transformer, or {@code null} if the class is not supported
+   */
+  public GeneratedTransformer generate(NodePlan nodePlan,
+      Function<NodePlan, GeneratedTransformer> nestedResolver) {
+    Class<?> pojoClass = nodePlan.getPojoClass();
+    PojoAccessor accessor = pojoAccessorCache.get(pojoClass);
+    if (!accessor.isSupported() || accessor.isCompiled() || !isGeneratable(accessor)) {
+      return null;
+    }
+    try {
+      List<Step> steps = resolveSteps(accessor, nodePlan, nestedResolver);
+      List<Object> arguments = new ArrayList<>();
+      steps.forEach(step -> arguments.addAll(step.arguments()));
+      byte[] bytes = generateClass(accessor, steps);
+      MethodHandles.Lookup hiddenLookup = MethodHandles.privateLookupIn(pojoClass,
+              MethodHandles.lookup())
+          .defineHiddenClass(bytes, true, ClassOption.NESTMATE);
+      MethodHandle constructor = hiddenLookup.findConstructor(hiddenLookup.lookupClass(),
+          MethodType.methodType(void.class, Object[].class));
+      return (GeneratedTransformer) constructor.invoke(arguments.toArray());
+    } catch (Throwable t) {
+      log.debug("Cannot generate transformer for class {}: {}", pojoClass.getName(),
+          t.getMessage());
+      return null;
+    }
+  }
+
+  private List<Step> resolveSteps(PojoAccessor accessor, NodePlan nodePlan,
+      Function<NodePlan, GeneratedTransformer> nestedResolver) {
+    List<Step> steps = new ArrayList<>();
+    for (FieldPlan fieldPlan : nodePlan.getFieldPlans()) {
+      FieldAccessor field = accessor.getField(fieldPlan.getFieldName());
+      if (field == null || !field.isTransformable()) {
+        continue;
+      }
+      if (fieldPlan.getOperator() != null && !fieldPlan.getFieldTypeDescriptor().isCollection()) {
+        List<Object> arguments = List.of(fieldPlan.getOperator(),
+            fieldPlan.getFieldTypeDescriptor().getEffectiveType(), field.getJavaType());
+        steps.add(new Step(field, hasInlineHook(fieldPlan, field.getType()) ? StepKind.HOOK
+            : StepKind.OPERATOR, arguments));
+      } else if (fieldPlan.getOperator() != null) {
+        FieldValueTransformer transformer = value -> engine.applyOperator(value,
+            field.getJavaType(), field.getCollectionFactory(), fieldPlan);
+        steps.add(new Step(field, StepKind.TRANSFORMER, List.of(transformer)));
+      } else {
+        NodePlan nestedPlan = fieldPlan.getNestedPlan();
+        FieldValueTransformer transformer = new NestedFieldTransformer(engine, nestedPlan,
+            nestedResolver.apply(nestedPlan), field.getJavaType(), field.getCollectionFactory());
+        steps.add(new Step(field, StepKind.TRANSFORMER, List.of(transformer)));
+      }
+    }
+    return steps;
+  }
+
+  private byte[] generateClass(PojoAccessor accessor, List<Step> steps) {
+    final String pojoName = Type.getInternalName(accessor.getPojoClass());
+    final String className = pojoName + CLASS_SUFFIX;
+    ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+        className, null, OBJECT, new String[]{GENERATED_TRANSFORMER});
+
+    List<String> argumentDescriptors = new ArrayList<>();
+    for (Step step : steps) {
+      for (Object argument : step.arguments()) {
+        argumentDescriptors.add(argumentDescriptor(argument));
+      }
+    }
+    for (int i = 0; i < argumentDescriptors.size(); i++) {
+      classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, argumentName(i),
+          argumentDescriptors.get(i), null, null).visitEnd();
+    }
+    generateConstructor(classWriter, className, argumentDescriptors);
+    generateTransform(classWriter, className, pojoName, accessor, steps);
+    classWriter.visitEnd();
+    return classWriter.toByteArray();
+  }
+
+  private void generateConstructor(ClassWriter classWriter, String className,
+      List<String> argumentDescriptors) {
+    MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>",
+        Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object[].class)), null, null);
+    mv.visitCode();
+    mv.visitVarInsn(Opcodes.ALOAD, 0);
+    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+    for (int i = 0; i < argumentDescriptors.size(); i++) {
+      mv.visitVarInsn(Opcodes.ALOAD, 0);
+      mv.visitVarInsn(Opcodes.ALOAD, 1);
+      mv.visitLdcInsn(i);
+      mv.visitInsn(Opcodes.AALOAD);
+      mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getType(argumentDescriptors.get(i))
+          .getInternalName());
+      mv.visitFieldInsn(Opcodes.PUTFIELD, className, argumentName(i), argumentDescriptors.get(i));
+    }
+    mv.visitInsn(Opcodes.RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  private void generateTransform(ClassWriter classWriter, String className, String pojoName,
+      PojoAccessor accessor, List<Step> steps) {
+    final int source = 2;
+    final int target = 3;
+    MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "transform",
+        APPLY_FIELD_DESCRIPTOR, null, null);
+    mv.visitCode();
+    mv.visitVarInsn(Opcodes.ALOAD, 1);
+    mv.visitTypeInsn(Opcodes.CHECKCAST, pojoName);
+    mv.visitVarInsn(Opcodes.ASTORE, source);
+    mv.visitTypeInsn(Opcodes.NEW, pojoName);
+    mv.visitInsn(Opcodes.DUP);
+    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, pojoName, "<init>", "()V", false);
+    mv.visitVarInsn(Opcodes.ASTORE, target);
+
+    // shallow copy of every field
+    for (FieldAccessor field : accessor.getFields()) {
+      mv.visitVarInsn(Opcodes.ALOAD, target);
+      mv.visitVarInsn(Opcodes.ALOAD, source);
+      visitField(mv, Opcodes.GETFIELD, field);
+      visitField(mv, Opcodes.PUTFIELD, field);
+    }
+
+    // targeted fields
+    int argument = 0;
+    for (Step step : steps) {
+      FieldAccessor field = step.field();
+      mv.visitVarInsn(Opcodes.ALOAD, target);
+      if (step.kind() == StepKind.HOOK) {
+        generateHookCall(mv, className, source, field, argument);
+        argument += step.arguments().size();
+        visitField(mv, Opcodes.PUTFIELD, field);
+        continue;
+      }
+      if (step.kind() == StepKind.TRANSFORMER) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, argumentName(argument++),
+            Type.getDescriptor(FieldValueTransformer.class));
+        loadBoxed(mv, source, field);
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, FIELD_VALUE_TRANSFORMER, "apply",
+            APPLY_FIELD_DESCRIPTOR, true);
+      } else {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, argumentName(argument++),
+            Type.getDescriptor(BaseOperator.class));
+        loadBoxed(mv, source, field);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, MAPPER_UTIL, "toNode", TO_NODE_DESCRIPTOR,
+            false);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, argumentName(argument++),
+            Type.getDescriptor(Class.class));
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_OPERATOR, "apply",
+            APPLY_OPERATOR_DESCRIPTOR, false);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, argumentName(argument++),
+            Type.getDescriptor(JavaType.class));
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, MAPPER_UTIL, "toValue", TO_VALUE_DESCRIPTOR,
+            false);
+      }
+      unboxOrCast(mv, field.getType());
+      visitField(mv, Opcodes.PUTFIELD, field);
+    }
+
+    mv.visitVarInsn(Opcodes.ALOAD, target);
+    mv.visitInsn(Opcodes.ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * Emits the call of the operator hook matching the field's type, see {@link #hasInlineHook},
+   * leaving the new value of the field on the stack. {@code String} fields go through
+   * {@link ScalarHooks#applyText} so {@code null} still reaches the generic method, without
+   * emitting branches.
+   */
+  private static void generateHookCall(MethodVisitor mv, String className, int source,
+      FieldAccessor field, int argument) {
+    Class<?> type = field.getType();
+    mv.visitVarInsn(Opcodes.ALOAD, 0);
+    mv.visitFieldInsn(Opcodes.GETFIELD, className, argumentName(argument),
+        Type.getDescriptor(BaseOperator.class));
+    mv.visitVarInsn(Opcodes.ALOAD, source);
+    visitField(mv, Opcodes.GETFIELD, field);
+    if (type == String.class) {
+      mv.visitVarInsn(Opcodes.ALOAD, 0);
+      mv.visitFieldInsn(Opcodes.GETFIELD, className, argumentName(argument + 1),
+          Type.getDescriptor(Class.class));
+      mv.visitVarInsn(Opcodes.ALOAD, 0);
+      mv.visitFieldInsn(Opcodes.GETFIELD, className, argumentName(argument + 2),
+          Type.getDescriptor(JavaType.class));
+      mv.visitMethodInsn(Opcodes.INVOKESTATIC, SCALAR_HOOKS, "applyText",
+          APPLY_TEXT_DESCRIPTOR, false);
+    } else if (type == int.class || type == float.class) {
+      Type primitive = Type.getType(type);
+      mv.visitMethodInsn(Opcodes.INVOKESTATIC, SCALAR_HOOKS,
+          type == int.class ? "applyInt" : "applyFloat",
+          Type.getMethodDescriptor(primitive, Type.getType(BaseOperator.class), primitive), false);
+    } else {
+      Type primitive = Type.getType(type);
+      String hook = type == long.class ? "applyLong"
+          : type == double.class ? "applyDouble" : "applyBoolean";
+      mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_OPERATOR, hook,
+          Type.getMethodDescriptor(primitive, primitive), false);
+    }
+  }
+
+  /**
+   * Whether the step's operator has a hook the generated code can call inline: {@code String}
+   * and primitive fields. Boxed fields go through the generic method.
+   */
+  private static boolean hasInlineHook(FieldPlan fieldPlan, Class<?> fieldType) {
+    return fieldPlan.getScalarType() != null && (fieldType == String.class
+        || fieldType == int.class || fieldType == long.class || fieldType == float.class
+        || fieldType == double.class || fieldType == boolean.class);
+  }
+
+  private static void visitField(MethodVisitor mv, int opcode, FieldAccessor field) {
+    mv.visitFieldInsn(opcode, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+        Type.getDescriptor(field.getType()));
+  }
+
+  private static void loadBoxed(MethodVisitor mv, int source, FieldAccessor field) {
+    mv.visitVarInsn(Opcodes.ALOAD, source);
+    visitField(mv, Opcodes.GETFIELD, field);
+    Class<?> type = field.getType();
+    if (type.isPrimitive()) {
+      Type wrapper = Type.getType(MethodType.methodType(type).wrap().returnType());
+      mv.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper.getInternalName(), "valueOf",
+          Type.getMethodDescriptor(wrapper, Type.getType(type)), false);
+    }
+  }
+
+  private static void unboxOrCast(MethodVisitor mv, Class<?> type) {
+    if (!type.isPrimitive()) {
+      mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+      return;
+    }
+    Type wrapper = Type.getType(MethodType.methodType(type).wrap().returnType());
+    mv.visitTypeInsn(Opcodes.CHECKCAST, wrapper.getInternalName());
+    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapper.getInternalName(),
+        type.getName() + "Value", Type.getMethodDescriptor(Type.getType(type)), false);
+  }
+
+  private static String argumentName(int index) {
+    return "argument" + index;
+  }
+
+  private static String argumentDescriptor(Object argument) {
+    if (argument instanceof BaseOperator) {
+      return Type.getDescriptor(BaseOperator.class);
+    }
+    if (argument instanceof Class<?>) {
+      return Type.getDescriptor(Class.class);
+    }
+    if (argument instanceof JavaType) {
+      return Type.getDescriptor(JavaType.class);
+    }
+    return Type.getDescriptor(FieldValueTransformer.class);
+  }
+
+  /**
+   * Checks that the generated code, living in the POJO's package, can link against everything it
+   * references.
+   */
+  private static boolean isGeneratable(PojoAccessor accessor) {
+    Class<?> pojoClass = accessor.getPojoClass();
+    ClassLoader classLoader = pojoClass.getClassLoader();
+    for (Class<?> runtimeType : RUNTIME_TYPES) {
+      try {
+        if (Class.forName(runtimeType.getName(), false, classLoader) != runtimeType) {
+          return false;
+        }
+      } catch (ClassNotFoundException | LinkageError e) {
+        return false;
+      }
+    }
+    for (FieldAccessor field : accessor.getFields()) {
+      Class<?> declaringClass = field.getDeclaringClass();
+      boolean samePackage = isSamePackage(declaringClass, pojoClass);
+      if (declaringClass != pojoClass && (Modifier.isPrivate(field.getModifiers())
+          || !samePackage && !Modifier.isPublic(field.getModifiers())
+          || !isAccessible(declaringClass, pojoClass))) {
+        return false;
+      }
+      if (!isAccessible(field.getType(), pojoClass)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAccessible(Class<?> type, Class<?> from) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    if (type.isPrimitive() || isSamePackage(type, from)) {
+      return true;
+    }
+    for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+      if (!Modifier.isPublic(current.getModifiers())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSamePackage(Class<?> first, Class<?> second) {
+    return first.getClassLoader() == second.getClassLoader()
+        && Objects.equals(first.getPackageName(), second.getPackageName());
+  }
+
+  /**
+   * A targeted field and the values the generated instance needs for it: either the operator,
+   * effective type and generic type for inline operator and hook calls, or a single
+   * {@link FieldValueTransformer}.
+   */
+  private record Step(FieldAccessor field, StepKind kind, List<Object> arguments) {
+
+  }
+
+  private enum StepKind {
+    /** Generic operator call with conversions to and from {@link JsonNode}. */
+    OPERATOR,
+    /** Call of the operator hook matching the field's type; same arguments as an operator. */
+    HOOK,
+    /** Call of a {@link FieldValueTransformer}. */
+    TRANSFORMER
+  }
+}
@@ -0,0 +1,126 @@
+package io.github.syphen.engine.parallel;
+
+import io.github.syphen.config.ParallelConfig;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs the parallel parts of a transformation on a {@link ForkJoinPool}. Tasks started from a
+ * worker of the pool are forked into the running computation, so nested arrays and subtrees share
+ * the pool's work-stealing instead of blocking on a new submission.
+ */
+public class ParallelExecutor {
+
+  private static final ParallelExecutor SEQUENTIAL = new ParallelExecutor(null,
+      Integer.MAX_VALUE);
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  private ParallelExecutor(ForkJoinPool pool, int threshold) {
+    this.pool = pool;
+    this.threshold = Math.max(1, threshold);
+  }
+
+  /**
+   * @return an executor that never splits work
+   */
+  public static ParallelExecutor sequential() {
+    return SEQUENTIAL;
+  }
+
+  /**
+   * @param config parallel execution configuration
+   * @return the executor described by the configuration
+   */
+  public static ParallelExecutor of(ParallelConfig config) {
+    if (config == null || !config.isEnabled()) {
+      return SEQUENTIAL;
+    }
+    return new ParallelExecutor(config.getPool() != null ? config.getPool()
+        : ForkJoinPool.commonPool(), config.getThreshold());
+  }
+
+  public boolean isEnabled() {
+    return pool != null;
+  }
+
+  /**
+   * @param size number of children of an array or nested value
+   * @return {@code true} if the value is large enough to be transformed in parallel
+   */
+  public boolean shouldSplit(int size) {
+    return pool != null && size >= threshold;
+  }
+
+  /**
+   * Calls the action for every index in {@code [0, size)}, in chunks of at most the threshold
+   * running in parallel. Returns once every index has been processed.
+   *
+   * @param size   number of indexes
+   * @param action action called once per index
+   */
+  public void forEachIndex(int size, IntConsumer action) {
+    if (!shouldSplit(size)) {
+      for (int i = 0; i < size; i++) {
+        action.accept(i);
+      }
+      return;
+    }
+    run(new RangeAction(0, size, action));
+  }
+
+  /**
+   * Runs the actions in parallel and returns once all of them completed.
+   *
+   * @param actions independent actions
+   */
+  public void invokeAll(List<Runnable> actions) {
+    if (pool == null || actions.size() < 2) {
+      actions.forEach(Runnable::run);
+      return;
+    }
+    run(new RecursiveAction() {
+      @Override
+      protected void compute() {
+        ForkJoinTask.invokeAll(actions.stream().map(ForkJoinTask::adapt).toList());
+      }
+    });
+  }
+
+  private void run(ForkJoinTask<?> task) {
+    if (ForkJoinTask.getPool() == pool) {
+      task.invoke();
+    } else {
+      pool.invoke(task);
+    }
+  }
+
+  private class RangeAction extends RecursiveAction {
+
+    private final int from;
+    private final int to;
+    private final IntConsumer action;
+
+    RangeAction(int from, int to, IntConsumer action) {
+      this.from = from;
+      this.to = to;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        for (int i = from; i < to; i++) {
+          action.accept(i);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new RangeAction(from, middle, action), new RangeAction(middle, to, action));
+    }
+  }
+}
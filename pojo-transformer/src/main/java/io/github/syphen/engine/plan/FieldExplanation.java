@@ -0,0 +1,27 @@
+package io.github.syphen.engine.plan;
+
+import lombok.Value;
+
+/**
+ * Explanation of one compiled {@link FieldPlan}, see {@link PlanExplainer}.
+ */
+@Value
+public class FieldExplanation {
+
+  /** Dotted path of the field from the root, with {@code [*]} after collection fields. */
+  String path;
+  String fieldName;
+  /** Declared type of the field, the element type for collections. */
+  Class<?> fieldType;
+  boolean collection;
+  /** Simple name of the strategy handling the field. */
+  String strategy;
+  /** Key of the resolved operator, {@code null} for nested fields. */
+  String operatorKey;
+  /** Explanation of the nested POJO, {@code null} for direct value fields. */
+  NodeExplanation nested;
+  /** Estimated operator calls of this field per object holding it. */
+  double estimatedOperatorCalls;
+  /** Estimated nested nodes visited for this field per object holding it. */
+  double estimatedNodes;
+}
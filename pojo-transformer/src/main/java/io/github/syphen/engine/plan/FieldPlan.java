@@ -0,0 +1,44 @@
+package io.github.syphen.engine.plan;
+
+import io.github.syphen.engine.strategy.FieldTransformationStrategy;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A single pre-resolved step of a {@link NodePlan}.
+ * <p>
+ * Captures everything needed to transform one field without looking at the
+ * {@link io.github.syphen.model.TransformationContext} again: the field's type metadata, the
+ * strategy that handles it and either the resolved {@link BaseOperator} (direct values) or the
+ * compiled plan of the nested POJO.
+ * </p>
+ */
+@Value
+@Builder
+public class FieldPlan {
+
+  String fieldName;
+  FieldTypeDescriptor fieldTypeDescriptor;
+  FieldTransformationStrategy strategy;
+  /** Resolved operator, {@code null} for nested steps. */
+  BaseOperator operator;
+  /** Key the operator was resolved from, {@code null} for nested steps. */
+  String operatorKey;
+  /**
+   * Family of the field's values when the operator has a specialized hook for it, see
+   * {@link BaseOperator#isSpecialized}; {@code null} when values go through the generic method.
+   */
+  ScalarType scalarType;
+  /** Compiled plan of the nested POJO, {@code null} for direct value steps. */
+  NodePlan nestedPlan;
+
+  /**
+   * @return {@code true} if executing this step can never change the node
+   */
+  public boolean isNoop() {
+    return operator == null && (nestedPlan == null || nestedPlan.isEmpty());
+  }
+}
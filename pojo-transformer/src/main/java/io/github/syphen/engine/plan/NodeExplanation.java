@@ -0,0 +1,21 @@
+package io.github.syphen.engine.plan;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Explanation of one compiled {@link NodePlan}, see {@link PlanExplainer}.
+ */
+@Value
+public class NodeExplanation {
+
+  Class<?> pojoClass;
+  /** Number of fields declared by the class, to compare with the number of transformed ones. */
+  int declaredFieldCount;
+  /** The fields the node context expanded to, in execution order. */
+  List<FieldExplanation> fields;
+  /** Estimated operator calls per object of the class, nested objects included. */
+  double estimatedOperatorCalls;
+  /** Estimated nodes visited per object of the class, the object itself included. */
+  double estimatedNodes;
+}
@@ -0,0 +1,58 @@
+package io.github.syphen.engine.plan;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable, pre-resolved list of field steps to apply on every node of a given POJO class.
+ */
+@Value
+public class NodePlan {
+
+  Class<?> pojoClass;
+  List<FieldPlan> fieldPlans;
+  /** Position of each step in {@link #fieldPlans} by field name, used by streaming consumers. */
+  @Getter(AccessLevel.NONE)
+  Map<String, Integer> fieldIndex;
+  /** Number of steps of this plan and of its nested plans. */
+  int stepCount;
+
+  public NodePlan(Class<?> pojoClass, List<FieldPlan> fieldPlans) {
+    this.pojoClass = pojoClass;
+    this.fieldPlans = List.copyOf(fieldPlans);
+    Map<String, Integer> index = new HashMap<>();
+    for (int i = 0; i < this.fieldPlans.size(); i++) {
+      index.put(this.fieldPlans.get(i).getFieldName(), i);
+    }
+    this.fieldIndex = Map.copyOf(index);
+    int steps = this.fieldPlans.size();
+    for (FieldPlan fieldPlan : this.fieldPlans) {
+      if (fieldPlan.getNestedPlan() != null) {
+        steps += fieldPlan.getNestedPlan().getStepCount();
+      }
+    }
+    this.stepCount = steps;
+  }
+
+  public static NodePlan empty(Class<?> pojoClass) {
+    return new NodePlan(pojoClass, List.of());
+  }
+
+  public boolean isEmpty() {
+    return fieldPlans.isEmpty();
+  }
+
+  /**
+   * @param fieldName name of the field
+   * @return position of the field's step in {@link #getFieldPlans()}, or {@code -1} if the field is
+   * not transformed
+   */
+  public int indexOf(String fieldName) {
+    Integer index = fieldIndex.get(fieldName);
+    return index != null ? index : -1;
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.syphen.engine.plan;
+
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.engine.strategy.FieldTransformationStrategy;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.factory.StrategySelector;
+import io.github.syphen.instrument.PlanProfiler;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.utils.CommonUtil;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a {@link TransformationContext} and a root class into an immutable
+ * {@link TransformationPlan}.
+ * <p>
+ * Field expansion ({@code transformAllFields}, {@code skipFields}, {@code transformFields}),
+ * schema lookup, strategy selection and operator resolution are all done once here instead of
+ * for every node visited during a transformation.
+ * </p>
+ */
+public class PlanCompiler {
+
+  private final PojoSchemaCache pojoSchemaCache;
+  private final StrategySelector strategySelector;
+  /** Whether compiled plans attribute operator time to field paths, see {@link PlanProfiler}. */
+  private final boolean profiled;
+
+  public PlanCompiler(PojoSchemaCache pojoSchemaCache, StrategySelector strategySelector) {
+    this(pojoSchemaCache, strategySelector, false);
+  }
+
+  public PlanCompiler(PojoSchemaCache pojoSchemaCache, StrategySelector strategySelector,
+      boolean profiled) {
+    this.pojoSchemaCache = pojoSchemaCache;
+    this.strategySelector = strategySelector;
+    this.profiled = profiled;
+  }
+
+  /**
+   * Compiles the plan for the given root class.
+   *
+   * @param rootClass             class of the object being transformed
+   * @param transformationContext context containing the transformation rules
+   * @return the compiled plan, empty if the context does not target any field
+   * @throws DataTransformationException if a referenced field or operator does not exist
+   */
+  public TransformationPlan compile(Class<?> rootClass,
+      TransformationContext transformationContext) {
+    TransformationPlan plan = new TransformationPlan(rootClass, transformationContext,
+        compileNode(rootClass, transformationContext));
+    return profiled ? PlanProfiler.instrument(plan) : plan;
+  }
+
+  /**
+   * Compiles the steps applied to every node of {@code pojoClass}. Called recursively by nested
+   * strategies while compiling their own field step.
+   *
+   * @param pojoClass             class used to resolve field names and types
+   * @param transformationContext context whose node context describes the fields to transform
+   * @return the compiled node plan
+   * @throws DataTransformationException if a referenced field or operator does not exist
+   */
+  public NodePlan compileNode(Class<?> pojoClass, TransformationContext transformationContext) {
+    final Map<String, TransformationContext> fieldSpecificContexts = resolveFieldContexts(
+        transformationContext, pojoClass);
+    if (fieldSpecificContexts.isEmpty()) {
+      return NodePlan.empty(pojoClass);
+    }
+    final Map<String, FieldTypeDescriptor> fieldTypes = pojoSchemaCache.get(pojoClass);
+    List<FieldPlan> fieldPlans = new ArrayList<>(fieldSpecificContexts.size());
+    for (Map.Entry<String, TransformationContext> entry : fieldSpecificContexts.entrySet()) {
+      FieldTypeDescriptor fieldTypeDescriptor = fieldTypes.get(entry.getKey());
+      if (fieldTypeDescriptor == null) {
+        throw DataTransformationException.error(ErrorCode.FIELD_NOT_EXIST, Map.of("detailMessage",
+            "Field '" + entry.getKey() + "' does not exist in class " + pojoClass.getName()));
+      }
+      TransformationContext fieldContext = entry.getValue();
+      if (CommonUtil.nonValidNodeContext(fieldContext)) {
+        continue;
+      }
+      FieldTransformationStrategy strategy = strategySelector.determineStrategy(fieldContext);
+      FieldPlan fieldPlan = strategy.compile(fieldContext, fieldTypeDescriptor, this);
+      if (!fieldPlan.isNoop()) {
+        fieldPlans.add(fieldPlan);
+      }
+    }
+    return new NodePlan(pojoClass, fieldPlans);
+  }
+
+  /**
+   * Expands the node context into a map of field name to field specific context. This is the only
+   * place where fields are resolved from a context; synthetic fields are never targeted.
+   */
+  private Map<String, TransformationContext> resolveFieldContexts(
+      TransformationContext transformationContext, Class<?> pojoClass) {
+    if (CommonUtil.nonValidNodeContext(transformationContext)) {
+      return Map.of();
+    }
+    NodeContext nodeContext = transformationContext.getNodeContext();
+    Map<String, TransformationContext> givenFieldContextMap = new LinkedHashMap<>();
+
+    if (nodeContext.isTransformAllFields()) {
+      for (Field field : pojoClass.getDeclaredFields()) {
+        if (field.isSynthetic()) {
+          continue;
+        }
+        givenFieldContextMap.put(field.getName(),
+            CommonUtil.createTransformationContext(field.getName(), nodeContext.getOperateType(),
+                transformationContext.getDefaultOperatorType()));
+      }
+    }
+    if (nodeContext.getSkipFields() != null) {
+      for (NodeContext skipFieldContext : nodeContext.getSkipFields()) {
+        givenFieldContextMap.remove(skipFieldContext.getFieldName());
+      }
+    }
+    if (nodeContext.getTransformFields() != null) {
+      for (NodeContext transformFieldContext : nodeContext.getTransformFields()) {
+        givenFieldContextMap.put(transformFieldContext.getFieldName(),
+            CommonUtil.createTransformationContext(transformationContext.getDefaultOperatorType(),
+                transformFieldContext));
+      }
+    }
+    return givenFieldContextMap;
+  }
+}
@@ -0,0 +1,80 @@
+package io.github.syphen.engine.plan;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns a compiled {@link TransformationPlan} into a {@link PlanExplanation}.
+ * <p>
+ * The estimates count operator calls and visited nodes per root object. A direct value field
+ * costs one operator call, a nested field costs the estimate of its nested node, and both are
+ * multiplied by the assumed collection size for collection fields. Actual costs depend on the
+ * data: absent fields cost nothing and collections hold any number of elements.
+ * </p>
+ */
+public final class PlanExplainer {
+
+  /** Collection size assumed when none is given. */
+  public static final int DEFAULT_COLLECTION_SIZE = 10;
+
+  private PlanExplainer() {
+  }
+
+  /**
+   * @param plan                  the compiled plan
+   * @param assumedCollectionSize number of elements assumed in every collection
+   * @return the explanation of the plan, with field paths starting at
+   *     {@link TransformationPlan#getRootName()}
+   */
+  public static PlanExplanation explain(TransformationPlan plan, int assumedCollectionSize) {
+    if (assumedCollectionSize < 0) {
+      throw new IllegalArgumentException("assumedCollectionSize must not be negative");
+    }
+    NodeExplanation root = explainNode(plan.getRootPlan(), assumedCollectionSize,
+        plan.getRootName());
+    return new PlanExplanation(plan.getRootClass(), root, assumedCollectionSize,
+        plan.getRootPlan().getStepCount());
+  }
+
+  private static NodeExplanation explainNode(NodePlan nodePlan, int assumedCollectionSize,
+      String path) {
+    List<FieldExplanation> fields = new ArrayList<>(nodePlan.getFieldPlans().size());
+    double operatorCalls = 0;
+    double nodes = 1;
+    for (FieldPlan fieldPlan : nodePlan.getFieldPlans()) {
+      FieldExplanation field = explainField(fieldPlan, assumedCollectionSize, path);
+      operatorCalls += field.getEstimatedOperatorCalls();
+      nodes += field.getEstimatedNodes();
+      fields.add(field);
+    }
+    return new NodeExplanation(nodePlan.getPojoClass(),
+        declaredFieldCount(nodePlan.getPojoClass()), List.copyOf(fields), operatorCalls, nodes);
+  }
+
+  private static FieldExplanation explainField(FieldPlan fieldPlan, int assumedCollectionSize,
+      String parentPath) {
+    boolean collection = fieldPlan.getFieldTypeDescriptor().isCollection();
+    String path = parentPath + "." + fieldPlan.getFieldName() + (collection ? "[*]" : "");
+    int multiplier = collection ? assumedCollectionSize : 1;
+    NodeExplanation nested = fieldPlan.getNestedPlan() == null ? null
+        : explainNode(fieldPlan.getNestedPlan(), assumedCollectionSize, path);
+    double operatorCalls = multiplier * (nested == null ? 1 : nested.getEstimatedOperatorCalls());
+    double nodes = nested == null ? 0 : multiplier * nested.getEstimatedNodes();
+    return new FieldExplanation(path, fieldPlan.getFieldName(),
+        fieldPlan.getFieldTypeDescriptor().getEffectiveType(), collection,
+        fieldPlan.getStrategy().getClass().getSimpleName(), fieldPlan.getOperatorKey(), nested,
+        operatorCalls, nodes);
+  }
+
+  /** Counts fields the same way {@code transformAllFields} expands them. */
+  private static int declaredFieldCount(Class<?> pojoClass) {
+    int count = 0;
+    for (Field field : pojoClass.getDeclaredFields()) {
+      if (!field.isSynthetic()) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
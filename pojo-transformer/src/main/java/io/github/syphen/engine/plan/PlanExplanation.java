@@ -0,0 +1,72 @@
+package io.github.syphen.engine.plan;
+
+import lombok.Value;
+
+/**
+ * Resolved form of a transformation context for a root class, with the estimated cost of
+ * transforming one root object. Returned by {@link io.github.syphen.Transformer#explain}.
+ * <p>
+ * {@link #toString()} renders the tree, one field per line:
+ * </p>
+ * <pre>
+ * Order: 21 operator calls, 11 nodes per object (collections of 10 elements)
+ *   root.id (String) DirectValueTransformationStrategy -> hash: 1 operator calls
+ *   root.lines[*] (Line, 2 of 5 fields) NestedNodeTransformationStrategy: 20 operator calls
+ *     root.lines[*].sku (String) DirectValueTransformationStrategy -> mask: 1 operator calls
+ * </pre>
+ */
+@Value
+public class PlanExplanation {
+
+  Class<?> rootClass;
+  NodeExplanation root;
+  /** Number of elements assumed in every collection for the estimates. */
+  int assumedCollectionSize;
+  /** Number of compiled steps, nested ones included. */
+  int stepCount;
+
+  /** Estimated operator calls per root object. */
+  public double getEstimatedOperatorCalls() {
+    return root.getEstimatedOperatorCalls();
+  }
+
+  /** Estimated nodes visited per root object, the root included. */
+  public double getEstimatedNodes() {
+    return root.getEstimatedNodes();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(rootClass.getSimpleName()).append(": ")
+        .append(format(getEstimatedOperatorCalls())).append(" operator calls, ")
+        .append(format(getEstimatedNodes())).append(" nodes per object (collections of ")
+        .append(assumedCollectionSize).append(" elements)");
+    appendFields(builder, root, "  ");
+    return builder.toString();
+  }
+
+  private static void appendFields(StringBuilder builder, NodeExplanation node, String indent) {
+    for (FieldExplanation field : node.getFields()) {
+      builder.append(System.lineSeparator()).append(indent).append(field.getPath()).append(" (")
+          .append(field.getFieldType().getSimpleName());
+      if (field.getNested() != null) {
+        builder.append(", ").append(field.getNested().getFields().size()).append(" of ")
+            .append(field.getNested().getDeclaredFieldCount()).append(" fields");
+      }
+      builder.append(") ").append(field.getStrategy());
+      if (field.getOperatorKey() != null) {
+        builder.append(" -> ").append(field.getOperatorKey());
+      }
+      builder.append(": ").append(format(field.getEstimatedOperatorCalls()))
+          .append(" operator calls");
+      if (field.getNested() != null) {
+        appendFields(builder, field.getNested(), indent + "  ");
+      }
+    }
+  }
+
+  private static String format(double value) {
+    return value == Math.rint(value) && value < 1e15 ? Long.toString((long) value)
+        : String.format("%.1f", value);
+  }
+}
@@ -0,0 +1,34 @@
+package io.github.syphen.engine.plan;
+
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import lombok.Value;
+
+/**
+ * Compiled form of a {@link TransformationContext} for a given root class. Plans are immutable and
+ * safe to share between threads, so they are built once by the {@link PlanCompiler} and cached.
+ */
+@Value
+public class TransformationPlan {
+
+  private static final String DEFAULT_ROOT_NAME = "root";
+
+  Class<?> rootClass;
+  TransformationContext transformationContext;
+  NodePlan rootPlan;
+
+  public boolean isEmpty() {
+    return rootPlan.isEmpty();
+  }
+
+  /**
+   * @return name of the root in field paths: the field name of the root node context, or
+   * {@code root} when it has none
+   */
+  public String getRootName() {
+    NodeContext nodeContext = transformationContext == null ? null
+        : transformationContext.getNodeContext();
+    return nodeContext == null || nodeContext.getFieldName() == null ? DEFAULT_ROOT_NAME
+        : nodeContext.getFieldName();
+  }
+}
@@ -0,0 +1,9 @@
+package io.github.syphen.engine.processor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.engine.plan.NodePlan;
+
+public interface JsonProcessor {
+
+  <T extends JsonNode> void transform(T node, NodePlan nodePlan);
+}
@@ -0,0 +1,57 @@
+package io.github.syphen.engine.processor.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.parallel.ParallelExecutor;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.processor.JsonProcessor;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Processor implementation for transforming JSON arrays. Iterates through each element in the array
+ * and applies the transformation if the element is a JSON object.
+ *
+ * <p>Expected to be used when the root or a field is a JSON array containing POJOs. Large arrays
+ * are transformed in parallel chunks when the {@link ParallelExecutor} is enabled.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JsonArrayProcessor implements JsonProcessor {
+
+  private NodeTransformer nodeTransformer;
+  private ParallelExecutor parallelExecutor = ParallelExecutor.sequential();
+
+  public JsonArrayProcessor(NodeTransformer nodeTransformer) {
+    this(nodeTransformer, ParallelExecutor.sequential());
+  }
+
+
+  /**
+   * Applies a compiled node plan to each object element within the given array node. Ignores
+   * elements that are null or not objects.
+   *
+   * @param node     the JSON array node containing elements to be transformed
+   * @param nodePlan the compiled plan of the element class
+   * @param <T>      a subtype of {@link JsonNode}, expected to be an array node
+   */
+  @Override
+  public <T extends JsonNode> void transform(T node, NodePlan nodePlan) {
+    if (parallelExecutor.shouldSplit(node.size())) {
+      parallelExecutor.forEachIndex(node.size(), index -> applyPlan(node.get(index), nodePlan));
+      return;
+    }
+    for (JsonNode item : node) {
+      applyPlan(item, nodePlan);
+    }
+  }
+
+  private void applyPlan(JsonNode item, NodePlan nodePlan) {
+    if (item != null && item.isObject()) {
+      nodeTransformer.applyPlan(item, nodePlan);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.syphen.engine.processor.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.parallel.ParallelExecutor;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.processor.JsonProcessor;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Processor implementation for transforming JSON objects by executing the field steps of a
+ * compiled {@link NodePlan}. Fields are resolved from the
+ * {@link io.github.syphen.model.TransformationContext} by the
+ * {@link io.github.syphen.engine.plan.PlanCompiler} only.
+ */
+public class JsonObjectProcessor implements JsonProcessor {
+
+  private ParallelExecutor parallelExecutor;
+
+  public JsonObjectProcessor() {
+    this(ParallelExecutor.sequential());
+  }
+
+  public JsonObjectProcessor(ParallelExecutor parallelExecutor) {
+    this.parallelExecutor = parallelExecutor != null ? parallelExecutor
+        : ParallelExecutor.sequential();
+  }
+
+  /**
+   * Transforms an object node by executing the pre-resolved steps of a compiled node plan.
+   * <p>
+   * When parallel execution is enabled and several nested steps target large values, those steps
+   * run as parallel tasks once every other step completed. Nested steps only modify their own
+   * subtree, so they never write to this node concurrently.
+   * </p>
+   *
+   * @param node     the JSON object node to be transformed
+   * @param nodePlan the compiled plan of the node's class
+   * @param <T>      the type of JsonNode; must be an ObjectNode
+   */
+  @Override
+  public <T extends JsonNode> void transform(T node, NodePlan nodePlan) {
+    final ObjectNode objectNode = (ObjectNode) node;
+    if (!parallelExecutor.isEnabled()) {
+      for (FieldPlan fieldPlan : nodePlan.getFieldPlans()) {
+        fieldPlan.getStrategy().execute(objectNode, fieldPlan);
+      }
+      return;
+    }
+    List<Runnable> largeNestedSteps = new ArrayList<>();
+    for (FieldPlan fieldPlan : nodePlan.getFieldPlans()) {
+      if (isLargeNestedStep(objectNode, fieldPlan)) {
+        largeNestedSteps.add(() -> fieldPlan.getStrategy().execute(objectNode, fieldPlan));
+      } else {
+        fieldPlan.getStrategy().execute(objectNode, fieldPlan);
+      }
+    }
+    parallelExecutor.invokeAll(largeNestedSteps);
+  }
+
+  private boolean isLargeNestedStep(ObjectNode objectNode, FieldPlan fieldPlan) {
+    if (fieldPlan.getOperator() != null) {
+      return false;
+    }
+    JsonNode value = objectNode.get(fieldPlan.getFieldName());
+    return value != null && parallelExecutor.shouldSplit(value.size());
+  }
+}
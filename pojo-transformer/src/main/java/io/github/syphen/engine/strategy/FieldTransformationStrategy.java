@@ -0,0 +1,22 @@
+package io.github.syphen.engine.strategy;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.PlanCompiler;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.model.TransformationContext;
+
+public interface FieldTransformationStrategy {
+
+  /**
+   * Resolves everything this strategy needs for the field once, so that {@link #execute} does not
+   * have to look at the context again.
+   */
+  FieldPlan compile(TransformationContext fieldContext, FieldTypeDescriptor fieldTypeInfo,
+      PlanCompiler planCompiler);
+
+  /**
+   * Applies a step previously produced by {@link #compile} to the parent node.
+   */
+  void execute(ObjectNode parentNode, FieldPlan fieldPlan);
+}
@@ -3,11 +3,14 @@ package io.github.syphen.engine.strategy.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.PlanCompiler;
 import io.github.syphen.engine.strategy.FieldTransformationStrategy;
 import io.github.syphen.factory.OperatorRegistry;
 import io.github.syphen.model.FieldTypeDescriptor;
 import io.github.syphen.model.TransformationContext;
 import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
 import io.github.syphen.utils.CommonUtil;
 import lombok.AllArgsConstructor;
 
@@ -28,31 +31,46 @@ public class DirectValueTransformationStrategy implements FieldTransformationStr
   private OperatorRegistry operatorRegistry;
 
   /**
-   * Applies a transformation to the specified field in the parent JSON node.
+   * Resolves the operator for the field once, along with the specialized hook matching the
+   * field's type; an unknown operator fails here rather than while transforming.
    *
-   * @param parentNode      the parent JSON object containing the field
-   * @param fieldContext    the transformation context for this specific field
-   * @param fieldTypeInfo   metadata about the field’s type, including whether it's a collection
-   *
-   * @throws IllegalArgumentException if operator is not found or if required parameters are null
+   * @param fieldContext  the transformation context for this specific field
+   * @param fieldTypeInfo metadata about the field’s type
+   * @param planCompiler  unused, direct values have no nested plan
+   * @return a step holding the resolved operator
    */
   @Override
-  public void process(ObjectNode parentNode, TransformationContext fieldContext,
-      FieldTypeDescriptor fieldTypeInfo) {
-    JsonNode fieldValue = parentNode.get(fieldContext.getNodeContext().getFieldName());
-
-    // 1. Determine which operator to use based on the context.
-    final String operatorType = resolveOperatorType(fieldContext);
-    final BaseOperator operator = operatorRegistry.getOperator(operatorType);
+  public FieldPlan compile(TransformationContext fieldContext, FieldTypeDescriptor fieldTypeInfo,
+      PlanCompiler planCompiler) {
+    String operatorKey = resolveOperatorType(fieldContext);
+    BaseOperator operator = operatorRegistry.getOperator(operatorKey);
+    ScalarType scalarType = ScalarType.of(fieldTypeInfo.getEffectiveType());
+    return FieldPlan.builder()
+        .fieldName(fieldContext.getNodeContext().getFieldName())
+        .fieldTypeDescriptor(fieldTypeInfo)
+        .strategy(this)
+        .operator(operator)
+        .operatorKey(operatorKey)
+        .scalarType(scalarType != null && operator.isSpecialized(scalarType) ? scalarType : null)
+        .build();
+  }
 
-    // 2. Apply the operator based on whether the field is a collection or a single value.
+  /**
+   * Applies a compiled step to the specified field in the parent JSON node.
+   *
+   * @param parentNode the parent JSON object containing the field
+   * @param fieldPlan  the compiled step holding the resolved operator
+   */
+  @Override
+  public void execute(ObjectNode parentNode, FieldPlan fieldPlan) {
+    final FieldTypeDescriptor fieldTypeInfo = fieldPlan.getFieldTypeDescriptor();
+    final JsonNode fieldValue = parentNode.get(fieldPlan.getFieldName());
     if (fieldTypeInfo.isCollection()) {
-      transformArrayElements(fieldValue, operator, fieldTypeInfo.getEffectiveType());
+      transformArrayElements(fieldValue, fieldPlan.getOperator(), fieldTypeInfo.getEffectiveType());
       return;
     }
-
-    parentNode.replace(fieldContext.getNodeContext().getFieldName(),
-        operator.apply(fieldValue, fieldTypeInfo.getEffectiveType()));
+    parentNode.replace(fieldPlan.getFieldName(),
+        fieldPlan.getOperator().apply(fieldValue, fieldTypeInfo.getEffectiveType()));
   }
 
   /**
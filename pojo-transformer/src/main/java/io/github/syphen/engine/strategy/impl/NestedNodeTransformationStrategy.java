@@ -0,0 +1,59 @@
+package io.github.syphen.engine.strategy.impl;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.PlanCompiler;
+import io.github.syphen.engine.strategy.FieldTransformationStrategy;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.model.TransformationContext;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Strategy for transforming nested POJO nodes within a JSON object.
+ * <p>
+ * Delegates the transformation logic to a {@link NodeTransformer}, which handles
+ * the recursive transformation of nested fields or objects.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NestedNodeTransformationStrategy implements FieldTransformationStrategy {
+
+  /** Transformer used to recursively apply transformations to nested POJO nodes. */
+  private NodeTransformer nodeTransformer;
+
+  /**
+   * Compiles the plan of the nested POJO type using the field's own node context.
+   *
+   * @param fieldContext  The transformation context associated with the specific field.
+   * @param fieldTypeInfo Metadata describing the type of the field (including the nested type).
+   * @param planCompiler  Compiler used to build the nested plan.
+   * @return a step holding the nested plan
+   */
+  @Override
+  public FieldPlan compile(TransformationContext fieldContext, FieldTypeDescriptor fieldTypeInfo,
+      PlanCompiler planCompiler) {
+    return FieldPlan.builder()
+        .fieldName(fieldContext.getNodeContext().getFieldName())
+        .fieldTypeDescriptor(fieldTypeInfo)
+        .strategy(this)
+        .nestedPlan(planCompiler.compileNode(fieldTypeInfo.getEffectiveType(), fieldContext))
+        .build();
+  }
+
+  /**
+   * Applies the nested plan of a compiled step to the nested node.
+   *
+   * @param parentNode The JSON object containing the nested field.
+   * @param fieldPlan  The compiled step holding the nested plan.
+   */
+  @Override
+  public void execute(ObjectNode parentNode, FieldPlan fieldPlan) {
+    nodeTransformer.applyPlan(parentNode.get(fieldPlan.getFieldName()), fieldPlan.getNestedPlan());
+  }
+}
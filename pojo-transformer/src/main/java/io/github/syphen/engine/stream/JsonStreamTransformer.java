@@ -0,0 +1,206 @@
+package io.github.syphen.engine.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import io.github.syphen.utils.MapperUtil;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Applies a compiled {@link NodePlan} while copying tokens from a {@link JsonParser} to a
+ * {@link JsonGenerator}, without materializing the whole document as a tree.
+ * <p>
+ * Fields that are not part of the plan are copied token by token. Only values targeted by a direct
+ * value step are read into a (small) {@link JsonNode} so the operator can be applied to them, or
+ * passed to the operator's specialized hook for their type, and nested steps recurse into the
+ * nested object or array. The output matches what the tree based
+ * path produces for the same document, including direct value fields that are absent from the
+ * input, which are written at the end of their object.
+ * </p>
+ */
+public class JsonStreamTransformer {
+
+  private final ObjectMapper objectMapper = MapperUtil.getObjectMapper();
+
+  /**
+   * Transforms every root level value available from the parser and writes it to the generator.
+   *
+   * @param parser    source of tokens, positioned before the first root value
+   * @param generator destination of the transformed tokens
+   * @param rootPlan  compiled plan of the root class
+   * @throws IOException if reading or writing fails
+   */
+  public void transform(JsonParser parser, JsonGenerator generator, NodePlan rootPlan)
+      throws IOException {
+    while (parser.nextToken() != null) {
+      writeValue(parser, generator, rootPlan);
+    }
+    generator.flush();
+  }
+
+  /**
+   * Writes the value the parser is positioned on, applying the plan if it is an object or an array
+   * of objects.
+   */
+  private void writeValue(JsonParser parser, JsonGenerator generator, NodePlan nodePlan)
+      throws IOException {
+    if (nodePlan == null || nodePlan.isEmpty()) {
+      generator.copyCurrentStructure(parser);
+      return;
+    }
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      writeObject(parser, generator, nodePlan);
+    } else if (token == JsonToken.START_ARRAY) {
+      generator.writeStartArray();
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+          writeObject(parser, generator, nodePlan);
+        } else {
+          generator.copyCurrentStructure(parser);
+        }
+      }
+      generator.writeEndArray();
+    } else {
+      generator.copyCurrentStructure(parser);
+    }
+  }
+
+  private void writeObject(JsonParser parser, JsonGenerator generator, NodePlan nodePlan)
+      throws IOException {
+    final List<FieldPlan> fieldPlans = nodePlan.getFieldPlans();
+    final boolean[] visited = new boolean[fieldPlans.size()];
+    generator.writeStartObject();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+      generator.writeFieldName(fieldName);
+      int index = nodePlan.indexOf(fieldName);
+      if (index < 0) {
+        generator.copyCurrentStructure(parser);
+        continue;
+      }
+      visited[index] = true;
+      FieldPlan fieldPlan = fieldPlans.get(index);
+      if (fieldPlan.getOperator() == null) {
+        writeValue(parser, generator, fieldPlan.getNestedPlan());
+      } else {
+        writeDirectValue(parser, generator, fieldPlan);
+      }
+    }
+    writeAbsentDirectValues(generator, fieldPlans, visited);
+    generator.writeEndObject();
+  }
+
+  /**
+   * Mirrors {@code DirectValueTransformationStrategy}: collections have the operator applied per
+   * element, any other value is replaced by the operator result.
+   */
+  private void writeDirectValue(JsonParser parser, JsonGenerator generator, FieldPlan fieldPlan)
+      throws IOException {
+    if (!fieldPlan.getFieldTypeDescriptor().isCollection()) {
+      writeOperatorResult(parser, generator, fieldPlan);
+      return;
+    }
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      generator.copyCurrentStructure(parser);
+      return;
+    }
+    generator.writeStartArray();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      writeOperatorResult(parser, generator, fieldPlan);
+    }
+    generator.writeEndArray();
+  }
+
+  /**
+   * Applies the operator to the value the parser is positioned on and writes the result.
+   */
+  private void writeOperatorResult(JsonParser parser, JsonGenerator generator,
+      FieldPlan fieldPlan) throws IOException {
+    if (fieldPlan.getScalarType() != null
+        && writeHookResult(parser, generator, fieldPlan.getOperator(), fieldPlan.getScalarType())) {
+      return;
+    }
+    writeNode(generator, fieldPlan.getOperator().apply(readNode(parser),
+        fieldPlan.getFieldTypeDescriptor().getEffectiveType()));
+  }
+
+  /**
+   * Passes a scalar token of the hook's type straight to the operator hook, without reading it
+   * into a {@link JsonNode}. Tokens the tree would read into another kind of node, such as an
+   * integer for a {@code double} field, are left to the generic method.
+   *
+   * @return {@code false} if the token does not match the hook and nothing was written
+   */
+  private static boolean writeHookResult(JsonParser parser, JsonGenerator generator,
+      BaseOperator operator, ScalarType scalarType) throws IOException {
+    JsonToken token = parser.currentToken();
+    switch (scalarType) {
+      case TEXT -> {
+        if (token != JsonToken.VALUE_STRING) {
+          return false;
+        }
+        CharSequence result = operator.applyText(parser.getText());
+        if (result == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(result.toString());
+        }
+      }
+      case LONG -> {
+        if (token != JsonToken.VALUE_NUMBER_INT
+            || parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+          return false;
+        }
+        generator.writeNumber(operator.applyLong(parser.getLongValue()));
+      }
+      case DOUBLE -> {
+        if (token != JsonToken.VALUE_NUMBER_FLOAT) {
+          return false;
+        }
+        generator.writeNumber(operator.applyDouble(parser.getDoubleValue()));
+      }
+      case BOOLEAN -> {
+        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+          return false;
+        }
+        generator.writeBoolean(operator.applyBoolean(token == JsonToken.VALUE_TRUE));
+      }
+    }
+    return true;
+  }
+
+  private void writeAbsentDirectValues(JsonGenerator generator, List<FieldPlan> fieldPlans,
+      boolean[] visited) throws IOException {
+    for (int i = 0; i < visited.length; i++) {
+      FieldPlan fieldPlan = fieldPlans.get(i);
+      if (visited[i] || fieldPlan.getOperator() == null
+          || fieldPlan.getFieldTypeDescriptor().isCollection()) {
+        continue;
+      }
+      generator.writeFieldName(fieldPlan.getFieldName());
+      writeNode(generator, fieldPlan.getOperator()
+          .apply(null, fieldPlan.getFieldTypeDescriptor().getEffectiveType()));
+    }
+  }
+
+  private JsonNode readNode(JsonParser parser) throws IOException {
+    return objectMapper.readTree(parser);
+  }
+
+  private void writeNode(JsonGenerator generator, JsonNode node) throws IOException {
+    if (node == null) {
+      generator.writeNull();
+      return;
+    }
+    objectMapper.writeTree(generator, node);
+  }
+}
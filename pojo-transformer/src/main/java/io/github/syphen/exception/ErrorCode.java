@@ -17,6 +17,7 @@ public enum ErrorCode implements DataTransformationErrorCode {
   SERIALIZATION_ERROR(500),
   DESERIALIZATION_ERROR(500),
   DUPLICATE_OPERATOR_KEY_ERROR(500),
-  INITIALIZATION_OPERATOR_ERROR(500);
+  INITIALIZATION_OPERATOR_ERROR(500),
+  MANAGEMENT_REGISTRATION_ERROR(500);
   final int status;
 }
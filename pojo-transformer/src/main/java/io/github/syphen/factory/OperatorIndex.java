@@ -0,0 +1,142 @@
+package io.github.syphen.factory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the operator indexes written at build time by the {@code OperatorIndexProcessor} of the
+ * {@code pojo-transformer-processor} module. Each index is a {@value #RESOURCE} resource listing
+ * the binary names of the classes annotated with
+ * {@link io.github.syphen.annotation.RegisterOperator}, one per line; blank lines and lines
+ * starting with {@code #} are ignored.
+ * <p>
+ * An index covers the classpath entry it belongs to only: entries without an index, e.g. jars
+ * compiled without the processor, still have to be scanned.
+ * </p>
+ */
+public final class OperatorIndex {
+
+  /** Location of the indexes, relative to the root of every classpath entry. */
+  public static final String RESOURCE = "META-INF/pojo-transformer/operators";
+
+  private static final Logger log = LoggerFactory.getLogger(OperatorIndex.class);
+
+  private OperatorIndex() {}
+
+  /**
+   * Loads the classes listed by all indexes visible to a class loader. Listed classes that no
+   * longer exist, e.g. after an incremental build, are skipped with a warning.
+   *
+   * @param classLoader loader used to find the indexes and load the classes
+   * @param packages    packages the classes must belong to, including sub packages; all listed
+   *                    classes are loaded when empty
+   * @return the listed classes, or empty if the class loader sees no index
+   * @throws UncheckedIOException if an index cannot be read
+   */
+  public static Optional<Set<Class<?>>> load(ClassLoader classLoader,
+      Collection<String> packages) {
+    try {
+      Enumeration<URL> indexes = classLoader.getResources(RESOURCE);
+      if (!indexes.hasMoreElements()) {
+        return Optional.empty();
+      }
+      Set<Class<?>> classes = new LinkedHashSet<>();
+      while (indexes.hasMoreElements()) {
+        URL index = indexes.nextElement();
+        for (String className : read(index)) {
+          if (!inPackages(className, packages)) {
+            continue;
+          }
+          try {
+            classes.add(Class.forName(className, false, classLoader));
+          } catch (ClassNotFoundException e) {
+            log.warn("Ignoring operator {} listed in {}: class not found", className, index);
+          }
+        }
+      }
+      return Optional.of(classes);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read " + RESOURCE, e);
+    }
+  }
+
+  /**
+   * Returns the classpath entries holding an index visible to a class loader.
+   *
+   * @param classLoader loader used to find the indexes
+   * @return the locations of the indexed entries, see {@link #entryOf}
+   * @throws UncheckedIOException if the indexes cannot be listed
+   */
+  public static Set<String> indexedEntries(ClassLoader classLoader) {
+    try {
+      Set<String> entries = new LinkedHashSet<>();
+      for (Enumeration<URL> indexes = classLoader.getResources(RESOURCE);
+          indexes.hasMoreElements(); ) {
+        entries.add(entryOf(indexes.nextElement()));
+      }
+      return entries;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read " + RESOURCE, e);
+    }
+  }
+
+  /**
+   * Returns the location of the classpath entry a URL belongs to, so that the URL of an index, the
+   * root of a jar and a class path element compare equal, e.g. {@code file:/app/lib.jar} for
+   * {@code jar:file:/app/lib.jar!/} and {@code file:/app/classes} for
+   * {@code file:/app/classes/META-INF/pojo-transformer/operators}.
+   *
+   * @param url an index, or the root of a directory or jar
+   * @return the location of the directory or jar
+   */
+  public static String entryOf(URL url) {
+    String location = url.toExternalForm();
+    if (location.endsWith(RESOURCE)) {
+      location = location.substring(0, location.length() - RESOURCE.length());
+    }
+    if (location.startsWith("jar:")) {
+      location = location.substring("jar:".length());
+      if (location.endsWith("!/")) {
+        location = location.substring(0, location.length() - "!/".length());
+      }
+    }
+    return location.endsWith("/") ? location.substring(0, location.length() - 1) : location;
+  }
+
+  private static Set<String> read(URL index) throws IOException {
+    Set<String> classNames = new LinkedHashSet<>();
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        line = line.trim();
+        if (!line.isEmpty() && !line.startsWith("#")) {
+          classNames.add(line);
+        }
+      }
+    }
+    return classNames;
+  }
+
+  private static boolean inPackages(String className, Collection<String> packages) {
+    if (packages.isEmpty()) {
+      return true;
+    }
+    for (String pkg : packages) {
+      if (className.startsWith(pkg + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
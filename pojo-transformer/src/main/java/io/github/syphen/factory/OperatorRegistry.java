@@ -4,7 +4,7 @@ import io.github.syphen.exception.DataTransformationException;
 import io.github.syphen.exception.ErrorCode;
 import io.github.syphen.operator.BaseOperator;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 /**
  * Registry for managing and retrieving transformation operators by key.
@@ -12,6 +12,10 @@ import java.util.Optional;
  * This class provides a safe and centralized way to look up {@link BaseOperator} instances
  * using operator type keys. It throws descriptive exceptions when an operator is not found.
  * </p>
+ * <p>
+ * Keys are looked up when a context is compiled into a plan; the plan keeps the operator itself,
+ * so transformations do not look up operators. A lookup does not allocate.
+ * </p>
  */
 public class OperatorRegistry {
 
@@ -40,8 +44,18 @@ public class OperatorRegistry {
       throw DataTransformationException.propagate(ErrorCode.OPERATOR_KEY_NULL_OR_EMPTY_ERROR,
           new Throwable("Operator type cannot be null or empty"));
     }
-    return Optional.ofNullable(operatorMap.get(key)).orElseThrow(
-        () -> DataTransformationException.propagate(ErrorCode.OPERATOR_NULL_ERROR,
-            new Throwable("Unknown operator type=" + key)));
+    BaseOperator operator = operatorMap.get(key);
+    if (operator == null) {
+      throw DataTransformationException.propagate(ErrorCode.OPERATOR_NULL_ERROR,
+          new Throwable("Unknown operator type=" + key));
+    }
+    return operator;
+  }
+
+  /**
+   * @return the keys of the registered operators
+   */
+  public Set<String> getOperatorKeys() {
+    return operatorMap.keySet();
   }
 }
@@ -0,0 +1,292 @@
+package io.github.syphen.flow;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * {@link Flow.Processor} applying a transformation to every item of a stream, with bounded
+ * buffering, demand driven backpressure and ordered parallelism.
+ * <p>
+ * At most {@code bufferSize} items are requested from upstream ahead of what was delivered
+ * downstream, and one more item is requested for every item delivered, so a slow subscriber
+ * slows the publisher down instead of growing a buffer. Up to {@code parallelism} items are
+ * transformed at the same time on the executor; results are delivered in the order the items
+ * were received, so a slow item holds back the completed items received after it. A failed
+ * transformation cancels upstream and is signalled through {@code onError} after the items
+ * received before it were delivered.
+ * </p>
+ * <p>
+ * Only a single subscriber is supported.
+ * </p>
+ *
+ * @param <I> type of the received items
+ * @param <O> type of the delivered items
+ */
+public class TransformationProcessor<I, O> implements Flow.Processor<I, O> {
+
+  private final Function<? super I, ? extends O> transformation;
+  private final Executor executor;
+  private final int parallelism;
+  private final int bufferSize;
+
+  /** Received items waiting for a free parallelism slot. */
+  private final Queue<Slot<I, O>> pending = new ConcurrentLinkedQueue<>();
+  /** Started items in arrival order, only accessed by the draining thread. */
+  private final ArrayDeque<Slot<I, O>> started = new ArrayDeque<>();
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger wip = new AtomicInteger();
+  private final AtomicLong demand = new AtomicLong();
+
+  private volatile Flow.Subscription upstream;
+  private volatile Flow.Subscriber<? super O> downstream;
+  private volatile boolean upstreamRequested;
+  private volatile boolean done;
+  private volatile Throwable upstreamError;
+  private volatile Throwable requestError;
+  private volatile boolean cancelled;
+  private boolean terminated;
+
+  /**
+   * @param transformation transformation applied to every item; must not return {@code null}
+   * @param executor       executor running the transformations
+   * @param parallelism    maximum number of items transformed at the same time
+   * @param bufferSize     maximum number of items requested from upstream and not yet delivered
+   *                       downstream, at least {@code parallelism}
+   */
+  public TransformationProcessor(Function<? super I, ? extends O> transformation,
+      Executor executor, int parallelism, int bufferSize) {
+    if (parallelism < 1 || bufferSize < parallelism) {
+      throw new IllegalArgumentException("parallelism must be positive and bufferSize at least "
+          + "parallelism, got parallelism=" + parallelism + ", bufferSize=" + bufferSize);
+    }
+    this.transformation = Objects.requireNonNull(transformation, "transformation");
+    this.executor = Objects.requireNonNull(executor, "executor");
+    this.parallelism = parallelism;
+    this.bufferSize = bufferSize;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super O> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    synchronized (this) {
+      if (downstream != null) {
+        subscriber.onSubscribe(new NoopSubscription());
+        subscriber.onError(new IllegalStateException("Only a single subscriber is supported"));
+        return;
+      }
+      downstream = subscriber;
+    }
+    subscriber.onSubscribe(new DownstreamSubscription());
+    requestUpstream();
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription, "subscription");
+    synchronized (this) {
+      if (upstream != null || cancelled) {
+        subscription.cancel();
+        return;
+      }
+      upstream = subscription;
+    }
+    requestUpstream();
+  }
+
+  @Override
+  public void onNext(I item) {
+    Objects.requireNonNull(item, "item");
+    if (done || cancelled) {
+      return;
+    }
+    pending.offer(new Slot<>(item));
+    drain();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    upstreamError = Objects.requireNonNull(throwable, "throwable");
+    done = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    done = true;
+    drain();
+  }
+
+  /**
+   * Requests the initial buffer from upstream once both sides are subscribed.
+   */
+  private void requestUpstream() {
+    Flow.Subscription subscription;
+    synchronized (this) {
+      if (upstreamRequested || upstream == null || downstream == null) {
+        return;
+      }
+      upstreamRequested = true;
+      subscription = upstream;
+    }
+    subscription.request(bufferSize);
+  }
+
+  /**
+   * Single-threaded event loop: starts transformations while slots are free and delivers
+   * completed results in order while downstream has demand. Any thread may call it; only one
+   * runs the loop at a time and the others leave their work to it.
+   */
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      if (cancelled) {
+        pending.clear();
+        started.clear();
+      } else if (!terminated && requestError != null) {
+        terminate();
+        downstream.onError(requestError);
+      } else if (!terminated && downstream != null) {
+        startTransformations();
+        deliverResults();
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void startTransformations() {
+    Slot<I, O> slot;
+    while (running.get() < parallelism && (slot = pending.poll()) != null) {
+      running.incrementAndGet();
+      started.offer(slot);
+      final Slot<I, O> current = slot;
+      try {
+        executor.execute(() -> transform(current));
+      } catch (RuntimeException e) {
+        running.decrementAndGet();
+        current.complete(null, e);
+      }
+    }
+  }
+
+  private void transform(Slot<I, O> slot) {
+    try {
+      O result = transformation.apply(slot.input);
+      slot.complete(result, result == null
+          ? new NullPointerException("Transformation returned null") : null);
+    } catch (RuntimeException | Error e) {
+      slot.complete(null, e);
+    }
+    running.decrementAndGet();
+    drain();
+  }
+
+  private void deliverResults() {
+    final Flow.Subscriber<? super O> subscriber = downstream;
+    Slot<I, O> head;
+    while ((head = started.peek()) != null && head.completed) {
+      if (head.error != null) {
+        terminate();
+        upstream.cancel();
+        subscriber.onError(head.error);
+        return;
+      }
+      if (demand.get() == 0) {
+        return;
+      }
+      started.poll();
+      demand.decrementAndGet();
+      subscriber.onNext(head.result);
+      if (cancelled) {
+        return;
+      }
+      upstream.request(1);
+      startTransformations();
+    }
+    if (done && started.isEmpty() && pending.isEmpty()) {
+      terminate();
+      if (upstreamError != null) {
+        subscriber.onError(upstreamError);
+      } else {
+        subscriber.onComplete();
+      }
+    }
+  }
+
+  private void terminate() {
+    terminated = true;
+    pending.clear();
+    started.clear();
+  }
+
+  private static final class Slot<I, O> {
+
+    private final I input;
+    private O result;
+    private Throwable error;
+    private volatile boolean completed;
+
+    private Slot(I input) {
+      this.input = input;
+    }
+
+    private void complete(O result, Throwable error) {
+      this.result = result;
+      this.error = error;
+      this.completed = true;
+    }
+  }
+
+  private final class DownstreamSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        requestError = new IllegalArgumentException("Requested " + n + " items, must be positive");
+        cancelUpstream();
+        drain();
+        return;
+      }
+      demand.getAndAccumulate(n, (current, added) -> {
+        long sum = current + added;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+      });
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      cancelUpstream();
+      drain();
+    }
+
+    private void cancelUpstream() {
+      Flow.Subscription subscription = upstream;
+      if (subscription != null) {
+        subscription.cancel();
+      }
+    }
+  }
+
+  private static final class NoopSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(long n) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package io.github.syphen.instrument;
+
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.jfr.TransformationEvent;
+import io.github.syphen.metrics.TransformationMetrics;
+import io.github.syphen.model.TransformationContext;
+
+/**
+ * Observes the calls of a {@link io.github.syphen.Transformer}: reports them to the
+ * {@link TransformationMetrics}, emits flight recorder events and logs slow calls. When nothing
+ * is configured, {@link #begin()} returns {@code null} and no clock is read.
+ */
+public final class Instrumentation {
+
+  /** Instrumentation observing nothing. */
+  public static final Instrumentation DISABLED = new Instrumentation(TransformationMetrics.NOOP,
+      false, null);
+
+  private final TransformationMetrics metrics;
+  private final boolean metricsEnabled;
+  private final boolean flightRecorderEvents;
+  private final SlowTransformationLog slowLog;
+
+  /**
+   * @param metrics              receiver of the measurements
+   * @param flightRecorderEvents whether a {@link TransformationEvent} is emitted per call
+   * @param slowLog              log of the slow calls, {@code null} to log nothing
+   */
+  public Instrumentation(TransformationMetrics metrics, boolean flightRecorderEvents,
+      SlowTransformationLog slowLog) {
+    this.metrics = metrics;
+    this.metricsEnabled = metrics != TransformationMetrics.NOOP;
+    this.flightRecorderEvents = flightRecorderEvents;
+    this.slowLog = slowLog;
+  }
+
+  /**
+   * Starts observing a call.
+   *
+   * @return the state of the call, {@code null} when nothing is observed
+   */
+  public Call begin() {
+    if (!metricsEnabled && !flightRecorderEvents && slowLog == null) {
+      return null;
+    }
+    TransformationEvent event = null;
+    if (flightRecorderEvents) {
+      event = new TransformationEvent();
+      event.begin();
+    }
+    return new Call(System.nanoTime(), event,
+        slowLog == null ? null : slowLog.startProfile());
+  }
+
+  /**
+   * Ends a successful call.
+   *
+   * @param call                  state returned by {@link #begin()}
+   * @param operation             name of the Transformer method
+   * @param pojoClass             class of the transformed object or schema class
+   * @param transformationContext context of the call
+   * @param rootPlan              plan of the root class, {@code null} if unknown
+   * @param objects               number of transformed objects or documents
+   */
+  public void completed(Call call, String operation, Class<?> pojoClass,
+      TransformationContext transformationContext, NodePlan rootPlan, int objects) {
+    if (call == null) {
+      return;
+    }
+    long durationNanos = System.nanoTime() - call.start;
+    if (metricsEnabled) {
+      metrics.transformationCompleted(pojoClass, durationNanos);
+    }
+    if (call.event != null) {
+      call.event.complete(operation, pojoClass, transformationContext, rootPlan, objects);
+    }
+    if (slowLog != null) {
+      slowLog.completed(call.profile, operation, pojoClass, rootPlan, durationNanos);
+    }
+  }
+
+  /**
+   * Byte based variant of
+   * {@link #completed(Call, String, Class, TransformationContext, NodePlan, int)}, also reporting
+   * the sizes of the document.
+   */
+  public void completed(Call call, String operation, Class<?> pojoClass,
+      TransformationContext transformationContext, NodePlan rootPlan, long inputBytes,
+      long outputBytes) {
+    completed(call, operation, pojoClass, transformationContext, rootPlan, 1);
+    if (call != null && metricsEnabled) {
+      metrics.bytesProcessed(pojoClass, inputBytes, outputBytes);
+    }
+  }
+
+  /**
+   * Ends a failed call. A {@link DataTransformationException} is returned unchanged, so callers
+   * and metrics see the code it was raised with; any other failure is wrapped as a
+   * {@link ErrorCode#TRANSFORMATION_ERROR}.
+   *
+   * @param call      state returned by {@link #begin()}, {@code null} when nothing is observed
+   *                  or the call failed before it was begun
+   * @param pojoClass class of the transformed object or schema class
+   * @param e         the failure
+   * @return the exception to throw
+   */
+  public DataTransformationException failed(Call call, Class<?> pojoClass, Exception e) {
+    DataTransformationException exception = e instanceof DataTransformationException failure
+        ? failure : DataTransformationException.propagate(ErrorCode.TRANSFORMATION_ERROR, e);
+    if (call != null && call.profile != null) {
+      call.profile.stop();
+    }
+    metrics.transformationFailed(pojoClass, exception.getCode());
+    return exception;
+  }
+
+  /**
+   * State of an observed call.
+   */
+  public static final class Call {
+
+    private final long start;
+    private final TransformationEvent event;
+    private final TransformationProfile profile;
+
+    private Call(long start, TransformationEvent event, TransformationProfile profile) {
+      this.start = start;
+      this.event = event;
+      this.profile = profile;
+    }
+  }
+}
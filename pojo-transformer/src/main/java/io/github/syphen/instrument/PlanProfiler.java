@@ -0,0 +1,46 @@
+package io.github.syphen.instrument;
+
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.plan.TransformationPlan;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewrites compiled plans so that the operator of every step is a {@link ProfiledOperator} named
+ * after the path of its field.
+ */
+public final class PlanProfiler {
+
+  private PlanProfiler() {
+  }
+
+  /**
+   * @param plan a compiled plan
+   * @return an equivalent plan whose operators are profiled
+   */
+  public static TransformationPlan instrument(TransformationPlan plan) {
+    return new TransformationPlan(plan.getRootClass(), plan.getTransformationContext(),
+        instrument(plan.getRootPlan(), plan.getRootName()));
+  }
+
+  private static NodePlan instrument(NodePlan nodePlan, String parentPath) {
+    List<FieldPlan> fieldPlans = new ArrayList<>(nodePlan.getFieldPlans().size());
+    for (FieldPlan fieldPlan : nodePlan.getFieldPlans()) {
+      String path = parentPath + "." + fieldPlan.getFieldName()
+          + (fieldPlan.getFieldTypeDescriptor().isCollection() ? "[*]" : "");
+      fieldPlans.add(FieldPlan.builder()
+          .fieldName(fieldPlan.getFieldName())
+          .fieldTypeDescriptor(fieldPlan.getFieldTypeDescriptor())
+          .strategy(fieldPlan.getStrategy())
+          .operator(fieldPlan.getOperator() == null ? null : new ProfiledOperator(
+              new ProfiledStep(path, fieldPlan.getOperatorKey()), fieldPlan.getOperator()))
+          .operatorKey(fieldPlan.getOperatorKey())
+          .scalarType(fieldPlan.getScalarType())
+          .nestedPlan(fieldPlan.getNestedPlan() == null ? null
+              : instrument(fieldPlan.getNestedPlan(), path))
+          .build());
+    }
+    return new NodePlan(nodePlan.getPojoClass(), fieldPlans);
+  }
+}
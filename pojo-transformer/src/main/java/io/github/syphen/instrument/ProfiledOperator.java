@@ -0,0 +1,95 @@
+package io.github.syphen.instrument;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Operator of a single plan step, attributing the time of its calls to the step when the
+ * current thread is being profiled.
+ */
+@AllArgsConstructor
+public final class ProfiledOperator extends BaseOperator {
+
+  @Getter
+  private final ProfiledStep step;
+  @Getter
+  private final BaseOperator delegate;
+
+  @Override
+  public JsonNode apply(JsonNode input, Class<?> inputClass) {
+    TransformationProfile profile = TransformationProfile.current();
+    if (profile == null) {
+      return delegate.apply(input, inputClass);
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.apply(input, inputClass);
+    } finally {
+      profile.record(step, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public CharSequence applyText(CharSequence input) {
+    TransformationProfile profile = TransformationProfile.current();
+    if (profile == null) {
+      return delegate.applyText(input);
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.applyText(input);
+    } finally {
+      profile.record(step, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public long applyLong(long input) {
+    TransformationProfile profile = TransformationProfile.current();
+    if (profile == null) {
+      return delegate.applyLong(input);
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.applyLong(input);
+    } finally {
+      profile.record(step, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public double applyDouble(double input) {
+    TransformationProfile profile = TransformationProfile.current();
+    if (profile == null) {
+      return delegate.applyDouble(input);
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.applyDouble(input);
+    } finally {
+      profile.record(step, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public boolean applyBoolean(boolean input) {
+    TransformationProfile profile = TransformationProfile.current();
+    if (profile == null) {
+      return delegate.applyBoolean(input);
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.applyBoolean(input);
+    } finally {
+      profile.record(step, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public boolean isSpecialized(ScalarType scalarType) {
+    return delegate.isSpecialized(scalarType);
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.syphen.instrument;
+
+/**
+ * Field step of a plan whose operator calls are attributed to a path in profiles.
+ *
+ * @param path        path of the field from the root, e.g. {@code root.random1List[*].name}
+ * @param operatorKey key of the operator of the step
+ */
+public record ProfiledStep(String path, String operatorKey) {
+
+}
@@ -0,0 +1,141 @@
+package io.github.syphen.instrument;
+
+import io.github.syphen.config.SlowTransformationLogConfig;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.engine.plan.NodePlan;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs a warning for every call slower than the configured threshold, with the time spent per
+ * field path when the call was profiled. Besides the message, the record carries the measurements
+ * as SLF4J key-value pairs for structured encoders.
+ * <p>
+ * The time not spent in operators is attributed to the "tree round trip" for the calls converting
+ * objects to and from JSON trees, i.e. those building trees and those of the tree engine, and to
+ * the "pipeline" for the other calls, such as the streaming ones and those of the accessor and
+ * generated engines.
+ * </p>
+ * <p>
+ * Example message:
+ * </p>
+ * <pre>
+ * Slow transform of com.acme.Order: 120.4 ms, operators 98.1 ms (operators dominate), 3 plan
+ * steps, 801 operator calls
+ *   root.lines[*].sku -> hash: 97.3 ms, 800 calls
+ *   root.customer.email -> mask: 0.8 ms, 1 calls
+ * </pre>
+ */
+public class SlowTransformationLog {
+
+  private static final Logger log = LoggerFactory.getLogger(SlowTransformationLog.class);
+
+  private final long thresholdNanos;
+  private final int sampleInterval;
+  /** Whether {@code transform} and {@code transformAll} convert objects through JSON trees. */
+  private final boolean treeEngine;
+
+  /**
+   * @param config     threshold and sampling of the log
+   * @param engineType engine of the observed transformer
+   */
+  public SlowTransformationLog(SlowTransformationLogConfig config,
+      TransformationEngineType engineType) {
+    if (config.getSampleInterval() < 1) {
+      throw new IllegalArgumentException("sampleInterval must be positive");
+    }
+    this.thresholdNanos = config.getThreshold().toNanos();
+    this.sampleInterval = config.getSampleInterval();
+    this.treeEngine = engineType == TransformationEngineType.TREE;
+  }
+
+  /**
+   * Starts profiling the current thread if the call is part of the sample.
+   *
+   * @return the profile of the call, {@code null} if it is not profiled
+   */
+  TransformationProfile startProfile() {
+    if (sampleInterval > 1 && ThreadLocalRandom.current().nextInt(sampleInterval) != 0) {
+      return null;
+    }
+    return TransformationProfile.start();
+  }
+
+  /**
+   * Ends the profile of a call and logs the call if it exceeds the threshold.
+   *
+   * @param profile       profile of the call, {@code null} if it was not profiled
+   * @param operation     name of the Transformer method
+   * @param rootClass     class of the transformed object or schema class
+   * @param rootPlan      plan of the root class, {@code null} if unknown
+   * @param durationNanos elapsed time of the call
+   */
+  void completed(TransformationProfile profile, String operation, Class<?> rootClass,
+      NodePlan rootPlan, long durationNanos) {
+    if (profile != null) {
+      profile.stop();
+    }
+    if (durationNanos < thresholdNanos || !log.isWarnEnabled()) {
+      return;
+    }
+    int planSteps = rootPlan == null ? 0 : rootPlan.getStepCount();
+    StringBuilder message = new StringBuilder("Slow ").append(operation).append(" of ")
+        .append(rootClass.getName()).append(": ").append(millis(durationNanos)).append(" ms");
+    if (profile == null) {
+      message.append(", ").append(planSteps)
+          .append(" plan steps, not sampled for a per path breakdown");
+      log.atWarn().addKeyValue("operation", operation)
+          .addKeyValue("rootClass", rootClass.getName())
+          .addKeyValue("durationMs", millis(durationNanos))
+          .addKeyValue("planSteps", planSteps)
+          .log(message.toString());
+      return;
+    }
+    long operatorNanos = profile.getOperatorNanos();
+    boolean operatorsDominate = operatorNanos * 2 >= durationNanos;
+    String dominant = operatorsDominate ? "operators"
+        : buildsTrees(operation) ? "tree round trip" : "pipeline";
+    message.append(", operators ").append(millis(operatorNanos)).append(" ms (")
+        .append(dominant).append(operatorsDominate ? " dominate), " : " dominates), ")
+        .append(planSteps).append(" plan steps, ")
+        .append(profile.getOperatorCalls()).append(" operator calls");
+    List<Map.Entry<ProfiledStep, long[]>> steps = new ArrayList<>(
+        profile.getSteps().entrySet());
+    steps.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+    Map<String, Double> pathMillis = new LinkedHashMap<>();
+    for (Map.Entry<ProfiledStep, long[]> step : steps) {
+      String name = step.getKey().path() + " -> " + step.getKey().operatorKey();
+      message.append(System.lineSeparator()).append("  ").append(name).append(": ")
+          .append(millis(step.getValue()[0])).append(" ms, ").append(step.getValue()[1])
+          .append(" calls");
+      pathMillis.put(name, millis(step.getValue()[0]));
+    }
+    log.atWarn().addKeyValue("operation", operation)
+        .addKeyValue("rootClass", rootClass.getName())
+        .addKeyValue("durationMs", millis(durationNanos))
+        .addKeyValue("operatorMs", millis(operatorNanos))
+        .addKeyValue("dominant", dominant)
+        .addKeyValue("planSteps", planSteps)
+        .addKeyValue("operatorCalls", profile.getOperatorCalls())
+        .addKeyValue("paths", pathMillis)
+        .log(message.toString());
+  }
+
+  private boolean buildsTrees(String operation) {
+    return switch (operation) {
+      case "transform", "transformAll" -> treeEngine;
+      case "buildTransformedJsonNode", "buildTransformedJsonNodes", "transformJsonNode" -> true;
+      default -> false;
+    };
+  }
+
+  private static double millis(long nanos) {
+    return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 10) / 10.0;
+  }
+}
@@ -0,0 +1,74 @@
+package io.github.syphen.instrument;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Time spent in the operators of every {@link ProfiledStep} during one call, collected on the
+ * calling thread. Operator calls on other threads, such as with parallel execution, are not
+ * attributed.
+ */
+public final class TransformationProfile {
+
+  private static final ThreadLocal<TransformationProfile> CURRENT = new ThreadLocal<>();
+  /** Number of profiles in progress on any thread; lets unprofiled calls skip the lookup. */
+  private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+  private final Map<ProfiledStep, long[]> steps = new IdentityHashMap<>();
+  private long operatorNanos;
+  private long operatorCalls;
+
+  private TransformationProfile() {
+  }
+
+  /**
+   * Starts profiling the current thread.
+   *
+   * @return the new profile, or {@code null} if the thread is already being profiled
+   */
+  static TransformationProfile start() {
+    if (CURRENT.get() != null) {
+      return null;
+    }
+    TransformationProfile profile = new TransformationProfile();
+    CURRENT.set(profile);
+    ACTIVE.incrementAndGet();
+    return profile;
+  }
+
+  /**
+   * @return the profile of the current thread, {@code null} when it is not being profiled
+   */
+  static TransformationProfile current() {
+    return ACTIVE.get() == 0 ? null : CURRENT.get();
+  }
+
+  void stop() {
+    if (CURRENT.get() == this) {
+      CURRENT.remove();
+      ACTIVE.decrementAndGet();
+    }
+  }
+
+  void record(ProfiledStep step, long nanos) {
+    long[] timing = steps.computeIfAbsent(step, ignored -> new long[2]);
+    timing[0] += nanos;
+    timing[1]++;
+    operatorNanos += nanos;
+    operatorCalls++;
+  }
+
+  /** Total operator time and number of calls by step, as {@code [nanos, calls]}. */
+  Map<ProfiledStep, long[]> getSteps() {
+    return steps;
+  }
+
+  long getOperatorNanos() {
+    return operatorNanos;
+  }
+
+  long getOperatorCalls() {
+    return operatorCalls;
+  }
+}
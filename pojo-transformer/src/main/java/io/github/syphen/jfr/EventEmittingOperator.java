@@ -0,0 +1,79 @@
+package io.github.syphen.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Operator emitting a {@link SlowOperatorEvent} for the calls of its delegate exceeding the
+ * threshold of the recording.
+ */
+@AllArgsConstructor
+public final class EventEmittingOperator extends BaseOperator {
+
+  private final String key;
+  @Getter
+  private final BaseOperator delegate;
+
+  @Override
+  public JsonNode apply(JsonNode input, Class<?> inputClass) {
+    SlowOperatorEvent event = new SlowOperatorEvent();
+    event.begin();
+    try {
+      return delegate.apply(input, inputClass);
+    } finally {
+      event.complete(key, inputClass);
+    }
+  }
+
+  @Override
+  public CharSequence applyText(CharSequence input) {
+    SlowOperatorEvent event = new SlowOperatorEvent();
+    event.begin();
+    try {
+      return delegate.applyText(input);
+    } finally {
+      event.complete(key, String.class);
+    }
+  }
+
+  @Override
+  public long applyLong(long input) {
+    SlowOperatorEvent event = new SlowOperatorEvent();
+    event.begin();
+    try {
+      return delegate.applyLong(input);
+    } finally {
+      event.complete(key, long.class);
+    }
+  }
+
+  @Override
+  public double applyDouble(double input) {
+    SlowOperatorEvent event = new SlowOperatorEvent();
+    event.begin();
+    try {
+      return delegate.applyDouble(input);
+    } finally {
+      event.complete(key, double.class);
+    }
+  }
+
+  @Override
+  public boolean applyBoolean(boolean input) {
+    SlowOperatorEvent event = new SlowOperatorEvent();
+    event.begin();
+    try {
+      return delegate.applyBoolean(input);
+    } finally {
+      event.complete(key, boolean.class);
+    }
+  }
+
+  @Override
+  public boolean isSpecialized(ScalarType scalarType) {
+    return delegate.isSpecialized(scalarType);
+  }
+}
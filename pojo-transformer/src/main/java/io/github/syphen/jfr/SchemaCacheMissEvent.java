@@ -0,0 +1,40 @@
+package io.github.syphen.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a class inspected by the
+ * {@link io.github.syphen.cache.PojoSchemaCache} because it was missing from the cache.
+ */
+@Name("io.github.syphen.SchemaCacheMiss")
+@Label("Schema Cache Miss")
+@Category("POJO Transformer")
+@Description("Class inspected because its schema was not cached")
+@StackTrace(false)
+public class SchemaCacheMissEvent extends jdk.jfr.Event {
+
+  @Label("POJO Class")
+  Class<?> pojoClass;
+
+  @Label("Fields")
+  @Description("Number of inspected fields")
+  int fields;
+
+  /**
+   * Ends the event and commits it if an active recording enables it.
+   *
+   * @param pojoClass the inspected class
+   * @param fields    number of inspected fields
+   */
+  public void complete(Class<?> pojoClass, int fields) {
+    if (shouldCommit()) {
+      this.pojoClass = pojoClass;
+      this.fields = fields;
+      commit();
+    }
+  }
+}
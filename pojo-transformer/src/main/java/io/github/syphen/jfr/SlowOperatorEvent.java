@@ -0,0 +1,36 @@
+package io.github.syphen.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of an operator call lasting at least the threshold of the recording
+ * settings, 10 ms by default.
+ */
+@Name("io.github.syphen.SlowOperator")
+@Label("Slow Operator")
+@Category("POJO Transformer")
+@Description("Operator call exceeding the threshold")
+@StackTrace(false)
+@Threshold("10 ms")
+public class SlowOperatorEvent extends jdk.jfr.Event {
+
+  @Label("Operator Key")
+  String operatorKey;
+
+  @Label("Input Class")
+  @Description("Declared type of the transformed value")
+  Class<?> inputClass;
+
+  void complete(String operatorKey, Class<?> inputClass) {
+    if (shouldCommit()) {
+      this.operatorKey = operatorKey;
+      this.inputClass = inputClass;
+      commit();
+    }
+  }
+}
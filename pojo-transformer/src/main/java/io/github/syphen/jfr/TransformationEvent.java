@@ -0,0 +1,73 @@
+package io.github.syphen.jfr;
+
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.model.TransformationContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of a call of a {@link io.github.syphen.Transformer} method. Recorded for
+ * calls lasting at least the threshold of the recording settings, 1 ms by default.
+ */
+@Name("io.github.syphen.Transformation")
+@Label("Transformation")
+@Category("POJO Transformer")
+@Description("Call of a Transformer method")
+@StackTrace(false)
+@Threshold("1 ms")
+public class TransformationEvent extends jdk.jfr.Event {
+
+  @Label("Operation")
+  @Description("Name of the Transformer method")
+  String operation;
+
+  @Label("Root Class")
+  @Description("Class of the transformed object or schema class of the document")
+  Class<?> rootClass;
+
+  @Label("Context Field")
+  @Description("Field name of the root node context")
+  String contextField;
+
+  @Label("Default Operator")
+  String defaultOperator;
+
+  @Label("Plan Steps")
+  @Description("Number of field steps of the compiled plan, nested plans included")
+  int planSteps;
+
+  @Label("Objects")
+  @Description("Number of transformed objects or documents")
+  int objects;
+
+  /**
+   * Ends the event and commits it if it exceeds the threshold of an active recording.
+   *
+   * @param operation             name of the Transformer method
+   * @param rootClass             class of the transformed object or schema class
+   * @param transformationContext context of the call
+   * @param rootPlan              compiled plan of the root class, {@code null} if unknown
+   * @param objects               number of transformed objects or documents
+   */
+  public void complete(String operation, Class<?> rootClass,
+      TransformationContext transformationContext, NodePlan rootPlan, int objects) {
+    if (!shouldCommit()) {
+      return;
+    }
+    this.operation = operation;
+    this.rootClass = rootClass;
+    if (transformationContext != null) {
+      this.defaultOperator = transformationContext.getDefaultOperatorType();
+      if (transformationContext.getNodeContext() != null) {
+        this.contextField = transformationContext.getNodeContext().getFieldName();
+      }
+    }
+    this.planSteps = rootPlan == null ? 0 : rootPlan.getStepCount();
+    this.objects = objects;
+    commit();
+  }
+}
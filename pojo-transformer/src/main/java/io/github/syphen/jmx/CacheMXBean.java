@@ -0,0 +1,41 @@
+package io.github.syphen.jmx;
+
+/**
+ * Management interface of a cache of the transformation pipeline. Counters are cumulative since
+ * the cache was created.
+ */
+public interface CacheMXBean {
+
+  long getEstimatedSize();
+
+  long getHitCount();
+
+  long getMissCount();
+
+  /** Ratio of hits to requests, 1 when nothing was requested yet. */
+  double getHitRate();
+
+  long getEvictionCount();
+
+  long getLoadCount();
+
+  long getLoadFailureCount();
+
+  double getAverageLoadPenaltyMillis();
+
+  long getTotalLoadTimeMillis();
+
+  /** Maximum number of entries, -1 when the cache is not bounded by size. */
+  long getMaximumSize();
+
+  /**
+   * Resizes the cache; entries above the new maximum are evicted.
+   *
+   * @param maximumSize the new maximum number of entries
+   * @throws UnsupportedOperationException if the cache is not bounded by size
+   */
+  void setMaximumSize(long maximumSize);
+
+  /** Removes every entry; they are loaded again on the next request. */
+  void clear();
+}
@@ -0,0 +1,85 @@
+package io.github.syphen.jmx;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CacheMXBean} of a Caffeine cache. Statistics are only available when the cache records
+ * them and read as zero otherwise.
+ */
+public class CacheManagement implements CacheMXBean {
+
+  private final Cache<?, ?> cache;
+
+  public CacheManagement(Cache<?, ?> cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public long getEstimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  @Override
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  @Override
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  @Override
+  public double getHitRate() {
+    return cache.stats().hitRate();
+  }
+
+  @Override
+  public long getEvictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  @Override
+  public long getLoadCount() {
+    return cache.stats().loadCount();
+  }
+
+  @Override
+  public long getLoadFailureCount() {
+    return cache.stats().loadFailureCount();
+  }
+
+  @Override
+  public double getAverageLoadPenaltyMillis() {
+    return cache.stats().averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public long getTotalLoadTimeMillis() {
+    CacheStats stats = cache.stats();
+    return TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime());
+  }
+
+  @Override
+  public long getMaximumSize() {
+    return cache.policy().eviction().map(Policy.Eviction::getMaximum).orElse(-1L);
+  }
+
+  @Override
+  public void setMaximumSize(long maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("Maximum size cannot be negative: " + maximumSize);
+    }
+    cache.policy().eviction().orElseThrow(
+            () -> new UnsupportedOperationException("Cache is not bounded by size"))
+        .setMaximum(maximumSize);
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+}
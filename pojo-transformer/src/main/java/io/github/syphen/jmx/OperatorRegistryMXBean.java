@@ -0,0 +1,14 @@
+package io.github.syphen.jmx;
+
+import java.util.List;
+
+/**
+ * Management interface of the {@link io.github.syphen.factory.OperatorRegistry}.
+ */
+public interface OperatorRegistryMXBean {
+
+  /** Keys of the registered operators, sorted. */
+  List<String> getOperatorKeys();
+
+  int getOperatorCount();
+}
@@ -0,0 +1,23 @@
+package io.github.syphen.jmx;
+
+import io.github.syphen.factory.OperatorRegistry;
+import java.util.List;
+
+public class OperatorRegistryManagement implements OperatorRegistryMXBean {
+
+  private final OperatorRegistry operatorRegistry;
+
+  public OperatorRegistryManagement(OperatorRegistry operatorRegistry) {
+    this.operatorRegistry = operatorRegistry;
+  }
+
+  @Override
+  public List<String> getOperatorKeys() {
+    return operatorRegistry.getOperatorKeys().stream().sorted().toList();
+  }
+
+  @Override
+  public int getOperatorCount() {
+    return operatorRegistry.getOperatorKeys().size();
+  }
+}
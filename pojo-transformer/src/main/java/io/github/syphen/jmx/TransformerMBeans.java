@@ -0,0 +1,79 @@
+package io.github.syphen.jmx;
+
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MBeans of one {@link io.github.syphen.TransformerFactory}, registered under
+ * {@code <domain>:type=<type>,name=<name>}.
+ */
+public class TransformerMBeans {
+
+  private static final Logger log = LoggerFactory.getLogger(TransformerMBeans.class);
+
+  private final MBeanServer server;
+  private final List<ObjectName> objectNames = new ArrayList<>();
+
+  private TransformerMBeans(MBeanServer server) {
+    this.server = server;
+  }
+
+  /**
+   * Registers the given MBeans, keyed by their type. MBeans registered before a failure are
+   * unregistered again.
+   *
+   * @param server the server to register the MBeans with
+   * @param domain domain of the object names
+   * @param name   value of the {@code name} key of the object names
+   * @param mbeans MBeans by type
+   * @return the registration, to unregister the MBeans with
+   * @throws DataTransformationException if an MBean cannot be registered, for example because
+   *                                     another factory uses the same name
+   */
+  public static TransformerMBeans register(MBeanServer server, String domain, String name,
+      Map<String, Object> mbeans) {
+    TransformerMBeans registration = new TransformerMBeans(server);
+    try {
+      for (Map.Entry<String, Object> mbean : mbeans.entrySet()) {
+        ObjectName objectName = new ObjectName(
+            domain + ":type=" + mbean.getKey() + ",name=" + ObjectName.quote(name));
+        server.registerMBean(mbean.getValue(), objectName);
+        registration.objectNames.add(objectName);
+      }
+      log.info("Registered MBeans {}", registration.objectNames);
+      return registration;
+    } catch (JMException e) {
+      registration.unregister();
+      throw DataTransformationException.propagate(ErrorCode.MANAGEMENT_REGISTRATION_ERROR, e);
+    }
+  }
+
+  public List<ObjectName> getObjectNames() {
+    return List.copyOf(objectNames);
+  }
+
+  /**
+   * Unregisters the MBeans; MBeans already unregistered by someone else are skipped.
+   */
+  public void unregister() {
+    for (ObjectName objectName : objectNames) {
+      try {
+        server.unregisterMBean(objectName);
+      } catch (InstanceNotFoundException e) {
+        log.debug("MBean {} was already unregistered", objectName);
+      } catch (JMException e) {
+        log.warn("Failed to unregister MBean {}", objectName, e);
+      }
+    }
+    objectNames.clear();
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.syphen.jmx;
+
+import io.github.syphen.metrics.TransformationMetrics;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TransformerStatisticsMXBean} fed by the {@link TransformationMetrics} events of the
+ * transformer.
+ */
+public class TransformerStatistics implements TransformationMetrics, TransformerStatisticsMXBean {
+
+  private final LongAdder transformations = new LongAdder();
+  private final LongAdder transformationNanos = new LongAdder();
+  private final LongAccumulator maxTransformationNanos = new LongAccumulator(Math::max, 0);
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder operatorCalls = new LongAdder();
+  private final LongAdder bytesProcessed = new LongAdder();
+  private volatile long resetNanos = System.nanoTime();
+
+  @Override
+  public void transformationCompleted(Class<?> pojoClass, long durationNanos) {
+    transformations.increment();
+    transformationNanos.add(durationNanos);
+    maxTransformationNanos.accumulate(durationNanos);
+  }
+
+  @Override
+  public void bytesProcessed(Class<?> pojoClass, long inputBytes, long outputBytes) {
+    bytesProcessed.add(inputBytes);
+  }
+
+  @Override
+  public void transformationFailed(Class<?> pojoClass, String errorCode) {
+    failures.increment();
+  }
+
+  @Override
+  public void operatorApplied(String operatorKey, long durationNanos) {
+    operatorCalls.increment();
+  }
+
+  @Override
+  public long getTransformationCount() {
+    return transformations.sum();
+  }
+
+  @Override
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  @Override
+  public long getOperatorCallCount() {
+    return operatorCalls.sum();
+  }
+
+  @Override
+  public long getBytesProcessed() {
+    return bytesProcessed.sum();
+  }
+
+  @Override
+  public double getAverageTransformationMillis() {
+    long count = transformations.sum();
+    return count == 0 ? 0 : toMillis((double) transformationNanos.sum() / count);
+  }
+
+  @Override
+  public double getMaxTransformationMillis() {
+    return toMillis(maxTransformationNanos.get());
+  }
+
+  @Override
+  public double getTransformationsPerSecond() {
+    double seconds = (System.nanoTime() - resetNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    return seconds <= 0 ? 0 : transformations.sum() / seconds;
+  }
+
+  @Override
+  public void resetStatistics() {
+    transformations.reset();
+    transformationNanos.reset();
+    maxTransformationNanos.reset();
+    failures.reset();
+    operatorCalls.reset();
+    bytesProcessed.reset();
+    resetNanos = System.nanoTime();
+  }
+
+  private static double toMillis(double nanos) {
+    return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
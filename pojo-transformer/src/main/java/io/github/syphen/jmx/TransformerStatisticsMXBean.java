@@ -0,0 +1,26 @@
+package io.github.syphen.jmx;
+
+/**
+ * Management interface of the throughput of a {@link io.github.syphen.Transformer}. Counters are
+ * cumulative since the transformer was created or the statistics were last reset.
+ */
+public interface TransformerStatisticsMXBean {
+
+  long getTransformationCount();
+
+  long getFailureCount();
+
+  long getOperatorCallCount();
+
+  /** Input bytes of the byte based transformations. */
+  long getBytesProcessed();
+
+  double getAverageTransformationMillis();
+
+  double getMaxTransformationMillis();
+
+  /** Transformations per second since the statistics were last reset. */
+  double getTransformationsPerSecond();
+
+  void resetStatistics();
+}
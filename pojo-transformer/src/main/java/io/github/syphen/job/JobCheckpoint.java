@@ -0,0 +1,45 @@
+package io.github.syphen.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a file transformation job, persisted as JSON so an interrupted job can resume
+ * after the last written chunk instead of starting over. Every field describes the state right
+ * after the output was forced to disk up to {@code outputPosition}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+
+  /** Size of the input file the checkpoint belongs to. */
+  private long inputSize;
+
+  /** Offset of the first input byte not transformed yet, always at a line boundary. */
+  private long inputOffset;
+
+  /** Number of input lines processed, blank lines and failed records included. */
+  private long lines;
+
+  /** Number of transformed records. */
+  private long records;
+
+  /** Number of records that could not be transformed. */
+  private long failedRecords;
+
+  /** Length of the output file holding the transformed lines. */
+  private long outputPosition;
+
+  /** The first recorded errors. */
+  private List<RecordError> errors = new ArrayList<>();
+
+  static JobCheckpoint start(long inputSize) {
+    JobCheckpoint checkpoint = new JobCheckpoint();
+    checkpoint.setInputSize(inputSize);
+    return checkpoint;
+  }
+}
@@ -0,0 +1,27 @@
+package io.github.syphen.job;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Outcome of a file transformation job. Counts include the work done before the job was resumed
+ * from a checkpoint.
+ */
+@Value
+public class JobResult {
+
+  /** Number of transformed records, blank lines excluded. */
+  long records;
+
+  /** Number of records left out of the output because they could not be transformed. */
+  long failedRecords;
+
+  /** The first errors of the failed records, up to the configured maximum. */
+  List<RecordError> errors;
+
+  /** Number of input bytes read. */
+  long inputBytes;
+
+  /** Number of bytes written to the output file. */
+  long outputBytes;
+}
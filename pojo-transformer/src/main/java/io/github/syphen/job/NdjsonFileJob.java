@@ -0,0 +1,322 @@
+package io.github.syphen.job;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.github.syphen.Transformer;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.utils.MapperUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import lombok.Builder;
+
+/**
+ * Transforms a newline delimited JSON file into another one, using {@code pojoClass} only as the
+ * schema of every line.
+ * <p>
+ * The input is memory-mapped and split at line boundaries into chunks of about
+ * {@code chunkSize} bytes, which are transformed in parallel on the executor. At most
+ * {@code parallelism} chunks are in flight at a time, and transformed chunks are written in the
+ * order of the input, so memory use is bounded by the chunk size and the parallelism rather than
+ * by the file size. Every output line ends with {@code \n}; blank input lines are kept as empty
+ * lines.
+ * </p>
+ * <p>
+ * A record failing with a {@link DataTransformationException} is left out of the output and
+ * reported in the {@link JobResult} with its error code; the job continues with the next record.
+ * </p>
+ * <p>
+ * When a {@code checkpointFile} is set, the progress is saved to it at most every
+ * {@code checkpointInterval}, after forcing the written output to disk, and when the job fails.
+ * Running the job again with the same files resumes after the last saved chunk. The checkpoint
+ * is deleted once the job completes.
+ * </p>
+ */
+@Builder
+public class NdjsonFileJob {
+
+  private static final byte NEW_LINE = '\n';
+
+  private final Transformer transformer;
+  private final Class<?> pojoClass;
+  private final TransformationContext transformationContext;
+
+  /** Target size of a chunk in bytes; a chunk grows to hold a line longer than this. */
+  @Builder.Default
+  private final int chunkSize = 8 * 1024 * 1024;
+
+  /** Maximum number of chunks transformed or waiting to be written at the same time. */
+  @Builder.Default
+  private final int parallelism = Runtime.getRuntime().availableProcessors();
+
+  /** Executor transforming the chunks; the common pool is used when not set. */
+  private final Executor executor;
+
+  /** File holding the progress of the job; the job cannot be resumed when not set. */
+  private final Path checkpointFile;
+
+  /** Minimum time between two checkpoints. */
+  @Builder.Default
+  private final Duration checkpointInterval = Duration.ofSeconds(30);
+
+  /** Maximum number of record errors kept in the result; further failures are only counted. */
+  @Builder.Default
+  private final int maxRecordedErrors = 1000;
+
+  /**
+   * Transforms {@code input} into {@code output}, resuming from the checkpoint file if one
+   * exists and replacing the output file otherwise.
+   *
+   * @param input  the newline delimited JSON file to transform
+   * @param output the file receiving the transformed lines
+   * @return counts of the transformed records and bytes, and the errors of the failed records
+   * @throws DataTransformationException if the files cannot be read or written, or the
+   *                                     checkpoint does not match them
+   */
+  public JobResult run(Path input, Path output) {
+    Objects.requireNonNull(transformer, "Transformer cannot be null");
+    Objects.requireNonNull(pojoClass, "Class cannot be null");
+    if (chunkSize < 1 || parallelism < 1) {
+      throw new IllegalArgumentException("chunkSize and parallelism must be positive");
+    }
+    Executor chunkExecutor = executor != null ? executor : ForkJoinPool.commonPool();
+    Deque<CompletableFuture<ChunkResult>> inFlight = new ArrayDeque<>();
+    JobCheckpoint checkpoint = null;
+    try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+        FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE)) {
+      long size = in.size();
+      checkpoint = loadCheckpoint(size, out.size());
+      out.truncate(checkpoint.getOutputPosition());
+      out.position(checkpoint.getOutputPosition());
+      try {
+        long position = checkpoint.getInputOffset();
+        long lastCheckpoint = System.nanoTime();
+        while (position < size) {
+          ByteBuffer chunk = mapChunk(in, position, size);
+          long chunkOffset = position;
+          position += chunk.remaining();
+          inFlight.add(CompletableFuture.supplyAsync(() -> transformChunk(chunk, chunkOffset),
+              chunkExecutor));
+          if (inFlight.size() >= parallelism) {
+            write(out, inFlight.poll().join(), checkpoint);
+            lastCheckpoint = saveCheckpointIfDue(out, checkpoint, lastCheckpoint);
+          }
+        }
+        while (!inFlight.isEmpty()) {
+          write(out, inFlight.poll().join(), checkpoint);
+          lastCheckpoint = saveCheckpointIfDue(out, checkpoint, lastCheckpoint);
+        }
+        out.force(false);
+      } catch (IOException | RuntimeException e) {
+        inFlight.forEach(future -> future.cancel(false));
+        saveCheckpointAfterFailure(out, checkpoint, e);
+        throw e;
+      }
+      if (checkpointFile != null) {
+        Files.deleteIfExists(checkpointFile);
+      }
+      return new JobResult(checkpoint.getRecords(), checkpoint.getFailedRecords(),
+          List.copyOf(checkpoint.getErrors()), size, checkpoint.getOutputPosition());
+    } catch (CompletionException e) {
+      throw DataTransformationException.propagate(ErrorCode.TRANSFORMATION_ERROR, e.getCause());
+    } catch (IOException | RuntimeException e) {
+      if (e instanceof DataTransformationException) {
+        throw (DataTransformationException) e;
+      }
+      throw DataTransformationException.propagate(ErrorCode.TRANSFORMATION_ERROR, e);
+    }
+  }
+
+  private JobCheckpoint loadCheckpoint(long inputSize, long outputSize) throws IOException {
+    if (checkpointFile == null || !Files.exists(checkpointFile)) {
+      return JobCheckpoint.start(inputSize);
+    }
+    JobCheckpoint checkpoint = MapperUtil.getObjectMapper()
+        .readValue(checkpointFile.toFile(), JobCheckpoint.class);
+    if (checkpoint.getInputSize() != inputSize || checkpoint.getOutputPosition() > outputSize) {
+      throw DataTransformationException.error(ErrorCode.INVALID_INPUT_ERROR,
+          Map.of("detailMessage", "Checkpoint " + checkpointFile + " does not match the input of "
+              + inputSize + " bytes and the output of " + outputSize + " bytes"));
+    }
+    return checkpoint;
+  }
+
+  private long saveCheckpointIfDue(FileChannel out, JobCheckpoint checkpoint,
+      long lastCheckpoint) throws IOException {
+    long now = System.nanoTime();
+    if (checkpointFile == null || now - lastCheckpoint < checkpointInterval.toNanos()) {
+      return lastCheckpoint;
+    }
+    saveCheckpoint(out, checkpoint);
+    return now;
+  }
+
+  private void saveCheckpointAfterFailure(FileChannel out, JobCheckpoint checkpoint,
+      Exception failure) {
+    if (checkpointFile == null) {
+      return;
+    }
+    try {
+      saveCheckpoint(out, checkpoint);
+    } catch (IOException | RuntimeException e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  /**
+   * Forces the output to disk before replacing the checkpoint, so the checkpoint never refers to
+   * output that could still be lost.
+   */
+  private void saveCheckpoint(FileChannel out, JobCheckpoint checkpoint) throws IOException {
+    out.force(false);
+    Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+    MapperUtil.getObjectMapper().writeValue(temporary.toFile(), checkpoint);
+    Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Maps the next chunk starting at {@code position}, ending after the last complete line within
+   * {@code chunkSize} bytes. The mapping is doubled until it holds at least one complete line.
+   */
+  private ByteBuffer mapChunk(FileChannel channel, long position, long size) throws IOException {
+    long length = Math.min(chunkSize, size - position);
+    while (true) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+      if (position + length == size) {
+        return buffer;
+      }
+      for (int i = buffer.limit() - 1; i >= 0; i--) {
+        if (buffer.get(i) == NEW_LINE) {
+          return buffer.limit(i + 1);
+        }
+      }
+      if (length == Integer.MAX_VALUE) {
+        throw new IOException("Line at offset " + position + " is longer than "
+            + Integer.MAX_VALUE + " bytes");
+      }
+      length = Math.min(Math.min(length * 2, Integer.MAX_VALUE), size - position);
+    }
+  }
+
+  private ChunkResult transformChunk(ByteBuffer chunk, long chunkOffset) {
+    ChunkOutput output = new ChunkOutput(chunk.remaining() + 64);
+    List<RecordError> errors = new ArrayList<>();
+    int limit = chunk.limit();
+    int start = chunk.position();
+    long lines = 0;
+    long records = 0;
+    while (start < limit) {
+      int end = start;
+      while (end < limit && chunk.get(end) != NEW_LINE) {
+        end++;
+      }
+      int lineEnd = end > start && chunk.get(end - 1) == '\r' ? end - 1 : end;
+      lines++;
+      if (isBlank(chunk, start, lineEnd)) {
+        output.write(NEW_LINE);
+      } else {
+        int mark = output.size();
+        try {
+          transformer.transformStream(
+              new ByteBufferBackedInputStream(chunk.slice(start, lineEnd - start)), output,
+              pojoClass, transformationContext);
+          output.write(NEW_LINE);
+          records++;
+        } catch (DataTransformationException e) {
+          output.truncate(mark);
+          errors.add(recordError(lines, chunkOffset + start, e));
+        }
+      }
+      start = end + 1;
+    }
+    return new ChunkResult(chunkOffset + limit, output.toByteArray(), lines, records, errors);
+  }
+
+  /**
+   * Records a failure with the code and message of the innermost
+   * {@link DataTransformationException}, as raised by the operator or the pipeline, rather than
+   * those of the exceptions wrapping it.
+   */
+  private static RecordError recordError(long line, long offset, DataTransformationException e) {
+    DataTransformationException failure = e;
+    while (failure.getCause() instanceof DataTransformationException cause) {
+      failure = cause;
+    }
+    Map<String, Object> context = failure.getContext();
+    Object message = context == null ? null
+        : context.getOrDefault("detailMessage", context.get("message"));
+    return new RecordError(line, offset, failure.getCode(),
+        message == null ? null : message.toString());
+  }
+
+  private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+    for (int i = start; i < end; i++) {
+      byte b = buffer.get(i);
+      if (b != ' ' && b != '\t' && b != '\r') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Appends a transformed chunk to the output and advances the checkpoint past it. Line numbers
+   * of the chunk errors are relative to the chunk until here.
+   */
+  private void write(FileChannel channel, ChunkResult result, JobCheckpoint checkpoint)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(result.bytes);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    for (RecordError error : result.errors) {
+      if (checkpoint.getErrors().size() < maxRecordedErrors) {
+        error.setLine(checkpoint.getLines() + error.getLine());
+        checkpoint.getErrors().add(error);
+      }
+    }
+    checkpoint.setInputOffset(result.inputEnd);
+    checkpoint.setLines(checkpoint.getLines() + result.lines);
+    checkpoint.setRecords(checkpoint.getRecords() + result.records);
+    checkpoint.setFailedRecords(checkpoint.getFailedRecords() + result.errors.size());
+    checkpoint.setOutputPosition(checkpoint.getOutputPosition() + result.bytes.length);
+  }
+
+  private record ChunkResult(long inputEnd, byte[] bytes, long lines, long records,
+      List<RecordError> errors) {
+
+  }
+
+  /**
+   * Chunk buffer that can drop the partial output of a failed record.
+   */
+  private static final class ChunkOutput extends ByteArrayOutputStream {
+
+    private ChunkOutput(int size) {
+      super(size);
+    }
+
+    private void truncate(int size) {
+      count = size;
+    }
+  }
+}
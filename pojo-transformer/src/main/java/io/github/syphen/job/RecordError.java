@@ -0,0 +1,26 @@
+package io.github.syphen.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A record that could not be transformed. The record is left out of the output and the job
+ * continues with the next one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordError {
+
+  /** 1-based line number of the record in the input file. */
+  private long line;
+
+  /** Byte offset of the start of the record in the input file. */
+  private long offset;
+
+  /** {@link io.github.syphen.exception.ErrorCode} name of the failure. */
+  private String code;
+
+  private String message;
+}
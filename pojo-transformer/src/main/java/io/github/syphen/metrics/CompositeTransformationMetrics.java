@@ -0,0 +1,38 @@
+package io.github.syphen.metrics;
+
+/**
+ * Forwards every event to two metrics, in order.
+ */
+record CompositeTransformationMetrics(TransformationMetrics first, TransformationMetrics second)
+    implements TransformationMetrics {
+
+  @Override
+  public void transformationCompleted(Class<?> pojoClass, long durationNanos) {
+    first.transformationCompleted(pojoClass, durationNanos);
+    second.transformationCompleted(pojoClass, durationNanos);
+  }
+
+  @Override
+  public void bytesProcessed(Class<?> pojoClass, long inputBytes, long outputBytes) {
+    first.bytesProcessed(pojoClass, inputBytes, outputBytes);
+    second.bytesProcessed(pojoClass, inputBytes, outputBytes);
+  }
+
+  @Override
+  public void transformationFailed(Class<?> pojoClass, String errorCode) {
+    first.transformationFailed(pojoClass, errorCode);
+    second.transformationFailed(pojoClass, errorCode);
+  }
+
+  @Override
+  public void operatorApplied(String operatorKey, long durationNanos) {
+    first.operatorApplied(operatorKey, durationNanos);
+    second.operatorApplied(operatorKey, durationNanos);
+  }
+
+  @Override
+  public void schemaLoaded(Class<?> pojoClass, long durationNanos) {
+    first.schemaLoaded(pojoClass, durationNanos);
+    second.schemaLoaded(pojoClass, durationNanos);
+  }
+}
@@ -0,0 +1,81 @@
+package io.github.syphen.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of durations in nanoseconds with power of two buckets. Recording never
+ * allocates; percentiles are accurate to a factor of two, which is enough to tell which operator
+ * or class dominates.
+ */
+public class LatencyHistogram {
+
+  private static final int BUCKETS = Long.SIZE;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a duration; negative durations are recorded as zero.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    buckets[Long.SIZE - Long.numberOfLeadingZeros(value)].increment();
+    count.increment();
+    totalNanos.add(value);
+    maxNanos.accumulate(value);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  public double getMeanNanos() {
+    long samples = getCount();
+    return samples == 0 ? 0 : (double) getTotalNanos() / samples;
+  }
+
+  /**
+   * Upper bound of the bucket holding the given percentile, capped by the maximum recorded
+   * duration.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the duration in nanoseconds, 0 when nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    long samples = getCount();
+    if (samples == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(samples * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += buckets[i].sum();
+      if (seen >= rank) {
+        return Math.min(i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1, getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.syphen.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Operator reporting the time of every call of its delegate to
+ * {@link TransformationMetrics#operatorApplied}.
+ */
+@AllArgsConstructor
+public final class MeteredOperator extends BaseOperator {
+
+  private final String key;
+  @Getter
+  private final BaseOperator delegate;
+  private final TransformationMetrics metrics;
+
+  @Override
+  public JsonNode apply(JsonNode input, Class<?> inputClass) {
+    long start = System.nanoTime();
+    try {
+      return delegate.apply(input, inputClass);
+    } finally {
+      metrics.operatorApplied(key, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public CharSequence applyText(CharSequence input) {
+    long start = System.nanoTime();
+    try {
+      return delegate.applyText(input);
+    } finally {
+      metrics.operatorApplied(key, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public long applyLong(long input) {
+    long start = System.nanoTime();
+    try {
+      return delegate.applyLong(input);
+    } finally {
+      metrics.operatorApplied(key, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public double applyDouble(double input) {
+    long start = System.nanoTime();
+    try {
+      return delegate.applyDouble(input);
+    } finally {
+      metrics.operatorApplied(key, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public boolean applyBoolean(boolean input) {
+    long start = System.nanoTime();
+    try {
+      return delegate.applyBoolean(input);
+    } finally {
+      metrics.operatorApplied(key, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public boolean isSpecialized(ScalarType scalarType) {
+    return delegate.isSpecialized(scalarType);
+  }
+}
@@ -0,0 +1,104 @@
+package io.github.syphen.metrics;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TransformationMetrics} keeping counts and {@link LatencyHistogram latency histograms} in
+ * memory, tagged by POJO class, operator key and error code. The maps returned by the getters
+ * are live read-only views, suitable for exporting to a monitoring system periodically.
+ * <p>
+ * POJO classes are held weakly and compared by identity, so that recorded metrics do not keep
+ * unloaded classes alive, see {@link io.github.syphen.config.SchemaCacheConfig#isWeakKeys()};
+ * the metrics of a class disappear with it.
+ * </p>
+ */
+public class RecordingTransformationMetrics implements TransformationMetrics {
+
+  private final ConcurrentMap<Class<?>, LatencyHistogram> transformations = byClass();
+  private final ConcurrentMap<String, LatencyHistogram> operators = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Class<?>, LatencyHistogram> schemaLoads = byClass();
+  private final ConcurrentMap<Class<?>, LongAdder> inputBytes = byClass();
+  private final ConcurrentMap<Class<?>, LongAdder> outputBytes = byClass();
+  private final ConcurrentMap<Class<?>, ConcurrentMap<String, LongAdder>> errors = byClass();
+
+  @Override
+  public void transformationCompleted(Class<?> pojoClass, long durationNanos) {
+    histogram(transformations, pojoClass).record(durationNanos);
+  }
+
+  @Override
+  public void bytesProcessed(Class<?> pojoClass, long input, long output) {
+    counter(inputBytes, pojoClass).add(input);
+    counter(outputBytes, pojoClass).add(output);
+  }
+
+  @Override
+  public void transformationFailed(Class<?> pojoClass, String errorCode) {
+    ConcurrentMap<String, LongAdder> classErrors = errors.get(pojoClass);
+    if (classErrors == null) {
+      classErrors = errors.computeIfAbsent(pojoClass, ignored -> new ConcurrentHashMap<>());
+    }
+    counter(classErrors, errorCode).increment();
+  }
+
+  @Override
+  public void operatorApplied(String operatorKey, long durationNanos) {
+    histogram(operators, operatorKey).record(durationNanos);
+  }
+
+  @Override
+  public void schemaLoaded(Class<?> pojoClass, long durationNanos) {
+    histogram(schemaLoads, pojoClass).record(durationNanos);
+  }
+
+  /** Durations of the successful transformations, by POJO class. */
+  public Map<Class<?>, LatencyHistogram> getTransformations() {
+    return Collections.unmodifiableMap(transformations);
+  }
+
+  /** Durations of the operator calls, by operator key. */
+  public Map<String, LatencyHistogram> getOperators() {
+    return Collections.unmodifiableMap(operators);
+  }
+
+  /** Durations of the schema inspections, by POJO class. */
+  public Map<Class<?>, LatencyHistogram> getSchemaLoads() {
+    return Collections.unmodifiableMap(schemaLoads);
+  }
+
+  /** Bytes read by the byte based transformations, by schema class. */
+  public Map<Class<?>, LongAdder> getInputBytes() {
+    return Collections.unmodifiableMap(inputBytes);
+  }
+
+  /** Bytes written by the byte based transformations, by schema class. */
+  public Map<Class<?>, LongAdder> getOutputBytes() {
+    return Collections.unmodifiableMap(outputBytes);
+  }
+
+  /** Number of failed transformations, by POJO or schema class and error code. */
+  public Map<Class<?>, Map<String, LongAdder>> getErrors() {
+    return Collections.unmodifiableMap(errors);
+  }
+
+  private static <V> ConcurrentMap<Class<?>, V> byClass() {
+    return Caffeine.newBuilder().weakKeys().<Class<?>, V>build().asMap();
+  }
+
+  private static <K> LatencyHistogram histogram(ConcurrentMap<K, LatencyHistogram> histograms,
+      K key) {
+    LatencyHistogram histogram = histograms.get(key);
+    return histogram != null ? histogram
+        : histograms.computeIfAbsent(key, ignored -> new LatencyHistogram());
+  }
+
+  private static <K> LongAdder counter(ConcurrentMap<K, LongAdder> counters, K key) {
+    LongAdder counter = counters.get(key);
+    return counter != null ? counter : counters.computeIfAbsent(key, ignored -> new LongAdder());
+  }
+}
@@ -0,0 +1,84 @@
+package io.github.syphen.metrics;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.operator.BaseOperator;
+
+/**
+ * Receives measurements of the transformation pipeline, for example to publish them to a
+ * monitoring system. Every method does nothing by default, so an implementation only overrides
+ * the events it reports. Methods are called on the transforming threads and must be thread safe
+ * and fast.
+ * <p>
+ * Timings are only taken when the factory is configured with metrics other than {@link #NOOP}:
+ * with the default configuration the clock is never read and operators are not wrapped.
+ * </p>
+ *
+ * @see RecordingTransformationMetrics
+ */
+public interface TransformationMetrics {
+
+  /** Metrics discarding every event; the default of the factory. */
+  TransformationMetrics NOOP = new TransformationMetrics() {
+  };
+
+  /**
+   * A {@link Transformer} call completed successfully.
+   *
+   * @param pojoClass     class of the transformed object, or the schema class of a document
+   * @param durationNanos elapsed time of the call, plan resolution included
+   */
+  default void transformationCompleted(Class<?> pojoClass, long durationNanos) {
+  }
+
+  /**
+   * A byte based {@link Transformer} call transformed a document.
+   *
+   * @param pojoClass   schema class of the document
+   * @param inputBytes  size of the input document
+   * @param outputBytes size of the transformed document
+   */
+  default void bytesProcessed(Class<?> pojoClass, long inputBytes, long outputBytes) {
+  }
+
+  /**
+   * A {@link Transformer} call failed with a {@code DataTransformationException}.
+   *
+   * @param pojoClass class of the transformed object, or the schema class of a document
+   * @param errorCode code of the failure, the code of the underlying exception when it is
+   *                  itself a {@code DataTransformationException}
+   */
+  default void transformationFailed(Class<?> pojoClass, String errorCode) {
+  }
+
+  /**
+   * {@link BaseOperator#apply} returned or threw.
+   *
+   * @param operatorKey   key the operator is registered with
+   * @param durationNanos elapsed time of the call
+   */
+  default void operatorApplied(String operatorKey, long durationNanos) {
+  }
+
+  /**
+   * {@link PojoSchemaCache} inspected a class missing from the cache.
+   *
+   * @param pojoClass     the inspected class
+   * @param durationNanos elapsed time of the inspection
+   */
+  default void schemaLoaded(Class<?> pojoClass, long durationNanos) {
+  }
+
+  /**
+   * Combines these metrics with {@code next}, which receives every event after these.
+   *
+   * @param next the metrics receiving the events as well
+   * @return metrics forwarding the events to both, or either one when the other is {@link #NOOP}
+   */
+  default TransformationMetrics andThen(TransformationMetrics next) {
+    if (next == NOOP) {
+      return this;
+    }
+    return this == NOOP ? next : new CompositeTransformationMetrics(this, next);
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.syphen.operator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Transformation applied to the values of the targeted fields.
+ * <p>
+ * Besides the generic {@link #apply}, an operator may override the specialized hooks of the
+ * {@link ScalarType}s it handles. Engines working on POJOs or on token streams then call the hook
+ * for non-null values of fields declared with a matching type, without converting the value to
+ * and from a {@link JsonNode}. Absent values, other types and the tree based engine always use
+ * {@link #apply}, so both must give the same result. The hooks that are not overridden go through
+ * {@link #apply} as well, so every hook can be called on any operator.
+ * </p>
+ */
+public abstract class BaseOperator {
+
+  private static final ClassValue<Set<ScalarType>> SPECIALIZATIONS = new ClassValue<>() {
+    @Override
+    protected Set<ScalarType> computeValue(Class<?> type) {
+      Set<ScalarType> specializations = EnumSet.noneOf(ScalarType.class);
+      addIfOverridden(specializations, type, ScalarType.TEXT, "applyText", CharSequence.class);
+      addIfOverridden(specializations, type, ScalarType.LONG, "applyLong", long.class);
+      addIfOverridden(specializations, type, ScalarType.DOUBLE, "applyDouble", double.class);
+      addIfOverridden(specializations, type, ScalarType.BOOLEAN, "applyBoolean", boolean.class);
+      return Collections.unmodifiableSet(specializations);
+    }
+  };
+
+  public abstract JsonNode apply(JsonNode input, Class<?> inputClass);
+
+  /**
+   * Specialized hook for non-null {@code String} values. Defaults to {@link #apply} with a text
+   * node.
+   *
+   * @param input the value
+   * @return the new value, {@code null} to clear the field
+   */
+  public CharSequence applyText(CharSequence input) {
+    JsonNode result = apply(TextNode.valueOf(input.toString()), String.class);
+    return result == null || result.isNull() ? null : result.asText();
+  }
+
+  /**
+   * Specialized hook for {@code int} and {@code long} values. Results written to an {@code int}
+   * field must fit in it. Defaults to {@link #apply} with a long node.
+   *
+   * @param input the value
+   * @return the new value
+   */
+  public long applyLong(long input) {
+    JsonNode result = apply(LongNode.valueOf(input), long.class);
+    return result == null ? 0L : result.asLong();
+  }
+
+  /**
+   * Specialized hook for {@code float} and {@code double} values. Results written to a
+   * {@code float} field must fit in it. Defaults to {@link #apply} with a double node.
+   *
+   * @param input the value
+   * @return the new value
+   */
+  public double applyDouble(double input) {
+    JsonNode result = apply(DoubleNode.valueOf(input), double.class);
+    return result == null ? 0.0 : result.asDouble();
+  }
+
+  /**
+   * Specialized hook for {@code boolean} values. Defaults to {@link #apply} with a boolean node.
+   *
+   * @param input the value
+   * @return the new value
+   */
+  public boolean applyBoolean(boolean input) {
+    JsonNode result = apply(BooleanNode.valueOf(input), boolean.class);
+    return result != null && result.asBoolean();
+  }
+
+  /**
+   * Operators wrapping another one override this to report the hooks of their delegate.
+   *
+   * @param scalarType a family of values
+   * @return whether this operator overrides the hook of {@code scalarType}
+   */
+  public boolean isSpecialized(ScalarType scalarType) {
+    return SPECIALIZATIONS.get(getClass()).contains(scalarType);
+  }
+
+  private static void addIfOverridden(Set<ScalarType> specializations, Class<?> type,
+      ScalarType scalarType, String hook, Class<?> parameterType) {
+    try {
+      if (type.getMethod(hook, parameterType).getDeclaringClass() != BaseOperator.class) {
+        specializations.add(scalarType);
+      }
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package io.github.syphen.operator;
+
+/**
+ * Families of scalar values an operator can handle without converting them to and from
+ * {@code JsonNode}, each with its specialized hook in {@link BaseOperator}.
+ */
+public enum ScalarType {
+
+  /** {@code String} values, handled by {@link BaseOperator#applyText(CharSequence)}. */
+  TEXT,
+  /** {@code int} and {@code long} values, handled by {@link BaseOperator#applyLong(long)}. */
+  LONG,
+  /** {@code float} and {@code double} values, handled by {@link BaseOperator#applyDouble}. */
+  DOUBLE,
+  /** {@code boolean} values, handled by {@link BaseOperator#applyBoolean(boolean)}. */
+  BOOLEAN;
+
+  /**
+   * @param type declared type of a field or of the elements of a collection field
+   * @return the family of the type, or {@code null} if values of the type always go through
+   * {@link BaseOperator#apply}
+   */
+  public static ScalarType of(Class<?> type) {
+    if (type == String.class) {
+      return TEXT;
+    }
+    if (type == int.class || type == long.class || type == Integer.class || type == Long.class) {
+      return LONG;
+    }
+    if (type == float.class || type == double.class || type == Float.class
+        || type == Double.class) {
+      return DOUBLE;
+    }
+    if (type == boolean.class || type == Boolean.class) {
+      return BOOLEAN;
+    }
+    return null;
+  }
+}
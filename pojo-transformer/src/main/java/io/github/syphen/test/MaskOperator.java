@@ -27,4 +27,9 @@ public class MaskOperator extends BaseOperator {
     }
     return input;
   }
+
+  @Override
+  public CharSequence applyText(CharSequence input) {
+    return input.length() == 0 ? "###" : "***";
+  }
 }
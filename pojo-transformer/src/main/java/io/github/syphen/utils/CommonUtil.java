@@ -1,6 +1,8 @@
 package io.github.syphen.utils;
 
 
+import io.github.syphen.engine.accessor.CompiledField;
+import io.github.syphen.engine.accessor.CompiledPojoAccessor;
 import io.github.syphen.model.FieldTypeDescriptor;
 import io.github.syphen.model.NodeContext;
 import io.github.syphen.model.TransformationContext;
@@ -11,8 +13,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +33,22 @@ public class CommonUtil {
     return fields;
   }
 
+  /**
+   * Same result as {@link #inspectClass(Class)}, built from the field descriptions generated at
+   * build time instead of reflection.
+   */
+  public static Map<String, FieldTypeDescriptor> inspectCompiledClass(
+      CompiledPojoAccessor<?> compiledAccessor) {
+    Map<String, FieldTypeDescriptor> fields = new HashMap<>();
+    for (CompiledField field : compiledAccessor.getFields()) {
+      fields.put(field.getName(), FieldTypeDescriptor.builder()
+          .clazz(field.getType())
+          .genericType(field.getGenericType())
+          .build());
+    }
+    return fields;
+  }
+
   public static FieldTypeDescriptor getFieldTypeInfo(Field field) {
     if (field == null) {
       return null;
@@ -78,17 +94,47 @@ public class CommonUtil {
         .nodeContext(nodeContext).build();
   }
 
+  /*
+   * The null checks run for every node and field, so they have fixed arity overloads and plain
+   * loops: no varargs array, stream or lambda is allocated for the common calls.
+   */
+
+  public static boolean allNull(Object first, Object second) {
+    return first == null && second == null;
+  }
+
   public static boolean allNull(Object... objects) {
-    return Arrays.stream(objects).allMatch(Objects::isNull);
+    for (Object object : objects) {
+      if (object != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static boolean isAnyNull(Object first, Object second) {
+    return first == null || second == null;
+  }
+
+  public static boolean isAnyNull(Object first, Object second, Object third) {
+    return first == null || second == null || third == null;
   }
 
   public static boolean isAnyNull(Object... objects) {
-    return Arrays.stream(objects).anyMatch(Objects::isNull);
+    for (Object object : objects) {
+      if (object == null) {
+        return true;
+      }
+    }
+    return false;
   }
 
   public static boolean nonValidNodeContext(TransformationContext transformationContext) {
-    return Optional.ofNullable(transformationContext).map(TransformationContext::getNodeContext)
-        .map(NodeContext::getFieldName).isEmpty();
+    if (transformationContext == null) {
+      return true;
+    }
+    NodeContext nodeContext = transformationContext.getNodeContext();
+    return nodeContext == null || nodeContext.getFieldName() == null;
   }
 
   public static boolean isNullOrEmpty(String string) {
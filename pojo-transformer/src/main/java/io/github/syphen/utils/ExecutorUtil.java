@@ -0,0 +1,44 @@
+package io.github.syphen.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ExecutorUtil {
+
+  private ExecutorUtil() {}
+
+  private static final Logger log = LoggerFactory.getLogger(ExecutorUtil.class);
+
+  /**
+   * Returns the executor used for asynchronous transformations when none is configured: a shared
+   * virtual-thread-per-task executor on runtimes that provide virtual threads, the common
+   * {@link ForkJoinPool} otherwise. The library targets Java 17, so virtual threads are looked up
+   * reflectively.
+   *
+   * @return the default asynchronous executor
+   */
+  public static Executor defaultAsyncExecutor() {
+    return DefaultAsyncExecutorHolder.EXECUTOR;
+  }
+
+  static Executor createDefaultAsyncExecutor() {
+    try {
+      Executor executor = (Executor) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      log.debug("Using virtual threads for asynchronous transformations");
+      return executor;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.debug("Virtual threads unavailable, using the common pool for asynchronous "
+          + "transformations");
+      return ForkJoinPool.commonPool();
+    }
+  }
+
+  private static class DefaultAsyncExecutorHolder {
+
+    private static final Executor EXECUTOR = createDefaultAsyncExecutor();
+  }
+}
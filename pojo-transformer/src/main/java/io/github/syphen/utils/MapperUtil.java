@@ -0,0 +1,101 @@
+package io.github.syphen.utils;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+
+public class MapperUtil {
+
+  private MapperUtil() {}
+
+  private static ObjectMapper mapper;
+
+  static {
+    configureObjectMapper();
+  }
+  public static void configureObjectMapper() {
+    mapper = JsonMapper.builder()
+        .configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, true)
+        .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+        .configure(DeserializationFeature.READ_ENUMS_USING_TO_STRING, true)
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true)
+        .build();
+    mapper.setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+    mapper.setVisibility(PropertyAccessor.GETTER, Visibility.NONE);
+    mapper.setVisibility(PropertyAccessor.IS_GETTER, Visibility.NONE);
+    mapper.setVisibility(PropertyAccessor.SETTER, Visibility.NONE);
+    mapper.setVisibility(PropertyAccessor.CREATOR, Visibility.NONE);
+
+    mapper.registerModule(new JavaTimeModule());
+  }
+
+  public static ObjectMapper getObjectMapper() {
+    return mapper;
+  }
+
+  /**
+   * Converts a single field value to the node the tree based path would hold for it. Strings and
+   * the common scalar wrappers are wrapped directly, without a serialization pass.
+   */
+  public static JsonNode toNode(Object value) {
+    if (value == null) {
+      return NullNode.getInstance();
+    }
+    Class<?> valueClass = value.getClass();
+    if (valueClass == String.class) {
+      return TextNode.valueOf((String) value);
+    }
+    if (valueClass == Integer.class) {
+      return IntNode.valueOf((Integer) value);
+    }
+    if (valueClass == Long.class) {
+      return LongNode.valueOf((Long) value);
+    }
+    if (valueClass == Boolean.class) {
+      return BooleanNode.valueOf((Boolean) value);
+    }
+    return mapper.valueToTree(value);
+  }
+
+  /**
+   * Converts an operator result back into a field value of the given type. Primitive types get
+   * their default value for {@code null}, like Jackson does when deserializing.
+   */
+  public static Object toValue(JsonNode node, JavaType javaType) {
+    if (node == null) {
+      node = NullNode.getInstance();
+    }
+    Class<?> rawClass = javaType.getRawClass();
+    if (node.isTextual() && rawClass == String.class) {
+      return node.textValue();
+    }
+    if (node.isInt() && (rawClass == int.class || rawClass == Integer.class)) {
+      return node.intValue();
+    }
+    if (node.isLong() && (rawClass == long.class || rawClass == Long.class)) {
+      return node.longValue();
+    }
+    if (node.isBoolean() && (rawClass == boolean.class || rawClass == Boolean.class)) {
+      return node.booleanValue();
+    }
+    try {
+      return mapper.treeToValue(node, javaType);
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "Failed to convert operator result to " + javaType.toCanonical(), e);
+    }
+  }
+}
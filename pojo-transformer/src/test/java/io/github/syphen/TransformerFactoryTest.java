@@ -0,0 +1,259 @@
+package io.github.syphen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.syphen.cache.pure.CountingUpperCaseOperator;
+import io.github.syphen.config.ParallelConfig;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.factory.OperatorIndex;
+import io.github.syphen.metrics.RecordingTransformationMetrics;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.test.MaskOperator;
+import io.github.syphen.test.TestApplication.Random1;
+import io.github.syphen.test.TestApplication.Random2;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransformerFactory Unit Tests")
+class TransformerFactoryTest {
+
+  @ParameterizedTest
+  @EnumSource(TransformationEngineType.class)
+  @DisplayName("Transformer built by the factory applies registered operators to nested fields")
+  void testGetTransformer_appliesOperatorsToNestedFields(TransformationEngineType engineType) {
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .engineType(engineType)
+        .build()).getTransformer();
+    Random1 random1 = Random1.builder().name("name").value("").number(7).context(Map.of())
+        .build();
+    Random2 random2 = Random2.builder().ipA("ipA").ipB(2L).random1(random1)
+        .random1List(List.of(random1, random1)).build();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("ipA").build(),
+                NodeContext.builder().fieldName("random1").transformAllFields(true).build(),
+                NodeContext.builder().fieldName("random1List").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("name").build()}).build()})
+            .build())
+        .build();
+
+    Random2 result = transformer.transform(random2, context);
+
+    assertEquals("***", result.getIpA());
+    assertEquals(2L, result.getIpB());
+    assertEquals("***", result.getRandom1().getName());
+    assertEquals("###", result.getRandom1().getValue());
+    assertEquals(1, result.getRandom1().getNumber());
+    assertEquals("***", result.getRandom1List().get(1).getName());
+    assertEquals("", result.getRandom1List().get(1).getValue());
+    assertEquals("name", random2.getRandom1().getName());
+  }
+
+  @Test
+  @DisplayName("Parallel execution transforms large nested collections completely")
+  void testGetTransformer_parallelExecution() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .parallelConfig(ParallelConfig.builder().enabled(true).pool(pool).threshold(16).build())
+        .build()).getTransformer();
+    List<Random1> items = IntStream.range(0, 1000)
+        .mapToObj(i -> Random1.builder().name("name" + i).value("value").number(i).build())
+        .toList();
+    Random2 random2 = Random2.builder().ipA("ipA").random1List(items)
+        .random1Set(Set.copyOf(items.subList(0, 100))).build();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("ipA").build(),
+                NodeContext.builder().fieldName("random1Set").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("value").build()}).build(),
+                NodeContext.builder().fieldName("random1List").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("name").build()}).build()})
+            .build())
+        .build();
+
+    Random2 result = transformer.transform(random2, context);
+    pool.shutdown();
+
+    assertEquals("***", result.getIpA());
+    assertEquals(1000, result.getRandom1List().size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals("***", result.getRandom1List().get(i).getName());
+      assertEquals(i, result.getRandom1List().get(i).getNumber());
+    }
+    assertEquals(100, result.getRandom1Set().size());
+    result.getRandom1Set().forEach(item -> assertEquals("***", item.getValue()));
+  }
+
+  @Test
+  @DisplayName("Asynchronous transformations run on the configured executor")
+  void testGetTransformer_asyncExecutor() {
+    AtomicInteger submitted = new AtomicInteger();
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .asyncExecutor(task -> {
+          submitted.incrementAndGet();
+          task.run();
+        })
+        .build()).getTransformer();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{NodeContext.builder().fieldName("name").build()})
+            .build())
+        .build();
+
+    Random1 result = transformer.transformAsync(Random1.builder().name("name").build(), context)
+        .join();
+    List<Random1> results = transformer.transformAllAsync(
+        List.of(Random1.builder().name("a").build(), Random1.builder().name("b").build()),
+        Random1.class, context).join();
+
+    assertEquals("***", result.getName());
+    assertEquals(List.of("***", "***"), results.stream().map(Random1::getName).toList());
+    assertEquals(2, submitted.get());
+  }
+
+  @Test
+  @DisplayName("JSON bytes are transformed without binding them to the schema class")
+  void testGetTransformer_transformBytes() {
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .build()).getTransformer();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("ipA").build(),
+                NodeContext.builder().fieldName("random1").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("name").build()}).build()})
+            .build())
+        .build();
+    byte[] json = "{\"ipA\":\"10.0.0.1\",\"ipB\":2,\"random1\":{\"name\":\"n\",\"value\":\"v\"}}"
+        .getBytes(StandardCharsets.UTF_8);
+    String expected = "{\"ipA\":\"***\",\"ipB\":2,\"random1\":{\"name\":\"***\",\"value\":\"v\"}}";
+    ByteBuffer output = ByteBuffer.allocate(128);
+
+    byte[] result = transformer.transformBytes(json, Random2.class, context);
+    int written = transformer.transformBytes(ByteBuffer.wrap(json), output, Random2.class,
+        context);
+
+    assertEquals(expected, new String(result, StandardCharsets.UTF_8));
+    assertEquals(expected, new String(output.array(), 0, written, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("Configured metrics receive transformation, operator, schema and error events")
+  void testGetTransformer_reportsMetrics() {
+    RecordingTransformationMetrics metrics = new RecordingTransformationMetrics();
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .metrics(metrics)
+        .build()).getTransformer();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{NodeContext.builder().fieldName("name").build()})
+            .build())
+        .build();
+    byte[] json = "{\"name\":\"n\"}".getBytes(StandardCharsets.UTF_8);
+
+    transformer.transform(Random1.builder().name("a").build(), context);
+    transformer.transform(Random1.builder().name("b").build(), context);
+    byte[] result = transformer.transformBytes(json, Random1.class, context);
+    assertThrows(DataTransformationException.class, () -> transformer.transform(
+        Random1.builder().name("c").build(),
+        new TransformationContext("unknown", context.getNodeContext())));
+
+    assertEquals(3, metrics.getTransformations().get(Random1.class).getCount());
+    assertEquals(3, metrics.getOperators().get("mask").getCount());
+    assertEquals(1, metrics.getSchemaLoads().get(Random1.class).getCount());
+    assertEquals(json.length, metrics.getInputBytes().get(Random1.class).sum());
+    assertEquals(result.length, metrics.getOutputBytes().get(Random1.class).sum());
+    assertThat(metrics.getErrors()).containsOnlyKeys(Random1.class);
+    assertThat(metrics.getErrors().get(Random1.class))
+        .containsOnlyKeys(ErrorCode.OPERATOR_NULL_ERROR.name());
+    assertEquals(1, metrics.getErrors().get(Random1.class).get(ErrorCode.OPERATOR_NULL_ERROR
+        .name()).sum());
+  }
+
+  @Test
+  @DisplayName("Null operator packages are ignored")
+  void testGetTransformer_nullOperatorPackages_areIgnored() {
+    Transformer transformer = new TransformerFactory("io.github.syphen.test", null)
+        .getTransformer();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{NodeContext.builder().fieldName("name").build()})
+            .build())
+        .build();
+
+    Random1 result = transformer.transform(Random1.builder().name("name").build(), context);
+
+    assertEquals("***", result.getName());
+  }
+
+  @Test
+  @DisplayName("Operators of classpath entries without an index are still found by scanning")
+  void testGetTransformer_operatorIndex_scansEntriesWithoutIndex(@TempDir Path tempDir)
+      throws IOException {
+    Path index = tempDir.resolve(OperatorIndex.RESOURCE);
+    Files.createDirectories(index.getParent());
+    Files.writeString(index, CountingUpperCaseOperator.class.getName() + "\n");
+    Thread thread = Thread.currentThread();
+    ClassLoader contextClassLoader = thread.getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()},
+        contextClassLoader)) {
+      thread.setContextClassLoader(classLoader);
+
+      Transformer transformer = new TransformerFactory().getTransformer();
+
+      assertEquals(1, transformer.explain(Random1.class, nameContext("upper"))
+          .getEstimatedOperatorCalls());
+      assertEquals(1, transformer.explain(Random1.class, nameContext("mask"))
+          .getEstimatedOperatorCalls());
+    } finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  private static TransformationContext nameContext(String operatorType) {
+    return TransformationContext.builder()
+        .defaultOperatorType(operatorType)
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{NodeContext.builder().fieldName("name").build()})
+            .build())
+        .build();
+  }
+}
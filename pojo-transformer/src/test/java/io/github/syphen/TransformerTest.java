@@ -0,0 +1,408 @@
+package io.github.syphen;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.cache.TransformationPlanCache;
+import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.execution.impl.TreeTransformationEngine;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.plan.PlanExplainer;
+import io.github.syphen.engine.plan.PlanExplanation;
+import io.github.syphen.engine.plan.TransformationPlan;
+import io.github.syphen.engine.stream.JsonStreamTransformer;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.instrument.Instrumentation;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.utils.MapperUtil;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransformerTest {
+
+  private NodeTransformer mockTransformer;
+  private TransformationPlanCache mockPlanCache;
+  private NodePlan rootPlan;
+  private Transformer transformer;
+
+  @BeforeEach
+  void setUp() {
+    mockTransformer = mock(NodeTransformer.class);
+    mockPlanCache = mock(TransformationPlanCache.class);
+    rootPlan = NodePlan.empty(SampleInput.class);
+    when(mockPlanCache.get(eq(SampleInput.class), any())).thenAnswer(
+        invocation -> new TransformationPlan(SampleInput.class, invocation.getArgument(1),
+            rootPlan));
+    transformer = new Transformer(mockTransformer, mockPlanCache, new JsonStreamTransformer(),
+        new TreeTransformationEngine(mockTransformer), Runnable::run,
+        Instrumentation.DISABLED);
+  }
+
+  @Test
+  void transform_shouldReturnTransformedObject_whenValidInput() {
+    SampleInput input = new SampleInput("John", 30);
+    NodeContext nodeContext = NodeContext.builder().fieldName("name").build();
+    TransformationContext ctx = TransformationContext.builder().nodeContext(nodeContext).build();
+
+    // Spy on ObjectMapper to verify re-mapping
+    ObjectMapper objectMapper = MapperUtil.getObjectMapper();
+
+    SampleInput result = transformer.transform(input, ctx);
+
+    assertNotNull(result);
+    assertEquals(input.name, result.name);
+    assertEquals(input.age, result.age);
+    verify(mockPlanCache).get(SampleInput.class, ctx);
+    verify(mockTransformer).applyPlan(any(ObjectNode.class), eq(rootPlan));
+  }
+
+  @Test
+  void buildTransformedJsonNode_shouldReturnTransformedNode_whenValidInput() {
+    SampleInput input = new SampleInput("Alice", 25);
+    NodeContext nodeContext = NodeContext.builder().fieldName("name").build();
+    TransformationContext ctx = TransformationContext.builder().nodeContext(nodeContext).build();
+
+    JsonNode node = transformer.buildTransformedJsonNode(input, ctx);
+
+    assertNotNull(node);
+    assertTrue(node.isObject());
+    assertEquals("Alice", node.get("name").asText());
+    verify(mockPlanCache).get(SampleInput.class, ctx);
+    verify(mockTransformer).applyPlan(any(ObjectNode.class), eq(rootPlan));
+  }
+
+  @Test
+  void transform_shouldReturnInputAsIs_whenInputIsNull() {
+    SampleInput result = transformer.transform(null, null);
+    assertNull(result);
+    verifyNoInteractions(mockTransformer);
+  }
+
+  @Test
+  void buildTransformedJsonNode_shouldReturnNull_whenInputIsNull() {
+    JsonNode result = transformer.buildTransformedJsonNode(null, null);
+    assertNull(result);
+    verifyNoInteractions(mockTransformer);
+  }
+
+  @Test
+  void explain_shouldExplainCachedPlan_whenValidContext() {
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("input").build())
+        .build();
+
+    PlanExplanation explanation = transformer.explain(SampleInput.class, ctx);
+
+    assertEquals(SampleInput.class, explanation.getRootClass());
+    assertEquals(PlanExplainer.DEFAULT_COLLECTION_SIZE, explanation.getAssumedCollectionSize());
+    verify(mockPlanCache).get(SampleInput.class, ctx);
+  }
+
+  @Test
+  void explain_shouldExplainEmptyPlan_whenContextIsInvalid() {
+    PlanExplanation explanation = transformer.explain(SampleInput.class, null, 3);
+
+    assertTrue(explanation.getRoot().getFields().isEmpty());
+    assertEquals(0, explanation.getEstimatedOperatorCalls());
+    verifyNoInteractions(mockPlanCache);
+  }
+
+  @Test
+  void transform_shouldThrowException_whenTransformerFails() {
+    SampleInput input = new SampleInput("Bob", 20);
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+
+    doThrow(new RuntimeException("Transformer failure"))
+        .when(mockTransformer)
+        .applyPlan(any(), any());
+
+    assertThrows(DataTransformationException.class, () -> transformer.transform(input, ctx));
+  }
+
+  @Test
+  void transform_shouldKeepErrorCode_whenTransformerFailsWithDataTransformationException() {
+    SampleInput input = new SampleInput("Bob", 20);
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+    DataTransformationException failure = DataTransformationException.error(
+        ErrorCode.FIELD_NOT_EXIST, Map.of("detailMessage", "Field age does not exist"));
+    doThrow(failure).when(mockTransformer).applyPlan(any(), any());
+
+    DataTransformationException exception = assertThrows(DataTransformationException.class,
+        () -> transformer.transform(input, ctx));
+
+    assertSame(failure, exception);
+    assertEquals(ErrorCode.FIELD_NOT_EXIST.name(), exception.getCode());
+  }
+
+  @Test
+  void buildTransformedJsonNode_shouldThrowException_whenTransformerFails() {
+    SampleInput input = new SampleInput("Eve", 40);
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+
+    doThrow(new RuntimeException("Transformer failure"))
+        .when(mockTransformer)
+        .applyPlan(any(), any());
+
+    assertThrows(DataTransformationException.class,
+        () -> transformer.buildTransformedJsonNode(input, ctx));
+  }
+
+  @Test
+  void transformStream_shouldCopyDocument_whenPlanIsEmpty() {
+    String json = "{\"name\":\"Ann\",\"age\":31}";
+    NodeContext nodeContext = NodeContext.builder().fieldName("name").build();
+    TransformationContext ctx = TransformationContext.builder().nodeContext(nodeContext).build();
+    StringWriter writer = new StringWriter();
+
+    transformer.transformStream(new StringReader(json), writer, SampleInput.class, ctx);
+
+    assertEquals(json, writer.toString());
+    verify(mockPlanCache).get(SampleInput.class, ctx);
+  }
+
+  @Test
+  void transformBytes_shouldWriteDocumentsIntoCallerBuffer_whenPlanIsEmpty() {
+    byte[] json = "{\"name\":\"Ann\",\"age\":31}".getBytes(StandardCharsets.UTF_8);
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+    ByteBuffer input = ByteBuffer.allocateDirect(json.length).put(json).flip();
+    ByteBuffer output = ByteBuffer.allocate(2 * json.length);
+
+    int written = transformer.transformBytes(input, output, SampleInput.class, ctx);
+    written += transformer.transformBytes(ByteBuffer.wrap(json), output, SampleInput.class, ctx);
+
+    assertEquals(2 * json.length, written);
+    assertEquals(0, input.remaining());
+    assertEquals(0, output.remaining());
+    assertArrayEquals(json, Arrays.copyOf(output.array(), json.length));
+    assertArrayEquals(json, transformer.transformBytes(json, SampleInput.class, ctx));
+  }
+
+  @Test
+  void transformBytes_shouldThrowException_whenOutputBufferIsTooSmall() {
+    byte[] json = "{\"name\":\"Ann\",\"age\":31}".getBytes(StandardCharsets.UTF_8);
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+
+    assertThrows(DataTransformationException.class, () -> transformer.transformBytes(
+        ByteBuffer.wrap(json), ByteBuffer.allocate(8), SampleInput.class, ctx));
+  }
+
+  @Test
+  void transformAll_shouldResolvePlanOnceAndKeepOrder_whenValidInputs() {
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+    List<SampleInput> inputs = Arrays.asList(new SampleInput("John", 30), null,
+        new SampleInput("Jane", 28));
+
+    List<SampleInput> results = transformer.transformAll(inputs, SampleInput.class, ctx);
+
+    assertEquals(3, results.size());
+    assertEquals("John", results.get(0).name);
+    assertNull(results.get(1));
+    assertEquals("Jane", results.get(2).name);
+    verify(mockPlanCache, times(1)).get(SampleInput.class, ctx);
+    verify(mockTransformer, times(2)).applyPlan(any(ObjectNode.class), eq(rootPlan));
+  }
+
+  @Test
+  void transformAll_shouldReturnInputsAsIs_whenContextIsInvalid() {
+    List<SampleInput> inputs = List.of(new SampleInput("John", 30));
+
+    List<SampleInput> results = transformer.transformAll(inputs, SampleInput.class, null);
+
+    assertSame(inputs.get(0), results.get(0));
+    assertTrue(transformer.transformAll(null, SampleInput.class, null).isEmpty());
+    verifyNoInteractions(mockTransformer, mockPlanCache);
+  }
+
+  @Test
+  void transformAll_shouldThrowException_whenTransformerFails() {
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+    doThrow(new RuntimeException("Transformer failure"))
+        .when(mockTransformer)
+        .applyPlan(any(), any());
+
+    assertThrows(DataTransformationException.class, () -> transformer.transformAll(
+        List.of(new SampleInput("Bob", 20)), SampleInput.class, ctx));
+  }
+
+  @Test
+  void buildTransformedJsonNodes_shouldReturnNodesInOrder_whenValidInputs() {
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+
+    List<JsonNode> nodes = transformer.buildTransformedJsonNodes(
+        List.of(new SampleInput("Alice", 25), new SampleInput("Eve", 40)), SampleInput.class,
+        ctx);
+
+    assertEquals(2, nodes.size());
+    assertEquals("Alice", nodes.get(0).get("name").asText());
+    assertEquals("Eve", nodes.get(1).get("name").asText());
+    verify(mockPlanCache, times(1)).get(SampleInput.class, ctx);
+  }
+
+  @Test
+  void transformAsync_shouldCompleteWithTransformedObject_whenValidInput() {
+    SampleInput input = new SampleInput("John", 30);
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+
+    SampleInput result = transformer.transformAsync(input, ctx).join();
+
+    assertEquals("John", result.name);
+    verify(mockTransformer).applyPlan(any(ObjectNode.class), eq(rootPlan));
+  }
+
+  @Test
+  void transformAsync_shouldCompleteExceptionally_whenTransformerFails() {
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+    doThrow(new RuntimeException("Transformer failure"))
+        .when(mockTransformer)
+        .applyPlan(any(), any());
+
+    CompletableFuture<SampleInput> future = transformer.transformAsync(
+        new SampleInput("Bob", 20), ctx);
+
+    CompletionException exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(DataTransformationException.class, exception.getCause());
+  }
+
+  @Test
+  void transformAllAsync_shouldRunOnConfiguredExecutor() {
+    List<Runnable> submitted = new ArrayList<>();
+    Transformer asyncTransformer = new Transformer(mockTransformer, mockPlanCache,
+        new JsonStreamTransformer(), new TreeTransformationEngine(mockTransformer),
+        submitted::add, Instrumentation.DISABLED);
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+
+    CompletableFuture<List<SampleInput>> future = asyncTransformer.transformAllAsync(
+        List.of(new SampleInput("John", 30), new SampleInput("Jane", 28)), SampleInput.class,
+        ctx);
+
+    assertFalse(future.isDone());
+    assertEquals(1, submitted.size());
+    submitted.get(0).run();
+    assertEquals(List.of("John", "Jane"),
+        future.join().stream().map(sample -> sample.name).toList());
+  }
+
+  @Test
+  void transformJsonNode_shouldTransformCopy_whenValidInput() {
+    ObjectNode input = MapperUtil.getObjectMapper().createObjectNode().put("name", "Ann");
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+    doAnswer(invocation -> ((ObjectNode) invocation.getArgument(0)).put("name", "***"))
+        .when(mockTransformer).applyPlan(any(), eq(rootPlan));
+
+    JsonNode result = transformer.transformJsonNode(input, SampleInput.class, ctx);
+
+    assertEquals("***", result.get("name").asText());
+    assertEquals("Ann", input.get("name").asText());
+  }
+
+  @Test
+  void transformingProcessor_shouldDeliverTransformedObjectsInOrder() {
+    TransformationContext ctx = TransformationContext.builder()
+        .nodeContext(NodeContext.builder().fieldName("name").build())
+        .build();
+    List<String> names = new ArrayList<>();
+    Flow.Processor<SampleInput, SampleInput> processor = transformer.transformingProcessor(ctx,
+        2, 4);
+    processor.subscribe(new Flow.Subscriber<>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(SampleInput item) {
+        names.add(item.name);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+        names.add("done");
+      }
+    });
+
+    try (SubmissionPublisher<SampleInput> publisher = new SubmissionPublisher<>(Runnable::run,
+        4)) {
+      publisher.subscribe(processor);
+      publisher.submit(new SampleInput("John", 30));
+      publisher.submit(new SampleInput("Jane", 28));
+    }
+
+    assertEquals(List.of("John", "Jane", "done"), names);
+    verify(mockTransformer, times(2)).applyPlan(any(ObjectNode.class), eq(rootPlan));
+  }
+
+  static class SampleInput {
+
+    public String name;
+    public int age;
+
+    public SampleInput() {
+    }
+
+    public SampleInput(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+  }
+}
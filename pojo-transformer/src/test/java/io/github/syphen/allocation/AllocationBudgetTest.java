@@ -0,0 +1,152 @@
+package io.github.syphen.allocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.test.TestApplication.Random1;
+import io.github.syphen.test.TestApplication.Random2;
+import io.github.syphen.utils.CommonUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Fails when a {@link Transformer#transform} call on a reference POJO allocates more bytes than
+ * its budget in {@code allocation-budgets.properties}. Allocations are read from the per-thread
+ * allocation counter of the JVM after a warmup, averaged over many calls.
+ * <p>
+ * When a change lowers the allocations, lower the budget with it so the gain stays; when a
+ * change needs more, raise it in the same commit with the reason.
+ * </p>
+ */
+@DisplayName("Allocation Budget Tests")
+class AllocationBudgetTest {
+
+  private static final int WARMUP_CALLS = 5_000;
+  private static final int MEASURED_CALLS = 2_000;
+
+  private static Properties budgets;
+
+  @BeforeAll
+  static void loadBudgets() throws IOException {
+    budgets = new Properties();
+    try (InputStream input = AllocationBudgetTest.class
+        .getResourceAsStream("/allocation-budgets.properties")) {
+      budgets.load(input);
+    }
+  }
+
+  static Stream<Arguments> scenarios() {
+    return Stream.of(TransformationEngineType.values()).flatMap(engineType -> Stream.of(
+        Arguments.of("flat", engineType, flatInput(), flatContext()),
+        Arguments.of("nested", engineType, nestedInput(), nestedContext())));
+  }
+
+  @ParameterizedTest(name = "{0} with {1}")
+  @MethodSource("scenarios")
+  @DisplayName("transform stays within its allocation budget")
+  void testTransform_staysWithinBudget(String scenario, TransformationEngineType engineType,
+      Object input, TransformationContext context) {
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .engineType(engineType)
+        .build()).getTransformer();
+    String key = scenario + "." + engineType.name().toLowerCase();
+
+    long bytesPerCall = bytesPerCall(() -> transformer.transform(input, context));
+
+    assertThat(bytesPerCall).as("bytes allocated per call of %s", key)
+        .isLessThanOrEqualTo(Long.parseLong(budgets.getProperty(key)));
+  }
+
+  @Test
+  @DisplayName("Context and null guards of the hot path do not allocate")
+  void testGuards_doNotAllocate() {
+    TransformationContext context = flatContext();
+    Object value = new Object();
+
+    long bytesPerCall = bytesPerCall(() -> {
+      if (CommonUtil.nonValidNodeContext(context) || CommonUtil.isAnyNull(value, context)
+          || CommonUtil.allNull(null, value) || CommonUtil.isAnyNull(value, value, context)) {
+        throw new IllegalStateException();
+      }
+    });
+
+    assertThat(bytesPerCall).isZero();
+  }
+
+  /**
+   * Average number of bytes allocated by one call, measured on the current thread after running
+   * the call {@link #WARMUP_CALLS} times so it is compiled.
+   */
+  private static long bytesPerCall(Runnable call) {
+    ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMxBean instanceof com.sun.management.ThreadMXBean,
+        "per-thread allocation counters are not available");
+    com.sun.management.ThreadMXBean allocationCounter =
+        (com.sun.management.ThreadMXBean) threadMxBean;
+    assumeTrue(allocationCounter.isThreadAllocatedMemorySupported());
+    for (int i = 0; i < WARMUP_CALLS; i++) {
+      call.run();
+    }
+    long before = allocationCounter.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < MEASURED_CALLS; i++) {
+      call.run();
+    }
+    long after = allocationCounter.getCurrentThreadAllocatedBytes();
+    return (after - before) / MEASURED_CALLS;
+  }
+
+  private static Random1 flatInput() {
+    return Random1.builder().name("name").value("value").number(7).context(Map.of()).build();
+  }
+
+  private static TransformationContext flatContext() {
+    return TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("name").build(),
+                NodeContext.builder().fieldName("number").build()})
+            .build())
+        .build();
+  }
+
+  private static Random2 nestedInput() {
+    List<Random1> items = IntStream.range(0, 8)
+        .mapToObj(i -> Random1.builder().name("name" + i).value("value").number(i).build())
+        .toList();
+    return Random2.builder().ipA("ipA").ipB(2L).random1(flatInput()).random1List(items).build();
+  }
+
+  private static TransformationContext nestedContext() {
+    return TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("ipA").build(),
+                NodeContext.builder().fieldName("random1").transformAllFields(true).build(),
+                NodeContext.builder().fieldName("random1List").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("name").build()}).build()})
+            .build())
+        .build();
+  }
+}
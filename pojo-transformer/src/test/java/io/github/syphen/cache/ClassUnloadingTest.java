@@ -0,0 +1,87 @@
+package io.github.syphen.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.cache.unload.PluginPojo;
+import io.github.syphen.config.SchemaCacheConfig;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ClassUnloadingTest {
+
+  private static final TransformationContext CONTEXT = TransformationContext.builder()
+      .defaultOperatorType("mask")
+      .nodeContext(NodeContext.builder().fieldName("root").transformAllFields(true).build())
+      .build();
+
+  @TempDir
+  Path classes;
+
+  /**
+   * The tree engine binds whole objects through the shared Jackson mapper, whose own caches keep
+   * the converted classes, so only the engines accessing fields directly are covered.
+   */
+  @ParameterizedTest
+  @EnumSource(value = TransformationEngineType.class, names = {"ACCESSOR", "GENERATED"})
+  @DisplayName("Weak keys let the class loader of a transformed class be collected")
+  void testTransform_weakKeys_releaseClassLoader(TransformationEngineType engineType)
+      throws Exception {
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .engineType(engineType)
+        .schemaCacheConfig(SchemaCacheConfig.builder().weakKeys(true).build())
+        .build()).getTransformer();
+
+    WeakReference<ClassLoader> classLoader = transformPluginPojo(transformer);
+
+    for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+    assertNull(classLoader.get());
+    Reference.reachabilityFence(transformer);
+  }
+
+  private WeakReference<ClassLoader> transformPluginPojo(Transformer transformer)
+      throws Exception {
+    String resource = PluginPojo.class.getName().replace('.', '/') + ".class";
+    Path classFile = classes.resolve(resource);
+    Files.createDirectories(classFile.getParent());
+    try (InputStream in = PluginPojo.class.getClassLoader().getResourceAsStream(resource)) {
+      Files.copy(in, classFile);
+    }
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+        ClassLoader.getPlatformClassLoader())) {
+      Class<?> pojoClass = classLoader.loadClass(PluginPojo.class.getName());
+      Object pojo = pojoClass.getConstructor().newInstance();
+      Field name = pojoClass.getDeclaredField("name");
+      name.setAccessible(true);
+      name.set(pojo, "name");
+
+      Object result = transformer.transform(pojo, CONTEXT);
+
+      assertNotNull(result);
+      assertEquals("***", name.get(result));
+      return new WeakReference<>(classLoader);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package io.github.syphen.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.cache.pure.CountingUpperCaseOperator;
+import io.github.syphen.config.OperatorCacheConfig;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.test.TestApplication.Random1;
+import io.github.syphen.test.TestApplication.Random2;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperatorResultCacheTest {
+
+  private BaseOperator operator;
+  private BaseOperator cachingOperator;
+  private OperatorResultCache cache;
+
+  @BeforeEach
+  void setUp() {
+    operator = mock(BaseOperator.class);
+    when(operator.apply(any(), any())).thenAnswer(
+        invocation -> TextNode.valueOf("#" + invocation.getArgument(0, JsonNode.class).asText()));
+    cache = new OperatorResultCache(OperatorCacheConfig.defaults());
+    cachingOperator = cache.wrap("hash", operator);
+  }
+
+  @Test
+  void testApply_equalValues_computeOnce() {
+    JsonNode first = cachingOperator.apply(TextNode.valueOf("a"), String.class);
+    JsonNode second = cachingOperator.apply(TextNode.valueOf("a"), String.class);
+
+    assertEquals(TextNode.valueOf("#a"), first);
+    assertSame(first, second);
+    verify(operator, times(1)).apply(TextNode.valueOf("a"), String.class);
+    CacheStats stats = cache.stats();
+    assertEquals(1, stats.hitCount());
+    assertEquals(1, stats.missCount());
+  }
+
+  @Test
+  void testApply_differentClassesOrValues_computeEach() {
+    cachingOperator.apply(TextNode.valueOf("1"), String.class);
+    cachingOperator.apply(TextNode.valueOf("1"), Integer.class);
+    cachingOperator.apply(TextNode.valueOf("2"), String.class);
+
+    verify(operator, times(3)).apply(any(), any());
+    assertEquals(3, cache.getCache().estimatedSize());
+  }
+
+  @Test
+  void testApply_containersAndAbsentValues_bypassCache() {
+    JsonNode array = JsonNodeFactory.instance.arrayNode().add("a");
+    doReturn(array).when(operator).apply(eq(array), any());
+    doReturn(null).when(operator).apply(eq(null), any());
+
+    cachingOperator.apply(array, List.class);
+    cachingOperator.apply(array, List.class);
+    assertNull(cachingOperator.apply(null, String.class));
+
+    verify(operator, times(2)).apply(array, List.class);
+    assertEquals(0, cache.getCache().estimatedSize());
+    assertEquals(0, cache.stats().requestCount());
+  }
+
+  @Test
+  void testGetTransformer_cachesPureOperatorResults() {
+    TransformerFactory factory = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test", "io.github.syphen.cache.pure"))
+        .build());
+    Transformer transformer = factory.getTransformer();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("upper")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("random1List").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("name").build()}).build()})
+            .build())
+        .build();
+    Random2 input = Random2.builder().random1List(Stream.of("fr", "de", "fr", "fr", "de")
+        .map(name -> Random1.builder().name(name).build()).toList()).build();
+    int before = CountingUpperCaseOperator.CALLS.get();
+
+    Random2 result = transformer.transform(input, context);
+
+    assertEquals(List.of("FR", "DE", "FR", "FR", "DE"),
+        result.getRandom1List().stream().map(Random1::getName).toList());
+    assertEquals(2, CountingUpperCaseOperator.CALLS.get() - before);
+    assertEquals(3, factory.getOperatorResultCache().stats().hitCount());
+  }
+
+  @Test
+  void testGetTransformer_disabledCache_callsOperatorsDirectly() {
+    TransformerFactory factory = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.cache.pure"))
+        .operatorCacheConfig(OperatorCacheConfig.disabled())
+        .build());
+
+    assertNull(factory.getOperatorResultCache());
+    assertNotNull(factory.getTransformer());
+  }
+}
@@ -0,0 +1,48 @@
+package io.github.syphen.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import io.github.syphen.config.SchemaCacheConfig;
+import io.github.syphen.engine.accessor.PojoAccessor;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class PojoAccessorCacheTest {
+
+  @Test
+  void testGet_defaults_buildsAccessorOnceWithoutExpiry() {
+    PojoAccessorCache cache = new PojoAccessorCache();
+
+    assertSame(cache.get(Person.class), cache.get(Person.class));
+    Policy<Class<?>, PojoAccessor> policy = cache.getCache().policy();
+    assertEquals(1000L, policy.eviction().orElseThrow().getMaximum());
+    assertFalse(policy.expireAfterWrite().isPresent());
+    assertFalse(policy.expireAfterAccess().isPresent());
+  }
+
+  @Test
+  void testGet_schemaCacheConfig_isApplied() {
+    PojoAccessorCache cache = new PojoAccessorCache(SchemaCacheConfig.builder()
+        .maximumSize(10)
+        .expireAfterWrite(Duration.ofHours(2))
+        .expireAfterAccess(Duration.ofMinutes(30))
+        .build());
+
+    cache.get(Person.class);
+
+    Policy<Class<?>, PojoAccessor> policy = cache.getCache().policy();
+    assertEquals(10L, policy.eviction().orElseThrow().getMaximum());
+    assertEquals(Duration.ofHours(2),
+        policy.expireAfterWrite().orElseThrow().getExpiresAfter());
+    assertEquals(Duration.ofMinutes(30),
+        policy.expireAfterAccess().orElseThrow().getExpiresAfter());
+  }
+
+  static class Person {
+
+    String name;
+  }
+}
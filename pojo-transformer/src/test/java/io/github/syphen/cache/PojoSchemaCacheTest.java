@@ -0,0 +1,115 @@
+package io.github.syphen.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import io.github.syphen.config.SchemaCacheConfig;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.metrics.TransformationMetrics;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.utils.CommonUtil;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PojoSchemaCacheTest {
+
+  @Test
+  void testGet_defaults_inspectsClassWithoutExpiry() {
+    PojoSchemaCache cache = new PojoSchemaCache();
+
+    assertEquals(CommonUtil.inspectClass(Person.class), cache.get(Person.class));
+    Policy<Class<?>, Map<String, FieldTypeDescriptor>> policy = cache.getCache().policy();
+    assertEquals(1000L, policy.eviction().orElseThrow().getMaximum());
+    assertFalse(policy.expireAfterWrite().isPresent());
+    assertFalse(policy.expireAfterAccess().isPresent());
+    assertFalse(policy.isRecordingStats());
+  }
+
+  @Test
+  void testGet_customLoader_loadsOncePerClassAndReportsLoadTime() {
+    Map<String, FieldTypeDescriptor> schema = Map.of();
+    AtomicInteger loads = new AtomicInteger();
+    TransformationMetrics metrics = mock(TransformationMetrics.class);
+    PojoSchemaCache cache = new PojoSchemaCache(SchemaCacheConfig.builder()
+        .loader(clazz -> {
+          loads.incrementAndGet();
+          return schema;
+        })
+        .build(), metrics, false);
+
+    assertSame(schema, cache.get(Person.class));
+    assertSame(schema, cache.get(Person.class));
+    assertEquals(1, loads.get());
+    verify(metrics, times(1)).schemaLoaded(eq(Person.class), anyLong());
+  }
+
+  @Test
+  void testGet_configuredPolicies_areApplied() {
+    PojoSchemaCache cache = new PojoSchemaCache(SchemaCacheConfig.builder()
+        .maximumSize(10)
+        .expireAfterWrite(Duration.ofHours(2))
+        .expireAfterAccess(Duration.ofMinutes(30))
+        .weakKeys(true)
+        .recordStats(true)
+        .build(), TransformationMetrics.NOOP, false);
+
+    cache.get(Person.class);
+
+    Policy<Class<?>, Map<String, FieldTypeDescriptor>> policy = cache.getCache().policy();
+    assertEquals(10L, policy.eviction().orElseThrow().getMaximum());
+    assertEquals(Duration.ofHours(2),
+        policy.expireAfterWrite().orElseThrow().getExpiresAfter());
+    assertEquals(Duration.ofMinutes(30),
+        policy.expireAfterAccess().orElseThrow().getExpiresAfter());
+    assertTrue(policy.isRecordingStats());
+    assertEquals(1, cache.getCache().stats().missCount());
+  }
+
+  @Test
+  void testGet_weakKeys_keepSchemaWhileClassIsReachable() {
+    AtomicInteger loads = new AtomicInteger();
+    PojoSchemaCache cache = new PojoSchemaCache(SchemaCacheConfig.builder()
+        .weakKeys(true)
+        .loader(clazz -> {
+          loads.incrementAndGet();
+          return CommonUtil.inspectClass(clazz);
+        })
+        .build(), TransformationMetrics.NOOP, false);
+
+    cache.get(Person.class);
+    System.gc();
+    cache.get(Person.class);
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testGet_loaderReturningNull_throwsException() {
+    PojoSchemaCache cache = new PojoSchemaCache(SchemaCacheConfig.builder()
+        .loader(clazz -> null).build(), TransformationMetrics.NOOP, false);
+
+    DataTransformationException ex = assertThrows(DataTransformationException.class,
+        () -> cache.get(Person.class));
+    assertEquals(ErrorCode.TRANSFORMATION_ERROR.name(), ex.getCode());
+    assertTrue(ex.getContext().get("detailMessage").toString()
+        .contains(Person.class.getName()));
+  }
+
+  static class Person {
+
+    private String name;
+    private int age;
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.syphen.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.plan.PlanCompiler;
+import io.github.syphen.engine.plan.TransformationPlan;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TransformationPlanCacheTest {
+
+  @Test
+  void testGet_equalContexts_compileOnce() {
+    PlanCompiler planCompiler = mock(PlanCompiler.class);
+    TransformationPlan plan = new TransformationPlan(String.class, null,
+        NodePlan.empty(String.class));
+    when(planCompiler.compile(eq(String.class), any())).thenReturn(plan);
+    TransformationPlanCache cache = new TransformationPlanCache(planCompiler);
+
+    TransformationPlan first = cache.get(String.class, context());
+    TransformationPlan second = cache.get(String.class, context());
+
+    assertSame(plan, first);
+    assertSame(plan, second);
+    verify(planCompiler, times(1)).compile(eq(String.class), any());
+  }
+
+  @Test
+  void testGet_contextMutatedAfterUse_doesNotCorruptCache() {
+    PlanCompiler planCompiler = mock(PlanCompiler.class);
+    TransformationPlan plan = new TransformationPlan(String.class, null,
+        NodePlan.empty(String.class));
+    TransformationPlan mutatedPlan = new TransformationPlan(String.class, null,
+        NodePlan.empty(String.class));
+    when(planCompiler.compile(eq(String.class), any())).thenReturn(plan, mutatedPlan);
+    TransformationPlanCache cache = new TransformationPlanCache(planCompiler);
+    TransformationContext context = context();
+
+    cache.get(String.class, context);
+    context.getNodeContext().getSkipFields()[0].setFieldName("name");
+    context.setDefaultOperatorType("UPPER");
+
+    assertSame(mutatedPlan, cache.get(String.class, context));
+    assertSame(plan, cache.get(String.class, context()));
+    ArgumentCaptor<TransformationContext> compiled =
+        ArgumentCaptor.forClass(TransformationContext.class);
+    verify(planCompiler, times(2)).compile(eq(String.class), compiled.capture());
+    assertNotSame(context, compiled.getAllValues().get(1));
+    assertEquals(context, compiled.getAllValues().get(1));
+    assertEquals(context(), compiled.getAllValues().get(0));
+  }
+
+  private static TransformationContext context() {
+    return TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("root").transformAllFields(true)
+            .skipFields(new NodeContext[]{NodeContext.builder().fieldName("hash").build()})
+            .build())
+        .build();
+  }
+}
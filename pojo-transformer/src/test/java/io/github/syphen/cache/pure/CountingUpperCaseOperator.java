@@ -0,0 +1,19 @@
+package io.github.syphen.cache.pure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.github.syphen.annotation.RegisterOperator;
+import io.github.syphen.operator.BaseOperator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RegisterOperator(value = "upper", pure = true)
+public class CountingUpperCaseOperator extends BaseOperator {
+
+  public static final AtomicInteger CALLS = new AtomicInteger();
+
+  @Override
+  public JsonNode apply(JsonNode input, Class<?> inputClass) {
+    CALLS.incrementAndGet();
+    return input == null || input.isNull() ? input : TextNode.valueOf(input.asText().toUpperCase());
+  }
+}
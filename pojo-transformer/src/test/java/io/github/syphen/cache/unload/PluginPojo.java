@@ -0,0 +1,14 @@
+package io.github.syphen.cache.unload;
+
+/**
+ * POJO loaded again through a throwaway class loader, standing in for the class of an unloaded
+ * plugin. It only depends on {@code java.base}.
+ */
+public class PluginPojo {
+
+  private String name;
+  private String code;
+
+  public PluginPojo() {
+  }
+}
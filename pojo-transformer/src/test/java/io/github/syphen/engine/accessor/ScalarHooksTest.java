@@ -0,0 +1,58 @@
+package io.github.syphen.engine.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import org.junit.jupiter.api.Test;
+
+class ScalarHooksTest {
+
+  private final BaseOperator widening = new BaseOperator() {
+    @Override
+    public JsonNode apply(JsonNode input, Class<?> inputClass) {
+      return input;
+    }
+
+    @Override
+    public long applyLong(long input) {
+      return input * 1_000_000L;
+    }
+
+    @Override
+    public double applyDouble(double input) {
+      return input * 1e300;
+    }
+  };
+
+  @Test
+  void testApply_narrowsResultsThatFit() {
+    assertEquals(2_000_000, ScalarHooks.applyInt(widening, 2));
+    assertEquals(2_000_000, ScalarHooks.apply(widening, ScalarType.LONG, 2, Integer.class));
+    assertEquals(0f, ScalarHooks.applyFloat(widening, 0f));
+    assertEquals(Float.POSITIVE_INFINITY,
+        ScalarHooks.applyFloat(widening, Float.POSITIVE_INFINITY));
+    assertEquals(2e300, ScalarHooks.apply(widening, ScalarType.DOUBLE, 2.0, double.class));
+    assertEquals(Float.class,
+        ScalarHooks.apply(widening, ScalarType.DOUBLE, 0f, float.class).getClass());
+    assertEquals(Long.class,
+        ScalarHooks.apply(widening, ScalarType.LONG, 2L, long.class).getClass());
+  }
+
+  @Test
+  void testApply_resultsNotFittingIntOrFloat_throwTransformationError() {
+    assertOutOfRange(() -> ScalarHooks.applyInt(widening, 1_000_000));
+    assertOutOfRange(() -> ScalarHooks.apply(widening, ScalarType.LONG, 1_000_000, int.class));
+    assertOutOfRange(() -> ScalarHooks.applyFloat(widening, 2f));
+    assertOutOfRange(() -> ScalarHooks.apply(widening, ScalarType.DOUBLE, 2f, Float.class));
+  }
+
+  private static void assertOutOfRange(Runnable call) {
+    DataTransformationException ex = assertThrows(DataTransformationException.class, call::run);
+    assertEquals(ErrorCode.TRANSFORMATION_ERROR.name(), ex.getCode());
+  }
+}
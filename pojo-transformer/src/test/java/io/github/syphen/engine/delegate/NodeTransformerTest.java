@@ -0,0 +1,71 @@
+package io.github.syphen.engine.delegate;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.processor.JsonProcessor;
+import io.github.syphen.factory.ProcessorSelector;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NodeTransformerTest {
+
+  private ProcessorSelector processorSelector;
+  private NodeTransformer nodeTransformer;
+  private NodePlan nodePlan;
+
+  @BeforeEach
+  void setUp() {
+    processorSelector = mock(ProcessorSelector.class);
+    nodeTransformer = new NodeTransformer(processorSelector);
+    nodePlan = new NodePlan(Dummy.class, List.of(FieldPlan.builder().fieldName("name").build()));
+  }
+
+  @Test
+  void testApplyPlan_validInputs_callsProcessor() {
+    JsonNode mockNode = mock(JsonNode.class);
+    JsonProcessor processor = mock(JsonProcessor.class);
+    when(processorSelector.getProcessor(mockNode)).thenReturn(processor);
+
+    nodeTransformer.applyPlan(mockNode, nodePlan);
+
+    verify(processor).transform(mockNode, nodePlan);
+  }
+
+  @Test
+  void testApplyPlan_nullInputs_doesNothing() {
+    nodeTransformer.applyPlan(null, nodePlan);
+    nodeTransformer.applyPlan(mock(JsonNode.class), null);
+
+    verifyNoInteractions(processorSelector);
+  }
+
+  @Test
+  void testApplyPlan_emptyPlan_doesNothing() {
+    nodeTransformer.applyPlan(mock(JsonNode.class), NodePlan.empty(Dummy.class));
+
+    verifyNoInteractions(processorSelector);
+  }
+
+  @Test
+  void testApplyPlan_noProcessor_doesNothing() {
+    JsonNode mockNode = mock(JsonNode.class);
+    when(processorSelector.getProcessor(mockNode)).thenReturn(null);
+
+    nodeTransformer.applyPlan(mockNode, nodePlan);
+
+    // No transform should be called, but processorSelector is interacted with
+    verify(processorSelector).getProcessor(mockNode);
+  }
+
+  //   Dummy class for testing purposes
+  private static class Dummy {
+
+  }
+}
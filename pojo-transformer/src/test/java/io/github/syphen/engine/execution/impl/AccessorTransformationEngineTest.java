@@ -0,0 +1,154 @@
+package io.github.syphen.engine.execution.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.github.syphen.cache.PojoAccessorCache;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.operator.BaseOperator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccessorTransformationEngineTest {
+
+  private TreeTransformationEngine treeTransformationEngine;
+  private AccessorTransformationEngine engine;
+  private NodePlan personPlan;
+
+  @BeforeEach
+  void setUp() {
+    treeTransformationEngine = mock(TreeTransformationEngine.class);
+    engine = new AccessorTransformationEngine(new PojoAccessorCache(), treeTransformationEngine);
+    BaseOperator upper = new UpperOperator();
+    personPlan = new NodePlan(Person.class, List.of(
+        direct("name", FieldTypeDescriptor.builder().clazz(String.class).build(), upper),
+        direct("age", FieldTypeDescriptor.builder().clazz(int.class).build(), upper),
+        direct("tags", FieldTypeDescriptor.builder().clazz(List.class).genericType(String.class)
+            .build(), upper)));
+  }
+
+  @Test
+  void testTransform_directFields_returnsShallowCopyWithTransformedValues() {
+    Map<String, Object> attributes = Map.of("k", "v");
+    Person person = new Person("john", 30, new ArrayList<>(List.of("a", "b")), attributes);
+
+    Person result = engine.transform(person, personPlan);
+
+    assertNotSame(person, result);
+    assertEquals("JOHN", result.name);
+    assertEquals(0, result.age);
+    assertEquals(List.of("A", "B"), result.tags);
+    assertSame(attributes, result.attributes);
+    assertEquals("john", person.name);
+    assertEquals(List.of("a", "b"), person.tags);
+  }
+
+  @Test
+  void testTransform_nestedObjectAndCollection_copiesTargetedPojos() {
+    FieldTypeDescriptor leadType = FieldTypeDescriptor.builder().clazz(Person.class).build();
+    FieldTypeDescriptor membersType = FieldTypeDescriptor.builder().clazz(List.class)
+        .genericType(Person.class).build();
+    NodePlan teamPlan = new NodePlan(Team.class, List.of(
+        FieldPlan.builder().fieldName("lead").fieldTypeDescriptor(leadType)
+            .nestedPlan(personPlan).build(),
+        FieldPlan.builder().fieldName("members").fieldTypeDescriptor(membersType)
+            .nestedPlan(personPlan).build()));
+    Person lead = new Person("lead", 1, null, null);
+    Team team = new Team(lead, new ArrayList<>(List.of(new Person("m", 2, List.of(), null))));
+    team.members.add(null);
+
+    Team result = engine.transform(team, teamPlan);
+
+    assertEquals("LEAD", result.lead.name);
+    assertEquals("lead", lead.name);
+    assertEquals(2, result.members.size());
+    assertEquals("M", result.members.get(0).name);
+    assertEquals(null, result.members.get(1));
+    assertEquals("m", team.members.get(0).name);
+  }
+
+  @Test
+  void testTransform_unsupportedClass_fallsBackToTreeEngine() {
+    Immutable input = new Immutable("x");
+    Immutable transformed = new Immutable("X");
+    NodePlan plan = new NodePlan(Immutable.class, List.of(
+        direct("value", FieldTypeDescriptor.builder().clazz(String.class).build(),
+            new UpperOperator())));
+    when(treeTransformationEngine.transformValue(eq(input), any(), eq(plan)))
+        .thenReturn(transformed);
+
+    assertSame(transformed, engine.transform(input, plan));
+    verify(treeTransformationEngine).transformValue(eq(input), any(), eq(plan));
+  }
+
+  private static FieldPlan direct(String fieldName, FieldTypeDescriptor descriptor,
+      BaseOperator operator) {
+    return FieldPlan.builder().fieldName(fieldName).fieldTypeDescriptor(descriptor)
+        .operator(operator).build();
+  }
+
+  static class UpperOperator extends BaseOperator {
+
+    @Override
+    public JsonNode apply(JsonNode input, Class<?> inputClass) {
+      if (inputClass == int.class) {
+        return JsonNodeFactory.instance.nullNode();
+      }
+      return JsonNodeFactory.instance.textNode(input.asText().toUpperCase());
+    }
+  }
+
+  static class Person {
+
+    private String name;
+    private int age;
+    private List<String> tags;
+    private Map<String, Object> attributes;
+
+    Person() {
+    }
+
+    Person(String name, int age, List<String> tags, Map<String, Object> attributes) {
+      this.name = name;
+      this.age = age;
+      this.tags = tags;
+      this.attributes = attributes;
+    }
+  }
+
+  static class Team {
+
+    private Person lead;
+    private List<Person> members;
+
+    Team() {
+    }
+
+    Team(Person lead, List<Person> members) {
+      this.lead = lead;
+      this.members = members;
+    }
+  }
+
+  static class Immutable {
+
+    private final String value;
+
+    Immutable(String value) {
+      this.value = value;
+    }
+  }
+}
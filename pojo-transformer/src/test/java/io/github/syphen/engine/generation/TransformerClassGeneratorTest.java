@@ -0,0 +1,230 @@
+package io.github.syphen.engine.generation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.github.syphen.cache.PojoAccessorCache;
+import io.github.syphen.engine.execution.impl.AccessorTransformationEngine;
+import io.github.syphen.engine.execution.impl.TreeTransformationEngine;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransformerClassGeneratorTest {
+
+  private TransformerClassGenerator generator;
+  private NodePlan personPlan;
+
+  @BeforeEach
+  void setUp() {
+    PojoAccessorCache pojoAccessorCache = new PojoAccessorCache();
+    AccessorTransformationEngine engine = new AccessorTransformationEngine(pojoAccessorCache,
+        mock(TreeTransformationEngine.class));
+    generator = new TransformerClassGenerator(pojoAccessorCache, engine);
+    BaseOperator upper = new UpperOperator();
+    personPlan = new NodePlan(Person.class, List.of(
+        direct("name", FieldTypeDescriptor.builder().clazz(String.class).build(), upper),
+        direct("age", FieldTypeDescriptor.builder().clazz(int.class).build(), upper),
+        direct("tags", FieldTypeDescriptor.builder().clazz(List.class).genericType(String.class)
+            .build(), upper)));
+  }
+
+  @Test
+  void testGenerate_directFields_generatesHiddenClassApplyingOperators() {
+    GeneratedTransformer transformer = generator.generate(personPlan, plan -> null);
+    Person person = new Person("john", 41, List.of("a"), new Person("lead", 1, null, null));
+
+    Person result = (Person) transformer.transform(person);
+
+    assertTrue(transformer.getClass().isHidden());
+    assertNotSame(person, result);
+    assertEquals("JOHN", result.name);
+    assertEquals(42, result.age);
+    assertEquals(List.of("A"), result.tags);
+    assertSame(person.lead, result.lead);
+    assertEquals("john", person.name);
+    assertEquals(41, person.age);
+  }
+
+  @Test
+  void testGenerate_nestedField_usesResolvedNestedTransformer() {
+    NodePlan leadPlan = new NodePlan(Person.class, List.of(FieldPlan.builder()
+        .fieldName("lead")
+        .fieldTypeDescriptor(FieldTypeDescriptor.builder().clazz(Person.class).build())
+        .nestedPlan(personPlan)
+        .build()));
+    GeneratedTransformer nested = generator.generate(personPlan, plan -> null);
+    GeneratedTransformer transformer = generator.generate(leadPlan,
+        plan -> plan == personPlan ? nested : null);
+    Person person = new Person("john", 1, null, new Person("lead", 2, null, null));
+
+    Person result = (Person) transformer.transform(person);
+
+    assertEquals("john", result.name);
+    assertEquals("LEAD", result.lead.name);
+    assertEquals(3, result.lead.age);
+    assertEquals("lead", person.lead.name);
+  }
+
+  @Test
+  void testGenerate_classWithFinalField_isNotSupported() {
+    NodePlan plan = new NodePlan(Immutable.class, List.of(
+        direct("value", FieldTypeDescriptor.builder().clazz(String.class).build(),
+            new UpperOperator())));
+
+    assertNull(generator.generate(plan, nestedPlan -> null));
+    assertNotNull(generator.generate(personPlan, nestedPlan -> null));
+  }
+
+  @Test
+  void testGenerate_specializedOperator_callsHooksForStringAndPrimitiveFields() {
+    BaseOperator operator = new HookOperator();
+    NodePlan plan = new NodePlan(Scalars.class, List.of(
+        hook("text", String.class, ScalarType.TEXT, operator),
+        hook("absent", String.class, ScalarType.TEXT, operator),
+        hook("count", int.class, ScalarType.LONG, operator),
+        hook("total", long.class, ScalarType.LONG, operator),
+        hook("ratio", float.class, ScalarType.DOUBLE, operator),
+        hook("score", double.class, ScalarType.DOUBLE, operator),
+        hook("active", boolean.class, ScalarType.BOOLEAN, operator),
+        hook("boxed", Integer.class, ScalarType.LONG, operator),
+        FieldPlan.builder().fieldName("tags")
+            .fieldTypeDescriptor(FieldTypeDescriptor.builder().clazz(List.class)
+                .genericType(String.class).build())
+            .operator(operator).scalarType(ScalarType.TEXT).build()));
+    GeneratedTransformer transformer = generator.generate(plan, nestedPlan -> null);
+    Scalars scalars = new Scalars();
+    scalars.text = "john";
+    scalars.count = 41;
+    scalars.total = 5;
+    scalars.ratio = 1.5f;
+    scalars.score = 2.5;
+    scalars.active = true;
+    scalars.boxed = 7;
+    scalars.tags = Arrays.asList("a", null);
+
+    Scalars result = (Scalars) transformer.transform(scalars);
+
+    assertEquals("JOHN", result.text);
+    assertEquals("generic", result.absent);
+    assertEquals(42, result.count);
+    assertEquals(6L, result.total);
+    assertEquals(3.0f, result.ratio);
+    assertEquals(5.0, result.score);
+    assertEquals(false, result.active);
+    assertEquals(8, result.boxed);
+    assertEquals(Arrays.asList("A", "generic"), result.tags);
+  }
+
+  private static FieldPlan direct(String fieldName, FieldTypeDescriptor descriptor,
+      BaseOperator operator) {
+    return FieldPlan.builder().fieldName(fieldName).fieldTypeDescriptor(descriptor)
+        .operator(operator).build();
+  }
+
+  private static FieldPlan hook(String fieldName, Class<?> type, ScalarType scalarType,
+      BaseOperator operator) {
+    return FieldPlan.builder().fieldName(fieldName)
+        .fieldTypeDescriptor(FieldTypeDescriptor.builder().clazz(type).build())
+        .operator(operator).scalarType(scalarType).build();
+  }
+
+  /**
+   * Returns {@code generic} for text and adds one to numbers through the generic method, so the
+   * tests can tell which path was taken.
+   */
+  static class HookOperator extends BaseOperator {
+
+    @Override
+    public JsonNode apply(JsonNode input, Class<?> inputClass) {
+      if (input.isNumber()) {
+        return JsonNodeFactory.instance.numberNode(input.asInt() + 1);
+      }
+      return JsonNodeFactory.instance.textNode("generic");
+    }
+
+    @Override
+    public CharSequence applyText(CharSequence input) {
+      return input.toString().toUpperCase();
+    }
+
+    @Override
+    public long applyLong(long input) {
+      return input + 1;
+    }
+
+    @Override
+    public double applyDouble(double input) {
+      return input * 2;
+    }
+
+    @Override
+    public boolean applyBoolean(boolean input) {
+      return !input;
+    }
+  }
+
+  static class UpperOperator extends BaseOperator {
+
+    @Override
+    public JsonNode apply(JsonNode input, Class<?> inputClass) {
+      if (inputClass == int.class) {
+        return JsonNodeFactory.instance.numberNode(input.asInt() + 1);
+      }
+      return JsonNodeFactory.instance.textNode(input.asText().toUpperCase());
+    }
+  }
+
+  static class Person {
+
+    private String name;
+    private int age;
+    private List<String> tags;
+    private Person lead;
+
+    private Person() {
+    }
+
+    Person(String name, int age, List<String> tags, Person lead) {
+      this.name = name;
+      this.age = age;
+      this.tags = tags;
+      this.lead = lead;
+    }
+  }
+
+  static class Scalars {
+
+    private String text;
+    private String absent;
+    private int count;
+    private long total;
+    private float ratio;
+    private double score;
+    private boolean active;
+    private Integer boxed;
+    private List<String> tags;
+  }
+
+  static class Immutable {
+
+    private final String value;
+
+    Immutable() {
+      this.value = null;
+    }
+  }
+}
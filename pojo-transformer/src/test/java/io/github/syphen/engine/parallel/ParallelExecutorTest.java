@@ -0,0 +1,107 @@
+package io.github.syphen.engine.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.syphen.config.ParallelConfig;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ParallelExecutor Unit Tests")
+class ParallelExecutorTest {
+
+  private ForkJoinPool pool;
+  private ParallelExecutor parallelExecutor;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+    parallelExecutor = ParallelExecutor.of(ParallelConfig.builder()
+        .enabled(true)
+        .pool(pool)
+        .threshold(16)
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Every index is processed exactly once on the configured pool")
+  void testForEachIndex_processesEveryIndexOnce() {
+    AtomicIntegerArray calls = new AtomicIntegerArray(10_000);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    parallelExecutor.forEachIndex(calls.length(), index -> {
+      calls.incrementAndGet(index);
+      threads.add(Thread.currentThread());
+    });
+
+    for (int i = 0; i < calls.length(); i++) {
+      assertEquals(1, calls.get(i));
+    }
+    assertTrue(threads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+  }
+
+  @Test
+  @DisplayName("Small ranges run sequentially in the calling thread")
+  void testForEachIndex_runsSmallRangesInCallingThread() {
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    parallelExecutor.forEachIndex(15, index -> threads.add(Thread.currentThread()));
+
+    assertEquals(Set.of(Thread.currentThread()), threads);
+    assertFalse(parallelExecutor.shouldSplit(15));
+    assertTrue(parallelExecutor.shouldSplit(16));
+  }
+
+  @Test
+  @DisplayName("Nested calls from a pool worker reuse the running computation")
+  void testForEachIndex_supportsNestedCalls() {
+    AtomicIntegerArray calls = new AtomicIntegerArray(64 * 64);
+
+    parallelExecutor.forEachIndex(64, outer -> parallelExecutor.forEachIndex(64,
+        inner -> calls.incrementAndGet(outer * 64 + inner)));
+
+    for (int i = 0; i < calls.length(); i++) {
+      assertEquals(1, calls.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("All actions complete and failures are propagated to the caller")
+  void testInvokeAll_runsAllActionsAndPropagatesFailures() {
+    AtomicIntegerArray calls = new AtomicIntegerArray(3);
+
+    parallelExecutor.invokeAll(List.of(() -> calls.incrementAndGet(0),
+        () -> calls.incrementAndGet(1), () -> calls.incrementAndGet(2)));
+
+    assertEquals("[1, 1, 1]", calls.toString());
+    assertThrows(IllegalStateException.class, () -> parallelExecutor.invokeAll(List.of(
+        () -> { }, () -> {
+          throw new IllegalStateException("failure");
+        })));
+  }
+
+  @Test
+  @DisplayName("Disabled configuration yields the sequential executor")
+  void testOf_returnsSequentialExecutor_whenDisabled() {
+    ParallelExecutor executor = ParallelExecutor.of(ParallelConfig.disabled());
+
+    assertSame(ParallelExecutor.sequential(), executor);
+    assertFalse(executor.isEnabled());
+    assertFalse(executor.shouldSplit(Integer.MAX_VALUE - 1));
+  }
+}
@@ -0,0 +1,169 @@
+package io.github.syphen.engine.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.engine.strategy.impl.DirectValueTransformationStrategy;
+import io.github.syphen.engine.strategy.impl.NestedNodeTransformationStrategy;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.factory.OperatorRegistry;
+import io.github.syphen.factory.StrategySelector;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.operator.BaseOperator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PlanCompilerTest {
+
+  private BaseOperator maskOperator;
+  private BaseOperator upperOperator;
+  private DirectValueTransformationStrategy directStrategy;
+  private NestedNodeTransformationStrategy nestedStrategy;
+  private PlanCompiler planCompiler;
+
+  @BeforeEach
+  void setUp() {
+    maskOperator = mock(BaseOperator.class);
+    upperOperator = mock(BaseOperator.class);
+    OperatorRegistry operatorRegistry = mock(OperatorRegistry.class);
+    when(operatorRegistry.getOperator("MASK")).thenReturn(maskOperator);
+    when(operatorRegistry.getOperator("UPPER")).thenReturn(upperOperator);
+    directStrategy = new DirectValueTransformationStrategy(operatorRegistry);
+    nestedStrategy = new NestedNodeTransformationStrategy(null);
+    planCompiler = new PlanCompiler(new PojoSchemaCache(),
+        new StrategySelector(directStrategy, nestedStrategy));
+  }
+
+  @Test
+  void testCompile_transformAllFields_resolvesDirectStepsWithoutSkippedFields() {
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("root").transformAllFields(true)
+            .skipFields(new NodeContext[]{NodeContext.builder().fieldName("age").build()})
+            .build())
+        .build();
+
+    TransformationPlan plan = planCompiler.compile(Person.class, context);
+
+    Map<String, FieldPlan> steps = plan.getRootPlan().getFieldPlans().stream()
+        .collect(Collectors.toMap(FieldPlan::getFieldName, step -> step));
+    assertEquals(2, steps.size());
+    assertSame(directStrategy, steps.get("name").getStrategy());
+    assertSame(maskOperator, steps.get("name").getOperator());
+    assertSame(maskOperator, steps.get("tags").getOperator());
+    assertTrue(steps.get("tags").getFieldTypeDescriptor().isCollection());
+  }
+
+  @Test
+  void testCompile_nestedCollectionField_compilesPlanOfElementType() {
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("members").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("name").operateType("UPPER").build()})
+                    .build()})
+            .build())
+        .build();
+
+    TransformationPlan plan = planCompiler.compile(Team.class, context);
+
+    List<FieldPlan> steps = plan.getRootPlan().getFieldPlans();
+    assertEquals(1, steps.size());
+    FieldPlan members = steps.get(0);
+    assertSame(nestedStrategy, members.getStrategy());
+    assertNull(members.getOperator());
+    assertEquals(Person.class, members.getNestedPlan().getPojoClass());
+    FieldPlan name = members.getNestedPlan().getFieldPlans().get(0);
+    assertEquals("name", name.getFieldName());
+    assertSame(upperOperator, name.getOperator());
+  }
+
+  @Test
+  void testCompile_emptyNestedPlan_isDropped() {
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("members").transformAllFields(true)
+                    .skipFields(new NodeContext[]{
+                        NodeContext.builder().fieldName("name").build(),
+                        NodeContext.builder().fieldName("age").build(),
+                        NodeContext.builder().fieldName("tags").build()})
+                    .build()})
+            .build())
+        .build();
+
+    assertTrue(planCompiler.compile(Team.class, context).isEmpty());
+  }
+
+  @Test
+  void testCompile_invalidContext_returnsEmptyPlan() {
+    TransformationContext context = TransformationContext.builder().defaultOperatorType("MASK")
+        .build();
+
+    assertTrue(planCompiler.compile(Person.class, context).isEmpty());
+  }
+
+  @Test
+  void testCompile_unknownField_throwsFieldNotExist() {
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{NodeContext.builder().fieldName("email").build()})
+            .build())
+        .build();
+
+    DataTransformationException ex = assertThrows(DataTransformationException.class,
+        () -> planCompiler.compile(Person.class, context));
+    assertEquals(ErrorCode.FIELD_NOT_EXIST.name(), ex.getCode());
+  }
+
+  @Test
+  void testCompile_unknownNestedOperator_throwsBeforeAnyValueIsTransformed() {
+    PlanCompiler compiler = new PlanCompiler(new PojoSchemaCache(), new StrategySelector(
+        new DirectValueTransformationStrategy(new OperatorRegistry(Map.of("MASK", maskOperator))),
+        nestedStrategy));
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("members").transformFields(new NodeContext[]{
+                    NodeContext.builder().fieldName("name").build(),
+                    NodeContext.builder().fieldName("tags").operateType("HASH").build()})
+                    .build()})
+            .build())
+        .build();
+
+    DataTransformationException ex = assertThrows(DataTransformationException.class,
+        () -> compiler.compile(Team.class, context));
+    assertEquals(ErrorCode.OPERATOR_NULL_ERROR.name(), ex.getCode());
+    verify(maskOperator, never()).apply(any(), any());
+  }
+
+  static class Person {
+
+    private String name;
+    private int age;
+    private List<String> tags;
+  }
+
+  static class Team {
+
+    private List<Person> members;
+  }
+}
@@ -0,0 +1,131 @@
+package io.github.syphen.engine.plan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.syphen.cache.PojoSchemaCache;
+import io.github.syphen.engine.strategy.impl.DirectValueTransformationStrategy;
+import io.github.syphen.engine.strategy.impl.NestedNodeTransformationStrategy;
+import io.github.syphen.factory.OperatorRegistry;
+import io.github.syphen.factory.StrategySelector;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.operator.BaseOperator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PlanExplainerTest {
+
+  private PlanCompiler planCompiler;
+
+  @BeforeEach
+  void setUp() {
+    OperatorRegistry operatorRegistry = mock(OperatorRegistry.class);
+    when(operatorRegistry.getOperator("MASK")).thenReturn(mock(BaseOperator.class));
+    when(operatorRegistry.getOperator("HASH")).thenReturn(mock(BaseOperator.class));
+    planCompiler = new PlanCompiler(new PojoSchemaCache(), new StrategySelector(
+        new DirectValueTransformationStrategy(operatorRegistry),
+        new NestedNodeTransformationStrategy(null)));
+  }
+
+  @Test
+  void testExplain_resolvesFieldsStrategiesAndOperators() {
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("team")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("name").operateType("HASH").build(),
+                NodeContext.builder().fieldName("members").transformAllFields(true)
+                    .skipFields(new NodeContext[]{NodeContext.builder().fieldName("age").build()})
+                    .build()})
+            .build())
+        .build();
+
+    PlanExplanation explanation = PlanExplainer.explain(planCompiler.compile(Team.class, context),
+        10);
+
+    assertEquals(Team.class, explanation.getRootClass());
+    assertEquals(4, explanation.getStepCount());
+    List<FieldExplanation> fields = explanation.getRoot().getFields();
+    assertEquals(List.of("team.name", "team.members[*]"),
+        fields.stream().map(FieldExplanation::getPath).toList());
+    assertEquals("DirectValueTransformationStrategy", fields.get(0).getStrategy());
+    assertEquals("HASH", fields.get(0).getOperatorKey());
+    assertNull(fields.get(0).getNested());
+
+    FieldExplanation members = fields.get(1);
+    assertTrue(members.isCollection());
+    assertEquals(Person.class, members.getFieldType());
+    assertEquals("NestedNodeTransformationStrategy", members.getStrategy());
+    assertNull(members.getOperatorKey());
+    NodeExplanation person = members.getNested();
+    assertEquals(3, person.getDeclaredFieldCount());
+    assertEquals(List.of("team.members[*].name", "team.members[*].tags[*]"),
+        person.getFields().stream().map(FieldExplanation::getPath).toList());
+    assertEquals("MASK", person.getFields().get(1).getOperatorKey());
+  }
+
+  @Test
+  void testExplain_estimatesCostWithCollectionCardinality() {
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("MASK")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{
+                NodeContext.builder().fieldName("name").build(),
+                NodeContext.builder().fieldName("members").transformAllFields(true).build()})
+            .build())
+        .build();
+
+    PlanExplanation explanation = PlanExplainer.explain(planCompiler.compile(Team.class, context),
+        5);
+
+    // name: 1, members: 5 * (name 1 + age 1 + tags 5)
+    assertEquals(36, explanation.getEstimatedOperatorCalls());
+    assertEquals(6, explanation.getEstimatedNodes());
+    assertEquals(35, explanation.getRoot().getFields().get(1).getEstimatedOperatorCalls());
+    assertThat(explanation.toString())
+        .startsWith("Team: 36 operator calls, 6 nodes per object (collections of 5 elements)")
+        .contains("  root.members[*] (Person, 3 of 3 fields) NestedNodeTransformationStrategy: "
+            + "35 operator calls")
+        .contains("    root.members[*].tags[*] (String) DirectValueTransformationStrategy -> "
+            + "MASK: 5 operator calls");
+  }
+
+  @Test
+  void testExplain_emptyPlan_costsNothing() {
+    PlanExplanation explanation = PlanExplainer.explain(
+        new TransformationPlan(Team.class, null, NodePlan.empty(Team.class)), 10);
+
+    assertTrue(explanation.getRoot().getFields().isEmpty());
+    assertEquals(0, explanation.getEstimatedOperatorCalls());
+    assertEquals(1, explanation.getEstimatedNodes());
+    assertEquals("Team: 0 operator calls, 1 nodes per object (collections of 10 elements)",
+        explanation.toString());
+  }
+
+  @Test
+  void testExplain_negativeCollectionSize_throws() {
+    TransformationPlan plan = new TransformationPlan(Team.class, null, NodePlan.empty(Team.class));
+
+    assertThrows(IllegalArgumentException.class, () -> PlanExplainer.explain(plan, -1));
+  }
+
+  static class Person {
+
+    private String name;
+    private int age;
+    private List<String> tags;
+  }
+
+  static class Team {
+
+    private String name;
+    private List<Person> members;
+  }
+}
@@ -10,8 +10,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.config.ParallelConfig;
 import io.github.syphen.engine.delegate.NodeTransformer;
-import io.github.syphen.model.TransformationContext;
+import io.github.syphen.engine.parallel.ParallelExecutor;
+import io.github.syphen.engine.plan.NodePlan;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,13 +22,13 @@ class JsonArrayProcessorTest {
 
   private NodeTransformer nodeTransformer;
   private JsonArrayProcessor jsonArrayProcessor;
-  private TransformationContext transformationContext;
+  private NodePlan nodePlan;
   private ObjectMapper objectMapper;
 
   @BeforeEach
   void setUp() {
     nodeTransformer = mock(NodeTransformer.class);
-    transformationContext = mock(TransformationContext.class);
+    nodePlan = NodePlan.empty(DummyPojo.class);
     jsonArrayProcessor = new JsonArrayProcessor(nodeTransformer);
     objectMapper = new ObjectMapper();
   }
@@ -40,11 +43,11 @@ class JsonArrayProcessorTest {
     arrayNode.add(object2);
 
     // When
-    jsonArrayProcessor.transform(arrayNode, DummyPojo.class, transformationContext);
+    jsonArrayProcessor.transform(arrayNode, nodePlan);
 
     // Then
     verify(nodeTransformer, times(2))
-        .applyTransformations(any(JsonNode.class), eq(DummyPojo.class), eq(transformationContext));
+        .applyPlan(any(JsonNode.class), eq(nodePlan));
   }
 
   @Test
@@ -56,11 +59,36 @@ class JsonArrayProcessorTest {
     arrayNode.add(objectMapper.createObjectNode()); // valid object
 
     // When
-    jsonArrayProcessor.transform(arrayNode, DummyPojo.class, transformationContext);
+    jsonArrayProcessor.transform(arrayNode, nodePlan);
 
     // Then: only one valid transformation
     verify(nodeTransformer, times(1))
-        .applyTransformations(any(JsonNode.class), eq(DummyPojo.class), eq(transformationContext));
+        .applyPlan(any(JsonNode.class), eq(nodePlan));
+  }
+
+  @Test
+  void testTransformPlan_withLargeArrayAndParallelExecutor_shouldApplyPlanToEveryObject() {
+    // Given
+    ForkJoinPool pool = new ForkJoinPool(4);
+    ParallelExecutor parallelExecutor = ParallelExecutor.of(ParallelConfig.builder()
+        .enabled(true).pool(pool).threshold(8).build());
+    JsonArrayProcessor parallelProcessor = new JsonArrayProcessor(nodeTransformer,
+        parallelExecutor);
+    ArrayNode arrayNode = objectMapper.createArrayNode();
+    for (int i = 0; i < 100; i++) {
+      arrayNode.add(objectMapper.createObjectNode().put("index", i));
+    }
+    arrayNode.addNull();
+
+    // When
+    parallelProcessor.transform(arrayNode, nodePlan);
+    pool.shutdown();
+
+    // Then
+    for (int i = 0; i < 100; i++) {
+      verify(nodeTransformer).applyPlan(arrayNode.get(i), nodePlan);
+    }
+    verify(nodeTransformer, times(100)).applyPlan(any(JsonNode.class), eq(nodePlan));
   }
 
   // Dummy POJO class for the test
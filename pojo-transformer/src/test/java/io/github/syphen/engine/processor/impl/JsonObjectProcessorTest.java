@@ -0,0 +1,68 @@
+package io.github.syphen.engine.processor.impl;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.strategy.FieldTransformationStrategy;
+import io.github.syphen.model.FieldTypeDescriptor;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class JsonObjectProcessorTest {
+
+  private static final Class<DummyPojo> POJO_CLASS = DummyPojo.class;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JsonObjectProcessor jsonObjectProcessor = new JsonObjectProcessor();
+
+  @Test
+  void testTransform_executesEveryStepInOrder() {
+    // Given
+    ObjectNode node = objectMapper.createObjectNode();
+    node.put("name", "John");
+    node.put("age", 42);
+    FieldTransformationStrategy strategy = mock(FieldTransformationStrategy.class);
+    FieldPlan nameStep = step("name", strategy);
+    FieldPlan ageStep = step("age", strategy);
+
+    // When
+    jsonObjectProcessor.transform(node, new NodePlan(POJO_CLASS, List.of(nameStep, ageStep)));
+
+    // Then
+    InOrder inOrder = inOrder(strategy);
+    inOrder.verify(strategy).execute(node, nameStep);
+    inOrder.verify(strategy).execute(node, ageStep);
+  }
+
+  @Test
+  void testTransform_doesNothing_whenPlanEmpty() {
+    // Given
+    ObjectNode node = objectMapper.createObjectNode();
+    FieldTransformationStrategy strategy = mock(FieldTransformationStrategy.class);
+
+    // When
+    jsonObjectProcessor.transform(node, NodePlan.empty(POJO_CLASS));
+
+    // Then
+    verifyNoInteractions(strategy);
+  }
+
+  private static FieldPlan step(String fieldName, FieldTransformationStrategy strategy) {
+    return FieldPlan.builder()
+        .fieldName(fieldName)
+        .fieldTypeDescriptor(FieldTypeDescriptor.builder().build())
+        .strategy(strategy)
+        .build();
+  }
+
+  public static class DummyPojo {
+
+    private String name;
+    private int age;
+  }
+}
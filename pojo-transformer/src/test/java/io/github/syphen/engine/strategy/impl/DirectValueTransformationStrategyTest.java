@@ -36,7 +36,7 @@ class DirectValueTransformationStrategyTest {
   }
 
   @Test
-  void testProcess_singleValueField_transformsCorrectly() {
+  void testExecute_singleValueField_transformsCorrectly() {
     // Given
     String fieldName = "name";
     JsonNode inputValue = JsonNodeFactory.instance.textNode("raw");
@@ -57,7 +57,7 @@ class DirectValueTransformationStrategyTest {
     when(operator.apply(inputValue, String.class)).thenReturn(transformedValue);
 
     // When
-    strategy.process(parentNode, context, descriptor);
+    strategy.execute(parentNode, strategy.compile(context, descriptor, null));
 
     // Then
     assertEquals(transformedValue, parentNode.get(fieldName));
@@ -65,7 +65,7 @@ class DirectValueTransformationStrategyTest {
   }
 
   @Test
-  void testProcess_arrayField_transformsEachElement() {
+  void testExecute_arrayField_transformsEachElement() {
     String fieldName = "tags";
     ArrayNode array = JsonNodeFactory.instance.arrayNode()
         .add("one")
@@ -93,7 +93,7 @@ class DirectValueTransformationStrategyTest {
     when(operator.apply(element1, String.class)).thenReturn(transformed1);
     when(operator.apply(element2, String.class)).thenReturn(transformed2);
 
-    strategy.process(parentNode, context, descriptor);
+    strategy.execute(parentNode, strategy.compile(context, descriptor, null));
 
     assertEquals(transformed1, array.get(0));
     assertEquals(transformed2, array.get(1));
@@ -104,7 +104,7 @@ class DirectValueTransformationStrategyTest {
 
 
   @Test
-  void testProcess_arrayField_withNonArrayValue_doesNothing() {
+  void testExecute_arrayField_withNonArrayValue_doesNothing() {
     // Given
     String fieldName = "invalidArray";
     parentNode.set(fieldName, JsonNodeFactory.instance.textNode("not-an-array"));
@@ -122,7 +122,7 @@ class DirectValueTransformationStrategyTest {
     when(operatorRegistry.getOperator("OP")).thenReturn(operator);
 
     // When
-    strategy.process(parentNode, context, descriptor);
+    strategy.execute(parentNode, strategy.compile(context, descriptor, null));
 
     // Then
     verify(operator, never()).apply(any(), any());
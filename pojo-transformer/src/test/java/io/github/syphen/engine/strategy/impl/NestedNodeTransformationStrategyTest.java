@@ -1,12 +1,17 @@
 package io.github.syphen.engine.strategy.impl;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.syphen.engine.delegate.NodeTransformer;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.engine.plan.PlanCompiler;
 import io.github.syphen.model.FieldTypeDescriptor;
 import io.github.syphen.model.NodeContext;
 import io.github.syphen.model.TransformationContext;
@@ -25,7 +30,7 @@ class NestedNodeTransformationStrategyTest {
   }
 
   @Test
-  void testProcess_invokesNodeTransformerCorrectly() {
+  void testCompileAndExecute_invokesNodeTransformerWithNestedPlan() {
     // Arrange
     ObjectNode parentNode = JsonNodeFactory.instance.objectNode();
     JsonNode childNode = JsonNodeFactory.instance.objectNode(); // simulate nested object
@@ -46,10 +51,16 @@ class NestedNodeTransformationStrategyTest {
         .clazz(fieldClass)
         .build();
 
+    PlanCompiler planCompiler = mock(PlanCompiler.class);
+    NodePlan nestedPlan = NodePlan.empty(fieldClass);
+    when(planCompiler.compileNode(fieldClass, transformationContext)).thenReturn(nestedPlan);
+
     // Act
-    strategy.process(parentNode, transformationContext, descriptor);
+    FieldPlan fieldPlan = strategy.compile(transformationContext, descriptor, planCompiler);
+    strategy.execute(parentNode, fieldPlan);
 
     // Assert
-    verify(mockTransformer).applyTransformations(childNode, fieldClass, transformationContext);
+    assertSame(nestedPlan, fieldPlan.getNestedPlan());
+    verify(mockTransformer).applyPlan(childNode, nestedPlan);
   }
 }
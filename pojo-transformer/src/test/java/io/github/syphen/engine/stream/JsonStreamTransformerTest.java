@@ -0,0 +1,182 @@
+package io.github.syphen.engine.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.github.syphen.engine.plan.FieldPlan;
+import io.github.syphen.engine.plan.NodePlan;
+import io.github.syphen.model.FieldTypeDescriptor;
+import io.github.syphen.operator.BaseOperator;
+import io.github.syphen.operator.ScalarType;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamTransformerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private JsonStreamTransformer jsonStreamTransformer;
+  private NodePlan personPlan;
+
+  @BeforeEach
+  void setUp() {
+    jsonStreamTransformer = new JsonStreamTransformer();
+    BaseOperator upper = new UpperOperator();
+    personPlan = new NodePlan(Person.class, List.of(
+        direct("name", FieldTypeDescriptor.builder().clazz(String.class).build(), upper),
+        direct("tags", FieldTypeDescriptor.builder().clazz(List.class).genericType(String.class)
+            .build(), upper)));
+  }
+
+  @Test
+  void testTransform_directFields_appliesOperatorAndCopiesOthers() throws Exception {
+    String json = "{\"name\":\"john\",\"age\":30,\"tags\":[\"a\",\"b\"],\"extra\":{\"x\":[1]}}";
+
+    JsonNode result = transform(json, personPlan);
+
+    assertEquals(objectMapper.readTree(
+            "{\"name\":\"JOHN\",\"age\":30,\"tags\":[\"A\",\"B\"],\"extra\":{\"x\":[1]}}"),
+        result);
+  }
+
+  @Test
+  void testTransform_nestedArrayOfObjects_appliesNestedPlanToEachObject() throws Exception {
+    NodePlan teamPlan = new NodePlan(Team.class, List.of(FieldPlan.builder()
+        .fieldName("members")
+        .fieldTypeDescriptor(FieldTypeDescriptor.builder().clazz(List.class)
+            .genericType(Person.class).build())
+        .nestedPlan(personPlan)
+        .build()));
+    String json = "{\"members\":[{\"name\":\"a\",\"tags\":null},\"skip\",null,{\"name\":\"b\"}]}";
+
+    JsonNode result = transform(json, teamPlan);
+
+    assertEquals(objectMapper.readTree(
+            "{\"members\":[{\"name\":\"A\",\"tags\":null},\"skip\",null,{\"name\":\"B\"}]}"),
+        result);
+  }
+
+  @Test
+  void testTransform_absentDirectField_isWrittenWithOperatorResult() throws Exception {
+    JsonNode result = transform("{\"age\":1}", personPlan);
+
+    assertEquals(objectMapper.readTree("{\"age\":1,\"name\":\"<null>\"}"), result);
+  }
+
+  @Test
+  void testTransform_withoutPlan_copiesDocument() throws Exception {
+    String json = "{\"name\":\"john\",\"tags\":[\"a\"]}";
+
+    assertEquals(objectMapper.readTree(json), transform(json, null));
+  }
+
+  private JsonNode transform(String json, NodePlan plan) throws Exception {
+    StringWriter writer = new StringWriter();
+    try (JsonParser parser = objectMapper.getFactory().createParser(json);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+      jsonStreamTransformer.transform(parser, generator, plan);
+    }
+    return objectMapper.readTree(writer.toString());
+  }
+
+  @Test
+  void testTransform_specializedOperator_passesMatchingTokensToHooks() throws Exception {
+    BaseOperator operator = new HookOperator();
+    NodePlan plan = new NodePlan(Scalars.class, List.of(
+        hook("text", FieldTypeDescriptor.builder().clazz(String.class).build(), ScalarType.TEXT,
+            operator),
+        hook("count", FieldTypeDescriptor.builder().clazz(long.class).build(), ScalarType.LONG,
+            operator),
+        hook("score", FieldTypeDescriptor.builder().clazz(double.class).build(),
+            ScalarType.DOUBLE, operator),
+        hook("active", FieldTypeDescriptor.builder().clazz(boolean.class).build(),
+            ScalarType.BOOLEAN, operator),
+        hook("tags", FieldTypeDescriptor.builder().clazz(List.class).genericType(String.class)
+            .build(), ScalarType.TEXT, operator)));
+    String json = "{\"text\":\"john\",\"count\":41,\"score\":1,\"active\":true,"
+        + "\"tags\":[\"a\",null,3]}";
+
+    JsonNode result = transform(json, plan);
+
+    // the integer score and the null and number tags are not of their hook's type
+    assertEquals(objectMapper.readTree("{\"text\":\"JOHN\",\"count\":42,\"score\":\"generic\","
+        + "\"active\":false,\"tags\":[\"A\",\"generic\",\"generic\"]}"), result);
+  }
+
+  private static FieldPlan hook(String fieldName, FieldTypeDescriptor descriptor,
+      ScalarType scalarType, BaseOperator operator) {
+    return FieldPlan.builder().fieldName(fieldName).fieldTypeDescriptor(descriptor)
+        .operator(operator).scalarType(scalarType).build();
+  }
+
+  private static FieldPlan direct(String fieldName, FieldTypeDescriptor descriptor,
+      BaseOperator operator) {
+    return FieldPlan.builder().fieldName(fieldName).fieldTypeDescriptor(descriptor)
+        .operator(operator).build();
+  }
+
+  static class UpperOperator extends BaseOperator {
+
+    @Override
+    public JsonNode apply(JsonNode input, Class<?> inputClass) {
+      if (input == null || input.isNull()) {
+        return JsonNodeFactory.instance.textNode("<null>");
+      }
+      return JsonNodeFactory.instance.textNode(input.asText().toUpperCase());
+    }
+  }
+
+  static class HookOperator extends BaseOperator {
+
+    @Override
+    public JsonNode apply(JsonNode input, Class<?> inputClass) {
+      return JsonNodeFactory.instance.textNode("generic");
+    }
+
+    @Override
+    public CharSequence applyText(CharSequence input) {
+      return input.toString().toUpperCase();
+    }
+
+    @Override
+    public long applyLong(long input) {
+      return input + 1;
+    }
+
+    @Override
+    public double applyDouble(double input) {
+      return input * 2;
+    }
+
+    @Override
+    public boolean applyBoolean(boolean input) {
+      return !input;
+    }
+  }
+
+  static class Scalars {
+
+    private String text;
+    private long count;
+    private double score;
+    private boolean active;
+    private List<String> tags;
+  }
+
+  static class Person {
+
+    private String name;
+    private int age;
+    private List<String> tags;
+  }
+
+  static class Team {
+
+    private List<Person> members;
+  }
+}
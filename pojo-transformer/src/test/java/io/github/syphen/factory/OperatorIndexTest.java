@@ -0,0 +1,76 @@
+package io.github.syphen.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.syphen.test.MaskOperator;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OperatorIndexTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testLoad_listedClasses_skipsCommentsAndMissingClasses() throws IOException {
+    try (URLClassLoader classLoader = indexClassLoader(
+        "# generated\n\n" + MaskOperator.class.getName() + "\nsample.MissingOperator\n")) {
+      Optional<Set<Class<?>>> classes = OperatorIndex.load(classLoader, List.of());
+
+      assertEquals(Optional.of(Set.of(MaskOperator.class)), classes);
+    }
+  }
+
+  @Test
+  void testLoad_packages_keepsClassesOfPackagesAndSubPackages() throws IOException {
+    try (URLClassLoader classLoader = indexClassLoader(MaskOperator.class.getName() + "\n")) {
+      assertEquals(Set.of(MaskOperator.class),
+          OperatorIndex.load(classLoader, List.of("io.github.syphen")).orElseThrow());
+      assertTrue(OperatorIndex.load(classLoader, List.of("io.github.syphen.te")).orElseThrow()
+          .isEmpty());
+    }
+  }
+
+  @Test
+  void testLoad_noIndex_returnsEmpty() throws IOException {
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[]{tempDir.toUri().toURL()}, null)) {
+      assertEquals(Optional.empty(), OperatorIndex.load(classLoader, List.of()));
+    }
+  }
+
+  @Test
+  void testIndexedEntries_returnsEntriesHoldingAnIndex() throws IOException {
+    try (URLClassLoader classLoader = indexClassLoader(MaskOperator.class.getName() + "\n")) {
+      assertEquals(Set.of(OperatorIndex.entryOf(tempDir.toUri().toURL())),
+          OperatorIndex.indexedEntries(classLoader));
+    }
+  }
+
+  @Test
+  void testEntryOf_indexJarRootAndClassPathElement_compareEqual() throws IOException {
+    assertEquals("file:/app/lib.jar",
+        OperatorIndex.entryOf(new URL("jar:file:/app/lib.jar!/" + OperatorIndex.RESOURCE)));
+    assertEquals("file:/app/lib.jar", OperatorIndex.entryOf(new URL("jar:file:/app/lib.jar!/")));
+    assertEquals("file:/app/lib.jar", OperatorIndex.entryOf(new URL("file:/app/lib.jar")));
+    assertEquals("file:/app/classes",
+        OperatorIndex.entryOf(new URL("file:/app/classes/" + OperatorIndex.RESOURCE)));
+    assertEquals("file:/app/classes", OperatorIndex.entryOf(new URL("file:/app/classes/")));
+  }
+
+  private URLClassLoader indexClassLoader(String index) throws IOException {
+    Path file = tempDir.resolve(OperatorIndex.RESOURCE);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, index);
+    return new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, getClass().getClassLoader());
+  }
+}
@@ -0,0 +1,301 @@
+package io.github.syphen.flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TransformationProcessor Unit Tests")
+class TransformationProcessorTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Parallel transformations are delivered in the order the items were received")
+  void testProcessor_keepsOrderWithParallelTransformations() throws InterruptedException {
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+    TransformationProcessor<Integer, String> processor = new TransformationProcessor<>(item -> {
+      maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+      sleep(ThreadLocalRandom.current().nextInt(3));
+      active.decrementAndGet();
+      return "item-" + item;
+    }, executor, 4, 8);
+    TestPublisher publisher = new TestPublisher();
+    TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    publisher.emit(200, 5_000);
+    publisher.complete();
+
+    assertTrue(subscriber.await());
+    assertEquals(IntStream.range(0, 200).mapToObj(i -> "item-" + i).toList(), subscriber.items);
+    assertNull(subscriber.error);
+    assertThat(maxActive.get()).isBetween(1, 4);
+  }
+
+  @Test
+  @DisplayName("Upstream is never asked for more than the buffer ahead of downstream demand")
+  void testProcessor_boundsUpstreamDemandByBufferSize() throws InterruptedException {
+    TransformationProcessor<Integer, Integer> processor = new TransformationProcessor<>(
+        item -> item * 2, Runnable::run, 2, 5);
+    TestPublisher publisher = new TestPublisher();
+    TestSubscriber subscriber = new TestSubscriber(0);
+    publisher.subscribe(processor);
+
+    assertEquals(0, publisher.requested.get());
+
+    processor.subscribe(subscriber);
+    publisher.emit(100, 0);
+
+    assertEquals(5, publisher.requested.get());
+    assertEquals(5, publisher.emitted);
+    assertThat(subscriber.items).isEmpty();
+
+    subscriber.request(3);
+    publisher.emit(100, 0);
+
+    assertEquals(List.of(0, 2, 4), subscriber.items);
+    assertEquals(8, publisher.requested.get());
+    assertEquals(8, publisher.emitted);
+
+    subscriber.request(Long.MAX_VALUE);
+    publisher.emit(10, 0);
+    publisher.complete();
+
+    assertTrue(subscriber.await());
+    assertEquals(IntStream.range(0, 10).map(i -> i * 2).boxed().toList(), subscriber.items);
+  }
+
+  @Test
+  @DisplayName("A failed transformation cancels upstream after delivering the earlier items")
+  void testProcessor_signalsTransformationErrorAfterEarlierItems()
+      throws InterruptedException {
+    IllegalStateException failure = new IllegalStateException("bad item");
+    TransformationProcessor<Integer, Integer> processor = new TransformationProcessor<>(item -> {
+      if (item == 3) {
+        throw failure;
+      }
+      return item;
+    }, executor, 4, 16);
+    TestPublisher publisher = new TestPublisher();
+    TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    publisher.emit(10, 5_000);
+
+    assertTrue(subscriber.await());
+    assertEquals(List.of(0, 1, 2), subscriber.items);
+    assertEquals(failure, subscriber.error);
+    assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  @DisplayName("An upstream error is delivered after the pending items")
+  void testProcessor_forwardsUpstreamErrorAfterPendingItems() throws InterruptedException {
+    TransformationProcessor<Integer, Integer> processor = new TransformationProcessor<>(
+        item -> item + 1, executor, 2, 4);
+    TestPublisher publisher = new TestPublisher();
+    TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    RuntimeException failure = new RuntimeException("source failed");
+
+    publisher.emit(3, 5_000);
+    processor.onError(failure);
+
+    assertTrue(subscriber.await());
+    assertEquals(List.of(1, 2, 3), subscriber.items);
+    assertEquals(failure, subscriber.error);
+  }
+
+  @Test
+  @DisplayName("Cancelling downstream cancels upstream and stops delivery")
+  void testProcessor_cancelStopsDelivery() {
+    TransformationProcessor<Integer, Integer> processor = new TransformationProcessor<>(
+        item -> item, Runnable::run, 1, 4);
+    TestPublisher publisher = new TestPublisher();
+    TestSubscriber subscriber = new TestSubscriber(1);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    publisher.emit(10, 0);
+    subscriber.subscription.cancel();
+    subscriber.request(10);
+    publisher.emit(10, 0);
+
+    assertTrue(publisher.cancelled);
+    assertEquals(List.of(0), subscriber.items);
+    assertEquals(1, subscriber.done.getCount());
+  }
+
+  @Test
+  @DisplayName("Non-positive requests are signalled as IllegalArgumentException")
+  void testProcessor_rejectsNonPositiveRequests() throws InterruptedException {
+    TransformationProcessor<Integer, Integer> processor = new TransformationProcessor<>(
+        item -> item, Runnable::run, 1, 1);
+    TestPublisher publisher = new TestPublisher();
+    TestSubscriber subscriber = new TestSubscriber(0);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    subscriber.request(0);
+
+    assertTrue(subscriber.await());
+    assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  @DisplayName("Only a single subscriber is accepted")
+  void testSubscribe_rejectsSecondSubscriber() throws InterruptedException {
+    TransformationProcessor<Integer, Integer> processor = new TransformationProcessor<>(
+        item -> item, Runnable::run, 1, 1);
+    processor.subscribe(new TestSubscriber(0));
+    TestSubscriber second = new TestSubscriber(0);
+
+    processor.subscribe(second);
+
+    assertTrue(second.await());
+    assertInstanceOf(IllegalStateException.class, second.error);
+  }
+
+  @Test
+  @DisplayName("Invalid parallelism and buffer sizes are rejected")
+  void testConstructor_rejectsInvalidSizes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new TransformationProcessor<>(item -> item, Runnable::run, 0, 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TransformationProcessor<>(item -> item, Runnable::run, 4, 2));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Publisher driven by the test, emitting consecutive integers only as far as requested.
+   */
+  private static final class TestPublisher implements Flow.Publisher<Integer> {
+
+    private final AtomicLong requested = new AtomicLong();
+    private volatile boolean cancelled;
+    private Flow.Subscriber<? super Integer> subscriber;
+    private int emitted;
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+      this.subscriber = subscriber;
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+          cancelled = true;
+        }
+      });
+    }
+
+    /**
+     * Emits items up to {@code limit}, waiting at most {@code timeoutMillis} for more demand.
+     */
+    private void emit(int limit, long timeoutMillis) {
+      long deadline = System.currentTimeMillis() + timeoutMillis;
+      while (emitted < limit && !cancelled) {
+        if (emitted < requested.get()) {
+          subscriber.onNext(emitted++);
+        } else if (System.currentTimeMillis() < deadline) {
+          sleep(1);
+        } else {
+          return;
+        }
+      }
+    }
+
+    private void complete() {
+      subscriber.onComplete();
+    }
+  }
+
+  private static final class TestSubscriber implements Flow.Subscriber<Object> {
+
+    private final List<Object> items = new CopyOnWriteArrayList<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final long initialRequest;
+    private volatile Throwable error;
+    private Flow.Subscription subscription;
+
+    private TestSubscriber(long initialRequest) {
+      this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (initialRequest > 0) {
+        subscription.request(initialRequest);
+      }
+    }
+
+    @Override
+    public void onNext(Object item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+      done.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      done.countDown();
+    }
+
+    private void request(long n) {
+      subscription.request(n);
+    }
+
+    private boolean await() throws InterruptedException {
+      return done.await(5, TimeUnit.SECONDS);
+    }
+  }
+}
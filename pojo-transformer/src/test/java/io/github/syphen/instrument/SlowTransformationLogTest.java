@@ -0,0 +1,143 @@
+package io.github.syphen.instrument;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.config.SlowTransformationLogConfig;
+import io.github.syphen.config.TransformationEngineType;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.test.TestApplication.Random1;
+import io.github.syphen.test.TestApplication.Random2;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.LoggerFactory;
+
+@DisplayName("SlowTransformationLog Unit Tests")
+class SlowTransformationLogTest {
+
+  private static final TransformationContext CONTEXT = TransformationContext.builder()
+      .defaultOperatorType("mask")
+      .nodeContext(NodeContext.builder().fieldName("root")
+          .transformFields(new NodeContext[]{
+              NodeContext.builder().fieldName("ipA").build(),
+              NodeContext.builder().fieldName("random1List").transformFields(new NodeContext[]{
+                  NodeContext.builder().fieldName("name").build()}).build()})
+          .build())
+      .build();
+
+  private static final Random2 INPUT = Random2.builder().ipA("ip")
+      .random1List(List.of(Random1.builder().name("a").build(),
+          Random1.builder().name("b").build(), Random1.builder().name("c").build()))
+      .build();
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(SlowTransformationLog.class);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    logger.addAppender(appender);
+    logger.setLevel(Level.WARN);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(appender);
+    logger.setLevel(null);
+  }
+
+  @ParameterizedTest
+  @EnumSource(TransformationEngineType.class)
+  @DisplayName("A slow profiled call is logged with the operator time of every field path")
+  void testCompleted_logsPerPathBreakdown(TransformationEngineType engineType) {
+    Transformer transformer = transformer(engineType, Duration.ZERO, 1);
+
+    Random2 result = transformer.transform(INPUT, CONTEXT);
+
+    assertEquals("***", result.getRandom1List().get(2).getName());
+    ILoggingEvent event = single();
+    assertThat(event.getFormattedMessage())
+        .startsWith("Slow transform of " + Random2.class.getName())
+        .contains("3 plan steps, 4 operator calls")
+        .contains("root.random1List[*].name -> mask: ")
+        .contains(" ms, 3 calls")
+        .contains("root.ipA -> mask: ");
+    assertThat(event.getKeyValuePairs()).extracting(pair -> pair.key)
+        .contains("durationMs", "operatorMs", "dominant", "paths");
+    Object dominant = event.getKeyValuePairs().stream()
+        .filter(pair -> pair.key.equals("dominant")).findFirst().orElseThrow().value;
+    assertThat(dominant).isIn("operators",
+        engineType == TransformationEngineType.TREE ? "tree round trip" : "pipeline");
+    assertThat(event.getFormattedMessage()).contains("(" + dominant
+        + (dominant.equals("operators") ? " dominate)" : " dominates)"));
+  }
+
+  @Test
+  @DisplayName("Time outside of operators of streaming calls is attributed to the pipeline")
+  void testCompleted_streamingCall_attributesRestToPipeline() {
+    Transformer transformer = transformer(TransformationEngineType.TREE, Duration.ZERO, 1);
+
+    transformer.transformBytes("{\"ipA\":\"ip\"}".getBytes(StandardCharsets.UTF_8),
+        Random2.class, CONTEXT);
+
+    assertThat(single().getKeyValuePairs()).filteredOn(pair -> pair.key.equals("dominant"))
+        .extracting(pair -> pair.value).first().isIn("operators", "pipeline");
+  }
+
+  @Test
+  @DisplayName("A slow call outside of the sample is logged without breakdown")
+  void testCompleted_logsTotalWhenNotSampled() {
+    Transformer transformer = transformer(TransformationEngineType.TREE, Duration.ZERO,
+        Integer.MAX_VALUE);
+
+    transformer.transform(INPUT, CONTEXT);
+
+    assertThat(single().getFormattedMessage()).contains("not sampled for a per path breakdown")
+        .doesNotContain("->");
+  }
+
+  @Test
+  @DisplayName("Calls under the threshold are not logged")
+  void testCompleted_ignoresFastCalls() {
+    Transformer transformer = transformer(TransformationEngineType.TREE, Duration.ofMinutes(1),
+        1);
+
+    transformer.transform(INPUT, CONTEXT);
+
+    assertThat(appender.list).isEmpty();
+    assertThat(TransformationProfile.current()).isNull();
+  }
+
+  private static Transformer transformer(TransformationEngineType engineType,
+      Duration threshold, int sampleInterval) {
+    return new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .engineType(engineType)
+        .slowTransformationLogConfig(SlowTransformationLogConfig.builder()
+            .enabled(true)
+            .threshold(threshold)
+            .sampleInterval(sampleInterval)
+            .build())
+        .build()).getTransformer();
+  }
+
+  private ILoggingEvent single() {
+    assertThat(appender.list).hasSize(1);
+    return appender.list.get(0);
+  }
+}
@@ -0,0 +1,96 @@
+package io.github.syphen.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.test.TestApplication.Random1;
+import io.github.syphen.test.TestApplication.Random2;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Flight Recorder Event Tests")
+class FlightRecorderEventsTest {
+
+  private static final TransformationContext CONTEXT = TransformationContext.builder()
+      .defaultOperatorType("mask")
+      .nodeContext(NodeContext.builder().fieldName("root")
+          .transformFields(new NodeContext[]{
+              NodeContext.builder().fieldName("ipA").build(),
+              NodeContext.builder().fieldName("random1").transformFields(new NodeContext[]{
+                  NodeContext.builder().fieldName("name").build()}).build()})
+          .build())
+      .build();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Transformations, schema cache misses and operator calls are recorded")
+  void testEvents_recordedWhenEnabled() throws Exception {
+    List<RecordedEvent> events = record(true);
+
+    RecordedEvent transformation = only(events, "io.github.syphen.Transformation");
+    assertEquals("transform", transformation.getString("operation"));
+    assertEquals(Random2.class.getName(), transformation.getClass("rootClass").getName());
+    assertEquals("root", transformation.getString("contextField"));
+    assertEquals("mask", transformation.getString("defaultOperator"));
+    assertEquals(3, transformation.getInt("planSteps"));
+    assertThat(events).filteredOn(event -> event.getEventType().getName()
+            .equals("io.github.syphen.SchemaCacheMiss"))
+        .extracting(event -> event.getClass("pojoClass").getName())
+        .contains(Random2.class.getName(), Random1.class.getName());
+    assertThat(events).filteredOn(event -> event.getEventType().getName()
+            .equals("io.github.syphen.SlowOperator"))
+        .extracting(event -> event.getString("operatorKey"))
+        .containsExactly("mask", "mask");
+  }
+
+  @Test
+  @DisplayName("Transformation, schema cache miss and operator events are not emitted unless "
+      + "configured")
+  void testEvents_disabledByDefault() throws Exception {
+    List<RecordedEvent> events = record(false);
+
+    assertThat(events).extracting(event -> event.getEventType().getName())
+        .doesNotContain("io.github.syphen.Transformation", "io.github.syphen.SchemaCacheMiss",
+            "io.github.syphen.SlowOperator");
+  }
+
+  private List<RecordedEvent> record(boolean flightRecorderEvents) throws Exception {
+    Transformer transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .flightRecorderEvents(flightRecorderEvents)
+        .build()).getTransformer();
+    Path file = tempDir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(TransformationEvent.class).withThreshold(Duration.ZERO);
+      recording.enable(SchemaCacheMissEvent.class);
+      recording.enable(SlowOperatorEvent.class).withThreshold(Duration.ZERO);
+      recording.start();
+      transformer.transform(Random2.builder().ipA("ip")
+          .random1(Random1.builder().name("name").build()).build(), CONTEXT);
+      recording.stop();
+      recording.dump(file);
+    }
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static RecordedEvent only(List<RecordedEvent> events, String name) {
+    List<RecordedEvent> matching = events.stream()
+        .filter(event -> event.getEventType().getName().equals(name)).toList();
+    assertThat(matching).hasSize(1);
+    return matching.get(0);
+  }
+}
@@ -0,0 +1,61 @@
+package io.github.syphen.jmx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CacheManagement Unit Tests")
+class CacheManagementTest {
+
+  @Test
+  @DisplayName("Statistics of the cache are exposed")
+  void testGetStatistics() {
+    Cache<Integer, Integer> cache = Caffeine.newBuilder().maximumSize(10).recordStats().build();
+    CacheManagement management = new CacheManagement(cache);
+
+    cache.get(1, key -> key);
+    cache.get(1, key -> key);
+    cache.get(2, key -> key);
+
+    assertEquals(2, management.getEstimatedSize());
+    assertEquals(1, management.getHitCount());
+    assertEquals(2, management.getMissCount());
+    assertEquals(2, management.getLoadCount());
+    assertEquals(1.0 / 3, management.getHitRate(), 1e-9);
+    assertEquals(10, management.getMaximumSize());
+  }
+
+  @Test
+  @DisplayName("The cache can be resized and cleared at runtime")
+  void testSetMaximumSizeAndClear() {
+    Cache<Integer, Integer> cache = Caffeine.newBuilder().maximumSize(100).executor(Runnable::run)
+        .build();
+    CacheManagement management = new CacheManagement(cache);
+    IntStream.range(0, 50).forEach(i -> cache.put(i, i));
+
+    management.setMaximumSize(10);
+    cache.cleanUp();
+
+    assertEquals(10, management.getMaximumSize());
+    assertEquals(10, management.getEstimatedSize());
+
+    management.clear();
+
+    assertEquals(0, management.getEstimatedSize());
+    assertThrows(IllegalArgumentException.class, () -> management.setMaximumSize(-1));
+  }
+
+  @Test
+  @DisplayName("Caches without a maximum size cannot be resized")
+  void testSetMaximumSize_unboundedCache() {
+    CacheManagement management = new CacheManagement(Caffeine.newBuilder().build());
+
+    assertEquals(-1, management.getMaximumSize());
+    assertThrows(UnsupportedOperationException.class, () -> management.setMaximumSize(5));
+  }
+}
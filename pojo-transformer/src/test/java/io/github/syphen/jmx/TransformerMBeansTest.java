@@ -0,0 +1,101 @@
+package io.github.syphen.jmx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.config.JmxConfig;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.test.TestApplication.Random1;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TransformerMBeans Unit Tests")
+class TransformerMBeansTest {
+
+  private MBeanServer server;
+
+  @BeforeEach
+  void setUp() {
+    server = MBeanServerFactory.newMBeanServer();
+  }
+
+  @Test
+  @DisplayName("The factory registers cache, registry and throughput MBeans when enabled")
+  void testRegister_exposesFactoryStatistics() throws Exception {
+    TransformerFactory factory = factory("orders");
+    Transformer transformer = factory.getTransformer();
+    TransformationContext context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{NodeContext.builder().fieldName("name").build()})
+            .build())
+        .build();
+
+    transformer.transform(Random1.builder().name("a").build(), context);
+    transformer.transform(Random1.builder().name("b").build(), context);
+
+    assertThat(factory.getTransformerMBeans().getObjectNames()).hasSize(5);
+    ObjectName statistics = name("TransformerStatistics", "orders");
+    assertEquals(2L, server.getAttribute(statistics, "TransformationCount"));
+    assertEquals(2L, server.getAttribute(statistics, "OperatorCallCount"));
+    ObjectName planCache = name("TransformationPlanCache", "orders");
+    assertEquals(1L, server.getAttribute(planCache, "HitCount"));
+    assertEquals(1L, server.getAttribute(name("PojoSchemaCache", "orders"), "LoadCount"));
+    assertEquals(0L, server.getAttribute(name("OperatorResultCache", "orders"), "EstimatedSize"));
+    assertThat((String[]) server.getAttribute(name("OperatorRegistry", "orders"),
+        "OperatorKeys")).contains("mask");
+
+    server.invoke(planCache, "clear", null, null);
+
+    assertEquals(0L, server.getAttribute(planCache, "EstimatedSize"));
+  }
+
+  @Test
+  @DisplayName("A second factory with the same name fails and unregistering frees the name")
+  void testRegister_rejectsDuplicateName() {
+    TransformerFactory factory = factory("shared");
+
+    DataTransformationException exception = assertThrows(DataTransformationException.class,
+        () -> factory("shared"));
+    assertEquals(ErrorCode.MANAGEMENT_REGISTRATION_ERROR.name(), exception.getCode());
+    // the MBeans of the first factory and the delegate of the server
+    assertEquals(6, server.getMBeanCount());
+
+    factory.getTransformerMBeans().unregister();
+
+    assertEquals(1, server.getMBeanCount());
+    assertThat(factory("shared").getTransformerMBeans().getObjectNames()).hasSize(5);
+  }
+
+  @Test
+  @DisplayName("No MBeans are registered by default")
+  void testRegister_disabledByDefault() {
+    TransformerFactory factory = new TransformerFactory("io.github.syphen.test");
+
+    assertNull(factory.getTransformerMBeans());
+  }
+
+  private TransformerFactory factory(String name) {
+    return new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .jmxConfig(JmxConfig.builder().enabled(true).name(name).server(server).build())
+        .build());
+  }
+
+  private static ObjectName name(String type, String name) throws Exception {
+    return new ObjectName("io.github.syphen:type=" + type + ",name=\"" + name + "\"");
+  }
+}
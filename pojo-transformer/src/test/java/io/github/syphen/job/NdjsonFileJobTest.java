@@ -0,0 +1,246 @@
+package io.github.syphen.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.syphen.Transformer;
+import io.github.syphen.TransformerFactory;
+import io.github.syphen.config.TransformerConfig;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.model.NodeContext;
+import io.github.syphen.model.TransformationContext;
+import io.github.syphen.test.TestApplication.Random1;
+import io.github.syphen.utils.MapperUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("NdjsonFileJob Unit Tests")
+class NdjsonFileJobTest {
+
+  private static Transformer transformer;
+  private static TransformationContext context;
+
+  @TempDir
+  Path tempDir;
+
+  private ExecutorService executor;
+
+  @BeforeAll
+  static void setUpTransformer() {
+    transformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.test"))
+        .build()).getTransformer();
+    context = TransformationContext.builder()
+        .defaultOperatorType("mask")
+        .nodeContext(NodeContext.builder().fieldName("root")
+            .transformFields(new NodeContext[]{NodeContext.builder().fieldName("name").build()})
+            .build())
+        .build();
+  }
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Lines are transformed in parallel chunks and written in the input order")
+  void testRun_transformsLinesInOrder() throws IOException {
+    List<String> lines = new ArrayList<>();
+    IntStream.range(0, 2000).forEach(i -> lines.add(line("name" + i, i)));
+    lines.set(10, "");
+    lines.set(20, line("x".repeat(1000), 20) + "\r");
+    Path input = Files.write(tempDir.resolve("input.ndjson"), lines);
+    Path output = tempDir.resolve("output.ndjson");
+
+    JobResult result = NdjsonFileJob.builder()
+        .transformer(transformer)
+        .pojoClass(Random1.class)
+        .transformationContext(context)
+        .chunkSize(256)
+        .parallelism(4)
+        .executor(executor)
+        .build()
+        .run(input, output);
+
+    List<String> expected = new ArrayList<>();
+    IntStream.range(0, 2000).forEach(i -> expected.add(line("***", i)));
+    expected.set(10, "");
+    assertEquals(expected, Files.readAllLines(output));
+    assertEquals(1999, result.getRecords());
+    assertEquals(Files.size(input), result.getInputBytes());
+    assertEquals(Files.size(output), result.getOutputBytes());
+  }
+
+  @Test
+  @DisplayName("The last line does not need a trailing new line")
+  void testRun_transformsLastLineWithoutNewLine() throws IOException {
+    Path input = Files.writeString(tempDir.resolve("input.ndjson"),
+        line("a", 1) + "\n" + line("b", 2));
+    Path output = tempDir.resolve("output.ndjson");
+
+    NdjsonFileJob.builder()
+        .transformer(transformer)
+        .pojoClass(Random1.class)
+        .transformationContext(context)
+        .build()
+        .run(input, output);
+
+    assertEquals(line("***", 1) + "\n" + line("***", 2) + "\n", Files.readString(output));
+  }
+
+  @Test
+  @DisplayName("Invalid records are recorded with their error code and left out of the output")
+  void testRun_recordsInvalidLines() throws IOException {
+    Path input = Files.write(tempDir.resolve("input.ndjson"),
+        List.of(line("a", 1), "{\"name\":", line("b", 2)));
+    Path output = tempDir.resolve("output.ndjson");
+
+    JobResult result = NdjsonFileJob.builder()
+        .transformer(transformer)
+        .pojoClass(Random1.class)
+        .transformationContext(context)
+        .executor(executor)
+        .build()
+        .run(input, output);
+
+    assertEquals(List.of(line("***", 1), line("***", 2)), Files.readAllLines(output));
+    assertEquals(2, result.getRecords());
+    assertEquals(1, result.getFailedRecords());
+    RecordError error = result.getErrors().get(0);
+    assertEquals(2, error.getLine());
+    assertEquals(line("a", 1).length() + 1, error.getOffset());
+    assertNotNull(error.getMessage());
+  }
+
+  @Test
+  @DisplayName("Records rejected by an operator keep the operator's error code and message")
+  void testRun_recordsOperatorErrorCode() throws IOException {
+    Transformer rejectingTransformer = new TransformerFactory(TransformerConfig.builder()
+        .operatorPackages(List.of("io.github.syphen.job.reject"))
+        .build()).getTransformer();
+    TransformationContext rejectingContext = TransformationContext.builder()
+        .defaultOperatorType("reject")
+        .nodeContext(context.getNodeContext())
+        .build();
+    Path input = Files.write(tempDir.resolve("input.ndjson"),
+        List.of(line("a", 1), line("reject", 2), line("b", 3)));
+    Path output = tempDir.resolve("output.ndjson");
+
+    JobResult result = NdjsonFileJob.builder()
+        .transformer(rejectingTransformer)
+        .pojoClass(Random1.class)
+        .transformationContext(rejectingContext)
+        .build()
+        .run(input, output);
+
+    assertEquals(List.of(line("a", 1), line("b", 3)), Files.readAllLines(output));
+    RecordError error = result.getErrors().get(0);
+    assertEquals(2, error.getLine());
+    assertEquals(ErrorCode.INVALID_INPUT_ERROR.name(), error.getCode());
+    assertEquals("Rejected value reject", error.getMessage());
+  }
+
+  @Test
+  @DisplayName("An interrupted job resumes from its checkpoint without redoing finished chunks")
+  void testRun_resumesFromCheckpoint() throws IOException {
+    List<String> lines = new ArrayList<>();
+    IntStream.range(0, 500).forEach(i -> lines.add(line("name" + i, i)));
+    lines.set(3, "not json");
+    lines.set(400, "not json");
+    Path input = Files.write(tempDir.resolve("input.ndjson"), lines);
+    Path output = tempDir.resolve("output.ndjson");
+    Path checkpointFile = tempDir.resolve("job.checkpoint");
+    AtomicInteger submitted = new AtomicInteger();
+    NdjsonFileJob.NdjsonFileJobBuilder job = NdjsonFileJob.builder()
+        .transformer(transformer)
+        .pojoClass(Random1.class)
+        .transformationContext(context)
+        .chunkSize(512)
+        .parallelism(2)
+        .checkpointFile(checkpointFile)
+        .checkpointInterval(Duration.ZERO);
+
+    Executor failingExecutor = task -> {
+      if (submitted.incrementAndGet() > 10) {
+        throw new RejectedExecutionException("evicted");
+      }
+      task.run();
+    };
+    assertThrows(DataTransformationException.class,
+        () -> job.executor(failingExecutor).build().run(input, output));
+
+    JobCheckpoint checkpoint = MapperUtil.getObjectMapper()
+        .readValue(checkpointFile.toFile(), JobCheckpoint.class);
+    assertTrue(checkpoint.getInputOffset() > 0);
+    assertEquals(checkpoint.getOutputPosition(), Files.size(output));
+    assertEquals(1, checkpoint.getFailedRecords());
+    Files.writeString(output, "partial garbage", StandardOpenOption.APPEND);
+
+    AtomicInteger resumed = new AtomicInteger();
+    JobResult result = job.executor(task -> {
+      resumed.incrementAndGet();
+      task.run();
+    }).build().run(input, output);
+
+    List<String> expected = new ArrayList<>();
+    IntStream.range(0, 500).filter(i -> i != 3 && i != 400)
+        .forEach(i -> expected.add(line("***", i)));
+    assertEquals(expected, Files.readAllLines(output));
+    assertEquals(498, result.getRecords());
+    assertEquals(List.of(4L, 401L), result.getErrors().stream().map(RecordError::getLine)
+        .toList());
+    assertTrue(resumed.get() < Files.size(input) / 512);
+    assertFalse(Files.exists(checkpointFile));
+  }
+
+  @Test
+  @DisplayName("A checkpoint of another input is rejected")
+  void testRun_rejectsMismatchingCheckpoint() throws IOException {
+    Path input = Files.write(tempDir.resolve("input.ndjson"), List.of(line("a", 1)));
+    Path checkpointFile = tempDir.resolve("job.checkpoint");
+    JobCheckpoint checkpoint = new JobCheckpoint();
+    checkpoint.setInputSize(1);
+    MapperUtil.getObjectMapper().writeValue(checkpointFile.toFile(), checkpoint);
+    NdjsonFileJob job = NdjsonFileJob.builder()
+        .transformer(transformer)
+        .pojoClass(Random1.class)
+        .transformationContext(context)
+        .checkpointFile(checkpointFile)
+        .build();
+
+    DataTransformationException exception = assertThrows(DataTransformationException.class,
+        () -> job.run(input, tempDir.resolve("output.ndjson")));
+    assertEquals(ErrorCode.INVALID_INPUT_ERROR.name(), exception.getCode());
+  }
+
+  private static String line(String name, int number) {
+    return "{\"name\":\"" + name + "\",\"number\":" + number + "}";
+  }
+}
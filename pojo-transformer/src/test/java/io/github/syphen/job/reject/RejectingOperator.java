@@ -0,0 +1,21 @@
+package io.github.syphen.job.reject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.syphen.annotation.RegisterOperator;
+import io.github.syphen.exception.DataTransformationException;
+import io.github.syphen.exception.ErrorCode;
+import io.github.syphen.operator.BaseOperator;
+import java.util.Map;
+
+@RegisterOperator("reject")
+public class RejectingOperator extends BaseOperator {
+
+  @Override
+  public JsonNode apply(JsonNode input, Class<?> inputClass) {
+    if (input != null && "reject".equals(input.asText())) {
+      throw DataTransformationException.error(ErrorCode.INVALID_INPUT_ERROR,
+          Map.of("detailMessage", "Rejected value " + input.asText()));
+    }
+    return input;
+  }
+}
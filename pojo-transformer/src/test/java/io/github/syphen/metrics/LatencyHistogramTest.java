@@ -0,0 +1,42 @@
+package io.github.syphen.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencyHistogram Unit Tests")
+class LatencyHistogramTest {
+
+  @Test
+  @DisplayName("Percentiles are the upper bound of their power of two bucket")
+  void testGetValueAtPercentile_returnsBucketUpperBound() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    IntStream.rangeClosed(1, 99).forEach(i -> histogram.record(100));
+    histogram.record(5_000);
+
+    assertEquals(100, histogram.getCount());
+    assertEquals(99 * 100 + 5_000, histogram.getTotalNanos());
+    assertEquals(5_000, histogram.getMaxNanos());
+    assertEquals(127, histogram.getValueAtPercentile(50));
+    assertEquals(127, histogram.getValueAtPercentile(99));
+    assertEquals(5_000, histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  @DisplayName("An empty histogram reports zero and negative durations count as zero")
+  void testRecord_emptyAndNegativeDurations() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    assertEquals(0, histogram.getValueAtPercentile(99));
+    assertEquals(0, histogram.getMeanNanos());
+
+    histogram.record(-5);
+
+    assertEquals(1, histogram.getCount());
+    assertEquals(0, histogram.getValueAtPercentile(50));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+  }
+}
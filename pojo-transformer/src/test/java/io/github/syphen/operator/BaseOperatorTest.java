@@ -0,0 +1,108 @@
+package io.github.syphen.operator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.github.syphen.cache.OperatorResultCache;
+import io.github.syphen.config.OperatorCacheConfig;
+import io.github.syphen.instrument.ProfiledOperator;
+import io.github.syphen.instrument.ProfiledStep;
+import io.github.syphen.jfr.EventEmittingOperator;
+import io.github.syphen.metrics.MeteredOperator;
+import io.github.syphen.metrics.RecordingTransformationMetrics;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BaseOperatorTest {
+
+  @Test
+  void testIsSpecialized_reportsOverriddenHooks() {
+    BaseOperator generic = new GenericOperator();
+    BaseOperator text = new TextOperator();
+    BaseOperator inherited = new TextOperator() {
+      @Override
+      public boolean applyBoolean(boolean input) {
+        return !input;
+      }
+    };
+
+    for (ScalarType scalarType : ScalarType.values()) {
+      assertFalse(generic.isSpecialized(scalarType));
+    }
+    assertTrue(text.isSpecialized(ScalarType.TEXT));
+    assertFalse(text.isSpecialized(ScalarType.LONG));
+    assertTrue(inherited.isSpecialized(ScalarType.TEXT));
+    assertTrue(inherited.isSpecialized(ScalarType.BOOLEAN));
+  }
+
+  @Test
+  void testDefaultHooks_delegateToApply() {
+    BaseOperator generic = new GenericOperator();
+    BaseOperator nulling = new BaseOperator() {
+      @Override
+      public JsonNode apply(JsonNode input, Class<?> inputClass) {
+        return NullNode.getInstance();
+      }
+    };
+
+    assertEquals("a", generic.applyText(new StringBuilder("a")));
+    assertEquals(7L, generic.applyLong(7L));
+    assertEquals(1.5, generic.applyDouble(1.5));
+    assertTrue(generic.applyBoolean(true));
+    assertNull(nulling.applyText("a"));
+    assertEquals(0L, nulling.applyLong(7L));
+    assertFalse(nulling.applyBoolean(true));
+  }
+
+  @Test
+  void testScalarTypeOf_mapsFieldTypes() {
+    assertEquals(ScalarType.TEXT, ScalarType.of(String.class));
+    assertEquals(ScalarType.LONG, ScalarType.of(int.class));
+    assertEquals(ScalarType.LONG, ScalarType.of(Long.class));
+    assertEquals(ScalarType.DOUBLE, ScalarType.of(float.class));
+    assertEquals(ScalarType.BOOLEAN, ScalarType.of(Boolean.class));
+    assertNull(ScalarType.of(short.class));
+    assertNull(ScalarType.of(Object.class));
+  }
+
+  @Test
+  void testWrappers_forwardHooksOfTheirDelegate() {
+    TextOperator text = new TextOperator();
+    RecordingTransformationMetrics metrics = new RecordingTransformationMetrics();
+    OperatorResultCache cache = new OperatorResultCache(OperatorCacheConfig.defaults());
+    BaseOperator wrapped = new MeteredOperator("text", new EventEmittingOperator("text",
+        new ProfiledOperator(new ProfiledStep("root.name", "text"), cache.wrap("text", text))),
+        metrics);
+
+    assertTrue(wrapped.isSpecialized(ScalarType.TEXT));
+    assertFalse(wrapped.isSpecialized(ScalarType.LONG));
+    assertEquals("A", wrapped.applyText("a"));
+    assertEquals("A", wrapped.applyText(new StringBuilder("a")));
+    assertEquals(1, text.calls.get());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(2, metrics.getOperators().get("text").getCount());
+  }
+
+  static class GenericOperator extends BaseOperator {
+
+    @Override
+    public JsonNode apply(JsonNode input, Class<?> inputClass) {
+      return input;
+    }
+  }
+
+  static class TextOperator extends GenericOperator {
+
+    final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public CharSequence applyText(CharSequence input) {
+      calls.incrementAndGet();
+      return input.toString().toUpperCase();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package io.github.syphen.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ExecutorUtil Unit Tests")
+class ExecutorUtilTest {
+
+  @Test
+  @DisplayName("Default async executor is shared and matches the runtime's thread support")
+  void testDefaultAsyncExecutor() throws Exception {
+    Executor executor = ExecutorUtil.defaultAsyncExecutor();
+    boolean virtualThreadsAvailable = Runtime.version().feature() >= 21;
+
+    Boolean virtual = CompletableFuture.supplyAsync(ExecutorUtilTest::isVirtualThread, executor)
+        .get();
+
+    assertSame(executor, ExecutorUtil.defaultAsyncExecutor());
+    assertEquals(virtualThreadsAvailable, virtual);
+    if (!virtualThreadsAvailable) {
+      assertSame(ForkJoinPool.commonPool(), executor);
+    }
+  }
+
+  private static boolean isVirtualThread() {
+    try {
+      return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+    } catch (ReflectiveOperationException e) {
+      return false;
+    }
+  }
+}
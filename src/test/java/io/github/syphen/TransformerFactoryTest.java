@@ -1,11 +0,0 @@
-package io.github.syphen;
-
-import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.junit.jupiter.MockitoExtension;
-
-@ExtendWith(MockitoExtension.class)
-@DisplayName("TransformerFactory Unit Tests")
-class TransformerFactoryTest {
-
-}
\ No newline at end of file